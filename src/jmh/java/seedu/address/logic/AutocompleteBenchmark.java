@@ -0,0 +1,66 @@
+package seedu.address.logic;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.testutil.GeneratedAddressBooks.generateAddressBook;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Aliases;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Benchmarks the completion of command words, aliases and names, which is run on every change to the command box
+ * and every press of TAB.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AutocompleteBenchmark {
+
+    @Param({"0", "10000"})
+    private int aliasCount;
+
+    @Param({"1000", "100000"})
+    private int personCount;
+
+    @Setup
+    public void setUp() {
+        Aliases aliases = UserPrefs.getInstance().getAliases();
+        for (int i = 0; i < aliasCount; i++) {
+            aliases.addAlias("alias" + i, ListCommand.COMMAND_WORD);
+        }
+        FieldValueCompletions.getInstance().setAddressBook(generateAddressBook(personCount));
+    }
+
+    @Benchmark
+    public String autocompleteCommandWord() {
+        return Autocomplete.autocompleteCommand("re");
+    }
+
+    @Benchmark
+    public String autocompleteAlias() {
+        return Autocomplete.autocompleteCommand("alias99");
+    }
+
+    @Benchmark
+    public Optional<String> autocompleteName() {
+        return Autocomplete.autocompleteFieldValue(PREFIX_NAME, "Alice");
+    }
+}
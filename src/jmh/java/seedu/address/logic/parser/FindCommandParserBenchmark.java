@@ -0,0 +1,76 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.testutil.GeneratedAddressBooks.generateAddressBook;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Benchmarks parsing {@code find} arguments, and finding the persons that match them in address books
+ * of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindCommandParserBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"Alice", "n/Hoon Tan p/8000", "t/friends", "a/Clementi e/example"})
+    private String arguments;
+
+    private final FindCommandParser parser = new FindCommandParser();
+    private Model model;
+
+    @Setup
+    public void setUp() throws Exception {
+        model = new ModelManager(generateAddressBook(size), new UserPrefs());
+        // builds the search index of the model, which is only built on the first search
+        find();
+    }
+
+    @Benchmark
+    public FindCommand parse() throws Exception {
+        return parser.parse(arguments);
+    }
+
+    /**
+     * Tests every person in the address book against the parsed predicate.
+     */
+    @Benchmark
+    public long parseAndTestAll() throws Exception {
+        Predicate<ReadOnlyPerson> predicate = parser.parse(arguments).getPredicate();
+        return model.getAddressBook().getPersonList().stream().filter(predicate).count();
+    }
+
+    /**
+     * Filters the person list of the model with the parsed predicate, the way {@code FindCommand} does.
+     */
+    @Benchmark
+    public int find() throws Exception {
+        model.updateFilteredPersonList(parser.parse(arguments).getPredicate());
+        return model.getFilteredPersonList().size();
+    }
+}
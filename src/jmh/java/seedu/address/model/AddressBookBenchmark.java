@@ -0,0 +1,51 @@
+package seedu.address.model;
+
+import static seedu.address.testutil.GeneratedAddressBooks.generateAddressBook;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@code AddressBook#resetData(ReadOnlyAddressBook)}, which is used when the address book is loaded
+ * and when it is cleared or replaced.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private AddressBook source;
+    private AddressBook target;
+
+    @Setup
+    public void setUp() {
+        source = generateAddressBook(size);
+        target = new AddressBook();
+    }
+
+    /**
+     * Replaces the data of an address book with the generated address book.
+     */
+    @Benchmark
+    public AddressBook resetData() {
+        target.resetData(source);
+        return target;
+    }
+}
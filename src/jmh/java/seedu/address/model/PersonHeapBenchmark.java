@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static seedu.address.testutil.GeneratedAddressBooks.generatePerson;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Measures the heap that an {@code AddressBook} retains per person, including the fields of the person,
+ * reported as the {@code bytesPerPerson} secondary result.
+ * The time taken is not meaningful, as the benchmark forces garbage collections to measure the heap.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1, time = 1)
+@Measurement(iterations = 3, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class PersonHeapBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int size;
+
+    /**
+     * The heap retained per person in the last invocation of the benchmark.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HeapCounters {
+        private long bytesPerPerson;
+
+        /**
+         * Clears the measurement of the previous iteration.
+         */
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerPerson = 0;
+        }
+
+        public long bytesPerPerson() {
+            return bytesPerPerson;
+        }
+    }
+
+    /**
+     * Fills an empty address book with generated persons, which are only referenced by the address book.
+     */
+    @Benchmark
+    public AddressBook addPersons(HeapCounters counters) throws DuplicatePersonException {
+        long heapBefore = getUsedHeap();
+        AddressBook addressBook = new AddressBook();
+        for (int id = 0; id < size; id++) {
+            addressBook.addPerson(generatePerson(id));
+        }
+        counters.bytesPerPerson = (getUsedHeap() - heapBefore) / size;
+        return addressBook;
+    }
+
+    /**
+     * Returns the heap used by reachable objects, after collecting garbage.
+     */
+    private static long getUsedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long usedHeap = Long.MAX_VALUE;
+        // collect until the used heap stops shrinking, as a single System.gc() may leave garbage behind
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            long newUsedHeap = runtime.totalMemory() - runtime.freeMemory();
+            if (newUsedHeap >= usedHeap) {
+                break;
+            }
+            usedHeap = newUsedHeap;
+        }
+        return usedHeap;
+    }
+}
@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import static seedu.address.testutil.GeneratedAddressBooks.generatePerson;
+import static seedu.address.testutil.GeneratedAddressBooks.generatePersons;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.UniquePersonList;
+import seedu.address.testutil.PersonBuilder;
+
+/**
+ * Benchmarks the operations of a {@code UniquePersonList} that the model performs for each command.
+ * Each operation is undone within the same invocation, so that the list keeps its size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private UniquePersonList persons;
+    private ReadOnlyPerson newPerson;
+    private ReadOnlyPerson target;
+    private ReadOnlyPerson editedTarget;
+
+    @Setup
+    public void setUp() throws Exception {
+        persons = new UniquePersonList();
+        persons.setPersons(generatePersons(size));
+        newPerson = generatePerson(size);
+        target = generatePerson(size / 2);
+        editedTarget = new PersonBuilder(target).withPhone("99999999").build();
+    }
+
+    /**
+     * Adds a new person to the end of the list and removes it again.
+     */
+    @Benchmark
+    public UniquePersonList addAndRemove() throws Exception {
+        persons.add(newPerson);
+        persons.remove(newPerson);
+        return persons;
+    }
+
+    /**
+     * Edits a person in the middle of the list and changes it back again.
+     */
+    @Benchmark
+    public UniquePersonList setPersonAndRevert() throws Exception {
+        persons.setPerson(target, editedTarget);
+        persons.setPerson(editedTarget, target);
+        return persons;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * Benchmarks the validation of each person field, which runs for every field of every person that is loaded
+ * and for every command that is parsed.
+ * The {@code *Regex} benchmarks match the same values against the validation regexes with
+ * {@code String#matches} for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FieldValidationBenchmark {
+
+    private String name = "Benson Meier 1234";
+    private String phone = "98765432";
+    private String email = "benson.meier_1234@example.com";
+    private String address = "311, Clementi Ave 2, #02-25";
+    private String tagName = "colleagues";
+
+    /**
+     * Validates a name.
+     */
+    @Benchmark
+    public boolean name() {
+        return Name.isValidName(name);
+    }
+
+    /**
+     * Matches a name against the name validation regex.
+     */
+    @Benchmark
+    public boolean nameRegex() {
+        return name.matches(Name.NAME_VALIDATION_REGEX);
+    }
+
+    /**
+     * Validates a phone number.
+     */
+    @Benchmark
+    public boolean phone() {
+        return Phone.isValidPhone(phone);
+    }
+
+    /**
+     * Matches a phone number against the phone validation regex.
+     */
+    @Benchmark
+    public boolean phoneRegex() {
+        return phone.matches(Phone.PHONE_VALIDATION_REGEX);
+    }
+
+    /**
+     * Validates an email.
+     */
+    @Benchmark
+    public boolean email() {
+        return Email.isValidEmail(email);
+    }
+
+    /**
+     * Matches an email against the email validation regex.
+     */
+    @Benchmark
+    public boolean emailRegex() {
+        return email.matches(Email.EMAIL_VALIDATION_REGEX);
+    }
+
+    /**
+     * Validates an address.
+     */
+    @Benchmark
+    public boolean address() {
+        return Address.isValidAddress(address);
+    }
+
+    /**
+     * Matches an address against the address validation regex.
+     */
+    @Benchmark
+    public boolean addressRegex() {
+        return address.matches(Address.ADDRESS_VALIDATION_REGEX);
+    }
+
+    /**
+     * Validates a tag name.
+     */
+    @Benchmark
+    public boolean tagName() {
+        return Tag.isValidTagName(tagName);
+    }
+
+    /**
+     * Matches a tag name against the tag validation regex.
+     */
+    @Benchmark
+    public boolean tagNameRegex() {
+        return tagName.matches(Tag.TAG_VALIDATION_REGEX);
+    }
+}
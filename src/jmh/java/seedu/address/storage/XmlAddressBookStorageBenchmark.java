@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static seedu.address.testutil.GeneratedAddressBooks.generateAddressBook;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Benchmarks reading and saving address books of different sizes with {@code XmlAddressBookStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private File folder;
+    private XmlAddressBookStorage readStorage;
+    private XmlAddressBookStorage saveStorage;
+    private AddressBook addressBook;
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("XmlAddressBookStorageBenchmark").toFile();
+        addressBook = generateAddressBook(size);
+        readStorage = new XmlAddressBookStorage(new File(folder, "read.xml").getPath());
+        readStorage.saveAddressBook(addressBook);
+        saveStorage = new XmlAddressBookStorage(new File(folder, "save.xml").getPath());
+    }
+
+    /**
+     * Deletes the files saved by the benchmark.
+     */
+    @TearDown
+    public void tearDown() {
+        for (File file : folder.listFiles()) {
+            file.delete();
+        }
+        folder.delete();
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook read() throws Exception {
+        return readStorage.readAddressBook().get();
+    }
+
+    /**
+     * Saves the generated address book, replacing the file saved by the previous invocation.
+     */
+    @Benchmark
+    public File save() throws IOException {
+        saveStorage.saveAddressBook(addressBook);
+        return folder;
+    }
+}
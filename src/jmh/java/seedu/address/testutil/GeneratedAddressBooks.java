@@ -0,0 +1,59 @@
+package seedu.address.testutil;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * Generates address books of any size with distinct, realistic-looking persons for the benchmarks.
+ * The same {@code id} always generates the same person.
+ */
+public class GeneratedAddressBooks {
+
+    private static final String[] FIRST_NAMES = {"Alice", "Benson", "Carl", "Daniel", "Elle", "Fiona", "George",
+        "Hoon", "Ida", "Jack", "Kim", "Lee", "Mei", "Nathan", "Olive", "Peter"};
+    private static final String[] LAST_NAMES = {"Pauline", "Meier", "Kurz", "Kunz", "Best", "Tan", "Lim", "Ng",
+        "Wong", "Chua", "Goh", "Ong"};
+    private static final String[] STREETS = {"Jurong West Ave 6", "Clementi Ave 2", "Tampines Street 81",
+        "Serangoon Gardens Street 4", "Ang Mo Kio Ave 10", "Little India"};
+    private static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "classmates"};
+
+    /**
+     * Returns the person with the given {@code id}.
+     */
+    public static ReadOnlyPerson generatePerson(int id) {
+        return new PersonBuilder()
+                .withName(FIRST_NAMES[id % FIRST_NAMES.length] + " "
+                        + LAST_NAMES[(id / FIRST_NAMES.length) % LAST_NAMES.length] + " " + id)
+                .withPhone(String.valueOf(80000000 + id))
+                .withEmail("person" + id + "@example.com")
+                .withAddress(id + ", " + STREETS[id % STREETS.length])
+                .withRemark(id % 3 == 0 ? "met at work" : "")
+                .withTags(TAGS[id % TAGS.length])
+                .build();
+    }
+
+    /**
+     * Returns the persons with ids from {@code 0} to {@code count - 1}.
+     */
+    public static List<ReadOnlyPerson> generatePersons(int count) {
+        List<ReadOnlyPerson> persons = new ArrayList<>(count);
+        for (int id = 0; id < count; id++) {
+            persons.add(generatePerson(id));
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book with the persons with ids from {@code 0} to {@code count - 1}.
+     */
+    public static AddressBook generateAddressBook(int count) {
+        AddressBookBuilder builder = new AddressBookBuilder();
+        for (int id = 0; id < count; id++) {
+            builder.withPerson(generatePerson(id));
+        }
+        return builder.build();
+    }
+}
@@ -1,9 +1,12 @@
 package seedu.address;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import com.google.common.eventbus.Subscribe;
 
@@ -18,15 +21,26 @@ import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Audio;
+import seedu.address.logic.AudioMixer;
+import seedu.address.logic.ConnectivityMonitor;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.MailDeliveryService;
+import seedu.address.logic.SpeechService;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.AddressBookStorageConverter;
+import seedu.address.storage.AvatarService;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.ImageStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
@@ -58,17 +72,24 @@ public class MainApp extends Application {
         super.init();
 
         config = initConfig(getApplicationParameter("config"));
+        // must be set before any handler is registered
+        EventsCenter.getInstance().setAsyncDispatchEnabled(config.isAsyncEventDispatchEnabled());
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = initStorage(config, userPrefs, userPrefsStorage);
 
         initLogging(config);
+        initSpeech(config);
+        // decodes the sounds of the ui before they are first played on the ui thread
+        Audio.prepare(Audio.TYPING_SOUND);
+        // starts probing the connection, so that the first command that needs it does not wait for a probe
+        ConnectivityMonitor.getInstance();
+        initMailDelivery(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, config);
 
         ui = new UiManager(logic, config, userPrefs);
 
@@ -80,6 +101,45 @@ public class MainApp extends Application {
         return applicationParameters.get(parameterName);
     }
 
+    /**
+     * Returns a {@code Storage} for the address book file in {@code userPrefs}, in the format set in
+     * {@code config}, which journals the changes to the address book if the journal is enabled in {@code config}.
+     * If the data file in the other format was modified more recently, it is imported.
+     */
+    private Storage initStorage(Config config, UserPrefs userPrefs, UserPrefsStorage userPrefsStorage) {
+        String xmlFilePath = userPrefs.getAddressBookFilePath();
+        String binaryFilePath = BinaryAddressBookStorage.toBinaryFilePath(xmlFilePath);
+        String format = config.getAddressBookFormat();
+
+        if (Config.ADDRESS_BOOK_FORMAT_BINARY.equalsIgnoreCase(format)) {
+            AddressBookStorage addressBookStorage = new BinaryAddressBookStorage(binaryFilePath,
+                    config.getBackupCount(), config.isLazyLoadingEnabled());
+            // the xml data file may have a journal left over from running with the journal enabled
+            try (JournaledAddressBookStorage xmlStorage = new JournaledAddressBookStorage(xmlFilePath,
+                    config.getJournalCompactionThreshold())) {
+                AddressBookStorageConverter.importIfNewer(xmlStorage, addressBookStorage);
+            } catch (IOException e) {
+                logger.warning("Failed to close journal of " + xmlFilePath + " : " + StringUtil.getDetails(e));
+            }
+            return new StorageManager(addressBookStorage, userPrefsStorage, config.getSaveDelay());
+        }
+        if (!Config.ADDRESS_BOOK_FORMAT_XML.equalsIgnoreCase(format)) {
+            logger.warning("Unknown address book format " + format + ". Using " + Config.ADDRESS_BOOK_FORMAT_XML);
+        }
+
+        if (config.isJournalEnabled()) {
+            AddressBookStorage addressBookStorage = new JournaledAddressBookStorage(xmlFilePath,
+                    config.getJournalCompactionThreshold(), config.getBackupCount());
+            AddressBookStorageConverter.importIfNewer(new BinaryAddressBookStorage(binaryFilePath),
+                    addressBookStorage);
+            // each change is only appended to the journal, so there is nothing to gain from holding it back
+            return new StorageManager(addressBookStorage, userPrefsStorage);
+        }
+        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(xmlFilePath, config.getBackupCount());
+        AddressBookStorageConverter.importIfNewer(new BinaryAddressBookStorage(binaryFilePath), addressBookStorage);
+        return new StorageManager(addressBookStorage, userPrefsStorage, config.getSaveDelay());
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +237,19 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
+    /**
+     * Enables text to speech according to {@code config}, and allocates the voice in the background if enabled.
+     */
+    private void initSpeech(Config config) {
+        SpeechService speechService = SpeechService.getInstance();
+        speechService.setEnabled(config.isTextToSpeechEnabled());
+        speechService.prepare();
+    }
+
+    private void initMailDelivery(Config config) {
+        MailDeliveryService.init(config.getMailOutboxFilePath());
+    }
+
     private void initEventsCenter() {
         EventsCenter.getInstance().registerHandler(this);
     }
@@ -191,15 +264,41 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        // pending events may still save the address book
+        EventsCenter.getInstance().shutdown();
+        SpeechService.getInstance().shutdown();
+        AudioMixer.getInstance().shutdown();
+        AvatarService.getInstance().shutdown();
+        MailDeliveryService.getInstance().shutdown();
+        ConnectivityMonitor.getInstance().shutdown();
+        removeUnreferencedAvatars();
+        storage.close();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        LogsCenter.shutdown();
         Platform.exit();
         System.exit(0);
     }
 
+    /**
+     * Removes the avatars that no longer belong to any person. Removed persons cannot be restored by undoing
+     * once the app stops, so their avatars are only removed then. Avatars of persons that can still be restored
+     * from a backup, or from the data file in the other format, are kept.
+     */
+    private void removeUnreferencedAvatars() {
+        Set<String> avatarNames = model.getAddressBook().getPersonList().stream()
+                .map(ReadOnlyPerson::getAvatar)
+                .filter(avatar -> avatar != null && avatar.value != null)
+                .map(avatar -> avatar.value)
+                .collect(Collectors.toSet());
+        File dataDirectory = new File(userPrefs.getAddressBookFilePath()).getAbsoluteFile().getParentFile();
+        avatarNames.addAll(ImageStorage.findAvatarNamesIn(dataDirectory));
+        ImageStorage.removeUnreferencedAvatars(avatarNames);
+    }
+
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
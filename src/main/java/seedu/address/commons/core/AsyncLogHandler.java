@@ -0,0 +1,186 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code Handler} that hands log records over to a background thread, which passes them on to the target handlers
+ * in batches and flushes the targets once per batch, so that logging does not wait for the console or the log file.
+ *
+ * Records are queued in a bounded {@link RingBuffer}. When it is full, records below {@link #BLOCKING_LEVEL} are
+ * dropped and counted, while records at or above it wait for room, so that warnings and errors are never lost.
+ * The parameters of a record are only formatted on the background thread, so they should not change after
+ * they are logged.
+ */
+class AsyncLogHandler extends Handler {
+
+    static final int MAX_BATCH_SIZE = 256;
+    static final Level BLOCKING_LEVEL = Level.WARNING;
+
+    private static final long IDLE_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+    private static final long MAX_WAIT_MILLIS = 5000;
+
+    private final RingBuffer<LogRecord> buffer;
+    private final List<Handler> targets;
+    private final Thread appender;
+    private final AtomicLong queuedCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private volatile long appendedCount;
+    private volatile boolean isAppenderWaiting;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that queues up to {@code capacity} records for {@code targets}, and starts its
+     * background thread.
+     *
+     * @throws IllegalArgumentException if {@code capacity} is not a positive power of two.
+     */
+    AsyncLogHandler(int capacity, Handler... targets) {
+        this.buffer = new RingBuffer<>(capacity);
+        this.targets = Arrays.asList(requireNonNull(targets));
+        appender = new Thread(this::appendUntilClosed, "Log appender");
+        appender.setDaemon(true);
+        appender.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the source of the record is found from the stack of the logging thread
+        record.getSourceClassName();
+
+        if (!buffer.offer(record) && !waitToOffer(record)) {
+            droppedCount.incrementAndGet();
+            return;
+        }
+        queuedCount.incrementAndGet();
+        if (isAppenderWaiting) {
+            LockSupport.unpark(appender);
+        }
+    }
+
+    /**
+     * Waits for room in the full buffer and queues {@code record} if it is at or above {@link #BLOCKING_LEVEL}.
+     * Returns false if the record should be dropped instead.
+     */
+    private boolean waitToOffer(LogRecord record) {
+        if (record.getLevel().intValue() < BLOCKING_LEVEL.intValue()) {
+            return false;
+        }
+        while (!isClosed) {
+            LockSupport.unpark(appender);
+            Thread.yield();
+            if (buffer.offer(record)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Waits until the records queued so far have been passed on to the target handlers and flushed,
+     * or until the handler is closed.
+     */
+    @Override
+    public void flush() {
+        long target = queuedCount.get();
+        long deadline = System.currentTimeMillis() + MAX_WAIT_MILLIS;
+        while (appendedCount < target && appender.isAlive() && System.currentTimeMillis() < deadline) {
+            LockSupport.unpark(appender);
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+    }
+
+    /**
+     * Passes the records that are still queued on to the target handlers and stops the background thread.
+     * Records published afterwards are ignored. The target handlers are flushed but left open.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        LockSupport.unpark(appender);
+        try {
+            appender.join(MAX_WAIT_MILLIS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Passes queued records on to the target handlers in batches until the handler is closed and
+     * the buffer is empty.
+     */
+    private void appendUntilClosed() {
+        List<LogRecord> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (!isClosed || !buffer.isEmpty()) {
+            LogRecord record;
+            while (batch.size() < MAX_BATCH_SIZE && (record = buffer.poll()) != null) {
+                batch.add(record);
+            }
+            if (batch.isEmpty()) {
+                waitForRecords();
+                continue;
+            }
+            append(batch);
+            appendedCount += batch.size();
+            batch.clear();
+        }
+    }
+
+    /**
+     * Parks the background thread until a record is queued, the handler is closed, or a short time has passed.
+     */
+    private void waitForRecords() {
+        isAppenderWaiting = true;
+        if (buffer.isEmpty() && !isClosed) {
+            LockSupport.parkNanos(this, IDLE_WAIT_NANOS);
+        }
+        isAppenderWaiting = false;
+    }
+
+    /**
+     * Publishes {@code batch} to every target handler, preceded by a warning if records have been dropped,
+     * and then flushes the targets.
+     */
+    private void append(List<LogRecord> batch) {
+        long dropped = droppedCount.getAndSet(0);
+        for (Handler target : targets) {
+            try {
+                if (dropped > 0) {
+                    target.publish(createDroppedRecord(dropped));
+                }
+                for (LogRecord record : batch) {
+                    target.publish(record);
+                }
+                target.flush();
+            } catch (RuntimeException re) {
+                reportError("Failed to write log records", re, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    /**
+     * Returns a record warning that {@code dropped} records have been dropped.
+     */
+    private static LogRecord createDroppedRecord(long dropped) {
+        LogRecord record = new LogRecord(Level.WARNING, dropped + " log records were dropped as logging fell behind");
+        record.setLoggerName(AsyncLogHandler.class.getSimpleName());
+        record.setSourceClassName(AsyncLogHandler.class.getName());
+        return record;
+    }
+}
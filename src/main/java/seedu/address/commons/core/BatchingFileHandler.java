@@ -0,0 +1,45 @@
+package seedu.address.commons.core;
+
+import java.io.IOException;
+import java.util.logging.FileHandler;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@code FileHandler} that can leave flushing to its caller, so that a batch of records is written to the file
+ * at once instead of one record at a time.
+ */
+class BatchingFileHandler extends FileHandler {
+
+    private volatile boolean isFlushDeferred;
+    // true while a record is being published, so that the flush after every record can be skipped
+    private boolean isPublishing;
+
+    BatchingFileHandler(String pattern, int limit, int count, boolean append) throws IOException {
+        super(pattern, limit, count, append);
+    }
+
+    /**
+     * Sets whether records are only written to the file when {@link #flush()} is called by the user of this handler.
+     */
+    void setFlushDeferred(boolean isFlushDeferred) {
+        this.isFlushDeferred = isFlushDeferred;
+    }
+
+    @Override
+    public synchronized void publish(LogRecord record) {
+        isPublishing = true;
+        try {
+            super.publish(record);
+        } finally {
+            isPublishing = false;
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if (isPublishing && isFlushDeferred) {
+            return;
+        }
+        super.flush();
+    }
+}
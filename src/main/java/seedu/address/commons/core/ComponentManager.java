@@ -18,8 +18,16 @@ public abstract class ComponentManager {
     }
 
     public ComponentManager(EventsCenter eventsCenter) {
+        this(eventsCenter, EventsCenter.Dispatch.DIRECT);
+    }
+
+    /**
+     * Uses {@code eventsCenter}, which delivers the events of this manager as set by {@code dispatch}
+     * when asynchronous dispatch is enabled.
+     */
+    public ComponentManager(EventsCenter eventsCenter, EventsCenter.Dispatch dispatch) {
         this.eventsCenter = eventsCenter;
-        eventsCenter.registerHandler(this);
+        eventsCenter.registerHandler(this, dispatch);
     }
 
     protected void raise(BaseEvent event) {
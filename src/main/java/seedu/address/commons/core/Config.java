@@ -9,11 +9,33 @@ import java.util.logging.Level;
 public class Config {
 
     public static final String DEFAULT_CONFIG_FILE = "config.json";
+    public static final int DEFAULT_UNDO_STACK_MAX_DEPTH = 100;
+    public static final int DEFAULT_UNDO_STACK_MAX_PERSONS = 100000;
+    public static final long DEFAULT_SAVE_DELAY = 500;
+    public static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1000;
+    public static final int DEFAULT_BACKUP_COUNT = 2;
+    public static final int DEFAULT_COMMAND_HISTORY_MAX_SIZE = 1000;
+    public static final String ADDRESS_BOOK_FORMAT_XML = "xml";
+    public static final String ADDRESS_BOOK_FORMAT_BINARY = "binary";
 
     // Config values customizable through config file
     private String appTitle = "Address App";
     private Level logLevel = Level.INFO;
     private String userPrefsFilePath = "preferences.json";
+    private int undoStackMaxDepth = DEFAULT_UNDO_STACK_MAX_DEPTH;
+    private int undoStackMaxPersons = DEFAULT_UNDO_STACK_MAX_PERSONS;
+    private long saveDelay = DEFAULT_SAVE_DELAY;
+    private boolean journalEnabled = false;
+    private int journalCompactionThreshold = DEFAULT_JOURNAL_COMPACTION_THRESHOLD;
+    private int backupCount = DEFAULT_BACKUP_COUNT;
+    private String addressBookFormat = ADDRESS_BOOK_FORMAT_XML;
+    private boolean lazyLoadingEnabled = false;
+    private boolean textToSpeechEnabled = true;
+    private boolean asyncEventDispatchEnabled = false;
+    private boolean asyncLoggingEnabled = false;
+    private String commandHistoryFilePath = "data/commandhistory.txt";
+    private int commandHistoryMaxSize = DEFAULT_COMMAND_HISTORY_MAX_SIZE;
+    private String mailOutboxFilePath = "data/outbox.json";
 
     public String getAppTitle() {
         return appTitle;
@@ -39,6 +61,156 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public int getUndoStackMaxDepth() {
+        return undoStackMaxDepth;
+    }
+
+    public void setUndoStackMaxDepth(int undoStackMaxDepth) {
+        this.undoStackMaxDepth = undoStackMaxDepth;
+    }
+
+    public int getUndoStackMaxPersons() {
+        return undoStackMaxPersons;
+    }
+
+    public void setUndoStackMaxPersons(int undoStackMaxPersons) {
+        this.undoStackMaxPersons = undoStackMaxPersons;
+    }
+
+    /**
+     * Returns the time in milliseconds that changes to the address book are held back and coalesced
+     * before being saved. Changes are saved immediately if this is not positive, or if the journal is enabled.
+     */
+    public long getSaveDelay() {
+        return saveDelay;
+    }
+
+    public void setSaveDelay(long saveDelay) {
+        this.saveDelay = saveDelay;
+    }
+
+    /**
+     * Returns true if changes to the address book are appended to a journal instead of rewriting the data file.
+     */
+    public boolean isJournalEnabled() {
+        return journalEnabled;
+    }
+
+    public void setJournalEnabled(boolean journalEnabled) {
+        this.journalEnabled = journalEnabled;
+    }
+
+    /**
+     * Returns the number of changes in the journal after which it is compacted into the data file.
+     */
+    public int getJournalCompactionThreshold() {
+        return journalCompactionThreshold;
+    }
+
+    public void setJournalCompactionThreshold(int journalCompactionThreshold) {
+        this.journalCompactionThreshold = journalCompactionThreshold;
+    }
+
+    /**
+     * Returns the number of previous versions of the address book data file that are kept as backups.
+     */
+    public int getBackupCount() {
+        return backupCount;
+    }
+
+    public void setBackupCount(int backupCount) {
+        this.backupCount = backupCount;
+    }
+
+    /**
+     * Returns the format of the address book data file, either {@value #ADDRESS_BOOK_FORMAT_XML} or
+     * {@value #ADDRESS_BOOK_FORMAT_BINARY}. The journal is only used with the xml format.
+     */
+    public String getAddressBookFormat() {
+        return addressBookFormat;
+    }
+
+    public void setAddressBookFormat(String addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
+    /**
+     * Returns true if persons are only read from the data file as they are accessed, which lets very large
+     * address books open quickly. Only used with the {@value #ADDRESS_BOOK_FORMAT_BINARY} format.
+     */
+    public boolean isLazyLoadingEnabled() {
+        return lazyLoadingEnabled;
+    }
+
+    public void setLazyLoadingEnabled(boolean lazyLoadingEnabled) {
+        this.lazyLoadingEnabled = lazyLoadingEnabled;
+    }
+
+    /**
+     * Returns true if the results of commands are read out loud.
+     */
+    public boolean isTextToSpeechEnabled() {
+        return textToSpeechEnabled;
+    }
+
+    public void setTextToSpeechEnabled(boolean textToSpeechEnabled) {
+        this.textToSpeechEnabled = textToSpeechEnabled;
+    }
+
+    /**
+     * Returns true if events are delivered to UI and storage handlers on their own threads,
+     * instead of on the thread that posts them.
+     */
+    public boolean isAsyncEventDispatchEnabled() {
+        return asyncEventDispatchEnabled;
+    }
+
+    public void setAsyncEventDispatchEnabled(boolean asyncEventDispatchEnabled) {
+        this.asyncEventDispatchEnabled = asyncEventDispatchEnabled;
+    }
+
+    /**
+     * Returns true if log records are written to the console and the log file by a background thread,
+     * instead of by the thread that logs them.
+     */
+    public boolean isAsyncLoggingEnabled() {
+        return asyncLoggingEnabled;
+    }
+
+    public void setAsyncLoggingEnabled(boolean asyncLoggingEnabled) {
+        this.asyncLoggingEnabled = asyncLoggingEnabled;
+    }
+
+    /**
+     * Returns the file that the command history is kept in across sessions, or null if it is only kept in memory.
+     */
+    public String getCommandHistoryFilePath() {
+        return commandHistoryFilePath;
+    }
+
+    public void setCommandHistoryFilePath(String commandHistoryFilePath) {
+        this.commandHistoryFilePath = commandHistoryFilePath;
+    }
+
+    public int getCommandHistoryMaxSize() {
+        return commandHistoryMaxSize;
+    }
+
+    public void setCommandHistoryMaxSize(int commandHistoryMaxSize) {
+        this.commandHistoryMaxSize = commandHistoryMaxSize;
+    }
+
+    /**
+     * Returns the file that emails are kept in until they are sent, or null if they are only kept in memory.
+     */
+    public String getMailOutboxFilePath() {
+        return mailOutboxFilePath;
+    }
+
+    public void setMailOutboxFilePath(String mailOutboxFilePath) {
+        this.mailOutboxFilePath = mailOutboxFilePath;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -52,12 +224,30 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && undoStackMaxDepth == o.undoStackMaxDepth
+                && undoStackMaxPersons == o.undoStackMaxPersons
+                && saveDelay == o.saveDelay
+                && journalEnabled == o.journalEnabled
+                && journalCompactionThreshold == o.journalCompactionThreshold
+                && backupCount == o.backupCount
+                && Objects.equals(addressBookFormat, o.addressBookFormat)
+                && lazyLoadingEnabled == o.lazyLoadingEnabled
+                && textToSpeechEnabled == o.textToSpeechEnabled
+                && asyncEventDispatchEnabled == o.asyncEventDispatchEnabled
+                && asyncLoggingEnabled == o.asyncLoggingEnabled
+                && Objects.equals(commandHistoryFilePath, o.commandHistoryFilePath)
+                && commandHistoryMaxSize == o.commandHistoryMaxSize
+                && Objects.equals(mailOutboxFilePath, o.mailOutboxFilePath);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, undoStackMaxDepth, undoStackMaxPersons,
+                saveDelay, journalEnabled, journalCompactionThreshold, backupCount,
+                addressBookFormat, lazyLoadingEnabled, textToSpeechEnabled, asyncEventDispatchEnabled,
+                asyncLoggingEnabled, commandHistoryFilePath, commandHistoryMaxSize,
+                mailOutboxFilePath);
     }
 
     @Override
@@ -1,20 +1,62 @@
 package seedu.address.commons.core;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.EventBus;
 
+import javafx.application.Platform;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * Events are delivered to all handlers on the posting thread by default. When asynchronous dispatch is enabled,
+ * handlers registered for {@link Dispatch#FX_THREAD} or {@link Dispatch#BACKGROUND} receive events on those
+ * threads instead, so that posting an event does not wait for them. Each of those threads receives events in the
+ * order they are posted.
  */
 public class EventsCenter {
+
+    /**
+     * Where the events of a handler are delivered when asynchronous dispatch is enabled.
+     */
+    public enum Dispatch {
+        /** On the thread that posts the event. */
+        DIRECT,
+        /** On the JavaFX application thread, for handlers that update the UI. */
+        FX_THREAD,
+        /** On a background thread, for handlers that do slow work such as saving files. */
+        BACKGROUND
+    }
+
+    public static final long SHUTDOWN_TIMEOUT_MILLIS = 5000;
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
+
     private final EventBus eventBus;
+    private final EventBus fxThreadEventBus = new EventBus("FX thread");
+    private final EventBus backgroundEventBus = new EventBus("background");
+    private final Executor fxThreadExecutor;
+    private ExecutorService backgroundExecutor;
+    private boolean isAsyncDispatchEnabled;
+    private boolean hasHandlers;
+    private boolean hasFxThreadHandlers;
+    private boolean hasBackgroundHandlers;
 
     private EventsCenter() {
+        this(Platform::runLater);
+    }
+
+    EventsCenter(Executor fxThreadExecutor) {
+        this.fxThreadExecutor = requireNonNull(fxThreadExecutor);
         eventBus = new EventBus();
     }
 
@@ -25,21 +67,101 @@ public class EventsCenter {
         return instance;
     }
 
+    /**
+     * Removes all handlers by replacing the instance, discarding events that are still waiting to be delivered.
+     */
     public static void clearSubscribers() {
+        if (instance != null && instance.backgroundExecutor != null) {
+            instance.backgroundExecutor.shutdownNow();
+        }
         instance = null;
     }
 
+    /**
+     * Enables or disables asynchronous dispatch.
+     *
+     * @throws IllegalStateException if handlers have already been registered, as they are registered according to
+     *     the dispatch mode.
+     */
+    public synchronized void setAsyncDispatchEnabled(boolean isAsyncDispatchEnabled) {
+        if (hasHandlers) {
+            throw new IllegalStateException("The dispatch mode must be set before handlers are registered");
+        }
+        this.isAsyncDispatchEnabled = isAsyncDispatchEnabled;
+        if (isAsyncDispatchEnabled && backgroundExecutor == null) {
+            backgroundExecutor = Executors.newSingleThreadExecutor(EventsCenter::createBackgroundThread);
+        }
+    }
+
+    /**
+     * Returns the thread that delivers events to {@link Dispatch#BACKGROUND} handlers.
+     */
+    private static Thread createBackgroundThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "Background event dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public boolean isAsyncDispatchEnabled() {
+        return isAsyncDispatchEnabled;
+    }
+
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        registerHandler(handler, Dispatch.DIRECT);
+    }
+
+    /**
+     * Registers {@code handler} to receive events as set by {@code dispatch} when asynchronous dispatch is enabled.
+     */
+    public synchronized void registerHandler(Object handler, Dispatch dispatch) {
+        hasHandlers = true;
+        if (!isAsyncDispatchEnabled || dispatch == Dispatch.DIRECT) {
+            eventBus.register(handler);
+        } else if (dispatch == Dispatch.FX_THREAD) {
+            fxThreadEventBus.register(handler);
+            hasFxThreadHandlers = true;
+        } else {
+            backgroundEventBus.register(handler);
+            hasBackgroundHandlers = true;
+        }
     }
 
     /**
      * Posts an event to the event bus.
+     * Background handlers receive a {@link BaseEvent#snapshot()} of the event, as the state it refers to
+     * may change before they handle it.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+        // the message is only built if it is logged
+        logger.log(Level.INFO, "------[Event Posted] {0}: {1}",
+                new Object[] {event.getClass().getCanonicalName(), event});
         eventBus.post(event);
+        if (hasFxThreadHandlers) {
+            fxThreadExecutor.execute(() -> fxThreadEventBus.post(event));
+        }
+        if (hasBackgroundHandlers) {
+            BaseEvent snapshot = event.snapshot();
+            backgroundExecutor.execute(() -> backgroundEventBus.post(snapshot));
+        }
         return this;
     }
 
+    /**
+     * Stops delivering events to background handlers, waiting for at most {@code SHUTDOWN_TIMEOUT_MILLIS} for the
+     * events that have already been posted to be delivered.
+     */
+    public void shutdown() {
+        if (backgroundExecutor == null) {
+            return;
+        }
+        backgroundExecutor.shutdown();
+        try {
+            if (!backgroundExecutor.awaitTermination(SHUTDOWN_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                logger.warning("Some events were not delivered to background handlers before shutting down");
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
 }
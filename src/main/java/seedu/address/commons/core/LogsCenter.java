@@ -1,10 +1,14 @@
 package seedu.address.commons.core;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.logging.ConsoleHandler;
-import java.util.logging.FileHandler;
 import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogManager;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,37 +20,67 @@ import seedu.address.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Records can instead be written by a background thread, see {@link #init(Config)}.
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final int ASYNC_BUFFER_CAPACITY = 8192;
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
+    private static BatchingFileHandler fileHandler;
     private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
      * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
      * Logging levels for existing loggers will only be updated if the logger with the same name
      * is requested again from the LogsCenter.
+     * If asynchronous logging is enabled in {@code config}, all loggers hand their records over to
+     * a background thread from then on, until {@link #shutdown()} is called.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
         logger.info("currentLogLevel: " + currentLogLevel);
+        if (config.isAsyncLoggingEnabled()) {
+            startAsyncLogging();
+        }
+    }
+
+    /**
+     * Writes out the records that are still waiting to be logged by the background thread, and makes all
+     * loggers write their records directly again. Does nothing if asynchronous logging is not enabled.
+     */
+    public static synchronized void shutdown() {
+        if (asyncHandler == null) {
+            return;
+        }
+        AsyncLogHandler stoppedHandler = asyncHandler;
+        asyncHandler = null;
+        replaceHandlers(stoppedHandler);
+        stoppedHandler.close();
+        if (fileHandler != null) {
+            fileHandler.setFlushDeferred(false);
+            fileHandler.flush();
+        }
     }
 
     /**
      * Creates a logger with the given name.
      */
-    public static Logger getLogger(String name) {
+    public static synchronized Logger getLogger(String name) {
         Logger logger = Logger.getLogger(name);
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        if (asyncHandler != null) {
+            logger.addHandler(asyncHandler);
+        } else {
+            addConsoleHandler(logger);
+            addFileHandler(logger);
+        }
 
         return Logger.getLogger(name);
     }
@@ -61,6 +95,46 @@ public class LogsCenter {
         return getLogger(clazz.getSimpleName());
     }
 
+    /**
+     * Makes all loggers hand their records over to an {@code AsyncLogHandler}, which writes them to
+     * the {@code consoleHandler} and the {@code fileHandler} in batches.
+     */
+    private static synchronized void startAsyncLogging() {
+        if (asyncHandler != null) {
+            return;
+        }
+        if (consoleHandler == null) {
+            consoleHandler = createConsoleHandler();
+        }
+        List<Handler> targets = new ArrayList<>(Collections.singletonList(consoleHandler));
+        try {
+            if (fileHandler == null) {
+                fileHandler = createFileHandler();
+            }
+            fileHandler.setFlushDeferred(true);
+            targets.add(fileHandler);
+        } catch (IOException e) {
+            logger.warning("Error adding file handler for logger.");
+        }
+
+        asyncHandler = new AsyncLogHandler(ASYNC_BUFFER_CAPACITY, targets.toArray(new Handler[0]));
+        asyncHandler.setLevel(currentLogLevel);
+        replaceHandlers(consoleHandler);
+    }
+
+    /**
+     * Replaces the handlers of every logger that has {@code replacedHandler} with the handlers that
+     * {@link #getLogger(String)} currently adds.
+     */
+    private static void replaceHandlers(Handler replacedHandler) {
+        for (String name : Collections.list(LogManager.getLogManager().getLoggerNames())) {
+            Logger existingLogger = LogManager.getLogManager().getLogger(name);
+            if (existingLogger != null && Arrays.asList(existingLogger.getHandlers()).contains(replacedHandler)) {
+                getLogger(name);
+            }
+        }
+    }
+
     /**
      * Adds the {@code consoleHandler} to the {@code logger}. <br>
      * Creates the {@code consoleHandler} if it is null.
@@ -101,8 +175,9 @@ public class LogsCenter {
      * Creates a {@code FileHandler} for the log file.
      * @throws IOException if there are problems opening the file.
      */
-    private static FileHandler createFileHandler() throws IOException {
-        FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
+    private static BatchingFileHandler createFileHandler() throws IOException {
+        BatchingFileHandler fileHandler = new BatchingFileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT,
+                true);
         fileHandler.setFormatter(new SimpleFormatter());
         fileHandler.setLevel(currentLogLevel);
         return fileHandler;
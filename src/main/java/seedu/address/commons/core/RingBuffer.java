@@ -0,0 +1,87 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded queue that threads can add to and take from concurrently without locking.
+ *
+ * Each slot carries a sequence number that tells whether it is ready to be written at the current tail position
+ * or read at the current head position, so that threads only compete on the tail or head counter.
+ */
+class RingBuffer<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong head = new AtomicLong();
+
+    /**
+     * Creates a ring buffer with room for {@code capacity} elements.
+     *
+     * @throws IllegalArgumentException if {@code capacity} is not a positive power of two.
+     */
+    RingBuffer(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Capacity must be a positive power of two: " + capacity);
+        }
+        mask = capacity - 1;
+        elements = new AtomicReferenceArray<>(capacity);
+        sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds {@code element} at the tail, returning false without adding it if the buffer is full.
+     */
+    boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - position;
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.set(index, element);
+                    // publishes the element to readers
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (difference < 0) {
+                // the slot still holds an element from one round ago
+                return false;
+            }
+            position = tail.get();
+        }
+    }
+
+    /**
+     * Removes and returns the element at the head, or returns null if the buffer is empty.
+     */
+    E poll() {
+        long position = head.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long difference = sequences.get(index) - (position + 1);
+            if (difference == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    E element = elements.get(index);
+                    elements.set(index, null);
+                    // frees the slot for the writer one round later
+                    sequences.set(index, position + mask + 1);
+                    return element;
+                }
+            } else if (difference < 0) {
+                return null;
+            }
+            position = head.get();
+        }
+    }
+
+    boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+}
@@ -13,4 +13,12 @@ public abstract class BaseEvent {
      */
     public abstract String toString();
 
+    /**
+     * Returns this event with the state it refers to captured as it is now, so that the event can be handled on
+     * another thread while that state keeps changing. Events that refer to no changing state return themselves.
+     */
+    public BaseEvent snapshot() {
+        return this;
+    }
+
 }
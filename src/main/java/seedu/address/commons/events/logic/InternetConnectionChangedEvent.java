@@ -0,0 +1,21 @@
+package seedu.address.commons.events.logic;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that the app has been found to be connected to, or disconnected from, the Internet
+ */
+public class InternetConnectionChangedEvent extends BaseEvent {
+
+    public final boolean isConnected;
+
+    public InternetConnectionChangedEvent(boolean isConnected) {
+        this.isConnected = isConnected;
+    }
+
+    @Override
+    public String toString() {
+        return isConnected ? "Connected to the Internet" : "Disconnected from the Internet";
+    }
+
+}
@@ -1,15 +1,28 @@
 package seedu.address.commons.events.model;
 
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.AddressBookSnapshot;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /** Indicates the AddressBook in the model has changed*/
 public class AddressBookChangedEvent extends BaseEvent {
 
     public final ReadOnlyAddressBook data;
+    public final AddressBookChange change;
 
     public AddressBookChangedEvent(ReadOnlyAddressBook data) {
+        this(data, AddressBookChange.reset());
+    }
+
+    public AddressBookChangedEvent(ReadOnlyAddressBook data, AddressBookChange change) {
         this.data = data;
+        this.change = change;
+    }
+
+    @Override
+    public AddressBookChangedEvent snapshot() {
+        return new AddressBookChangedEvent(AddressBookSnapshot.of(data), change);
     }
 
     @Override
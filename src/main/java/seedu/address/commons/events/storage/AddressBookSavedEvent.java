@@ -0,0 +1,21 @@
+package seedu.address.commons.events.storage;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Indicates that the AddressBook has been written to the hard disk
+ */
+public class AddressBookSavedEvent extends BaseEvent {
+
+    public final String filePath;
+
+    public AddressBookSavedEvent(String filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public String toString() {
+        return "address book saved to " + filePath;
+    }
+
+}
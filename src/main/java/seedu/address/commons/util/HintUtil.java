@@ -89,6 +89,42 @@ public class HintUtil {
     }
 
 
+    /**
+     * returns the prefix in the list of {@code prefixes} provided whose value is being typed,
+     * if the given {@code arguments} ends with a prefix followed by part of a value (ie n/Ali).
+     *
+     * If no value is being typed, we return an empty optional.
+     */
+    public static Optional<Prefix> findPrefixOfValueBeingTyped(String arguments, List<Prefix> prefixes) {
+        if (arguments.isEmpty() || Character.isWhitespace(arguments.charAt(arguments.length() - 1))) {
+            return Optional.empty();
+        }
+
+        Prefix lastPrefix = null;
+        int lastPrefixPosition = -1;
+        for (Prefix p : prefixes) {
+            int position = arguments.lastIndexOf(" " + p.getPrefix());
+            if (position > lastPrefixPosition) {
+                lastPrefix = p;
+                lastPrefixPosition = position;
+            }
+        }
+
+        if (lastPrefix == null || getValueBeingTyped(arguments, lastPrefix).isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(lastPrefix);
+    }
+
+    /**
+     * returns the part of the value typed after the last occurrence of {@code prefix} in {@code arguments}
+     */
+    public static String getValueBeingTyped(String arguments, Prefix prefix) {
+        String prefixWithSpace = " " + prefix.getPrefix();
+        return arguments.substring(arguments.lastIndexOf(prefixWithSpace) + prefixWithSpace.length());
+    }
+
+
     /**
      * returns prefix that is not present in {@code arguments}
      * but listed in {@code prefixes} provided.
@@ -0,0 +1,262 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+/**
+ * A set of words, each with a weight, that returns the words starting with a given prefix in order of
+ * decreasing weight and then alphabetically.
+ *
+ * Each node keeps the best ranked word below it, so the best completion of a prefix is found in time
+ * proportional to the length of the prefix, and further completions are found without visiting the
+ * words that are ranked lower than them.
+ * A word added several times has the sum of the weights it was added with, and is removed once its weight
+ * drops to zero. A case-insensitive trie completes words regardless of case, to the form in which each
+ * word was first added.
+ */
+public class PrefixTrie {
+
+    private static final Comparator<Node> RANKING = Comparator.<Node>comparingLong(node -> -node.weight)
+            .thenComparing(node -> node.word);
+
+    private final boolean isCaseSensitive;
+    private Node root = new Node(0);
+    private int size;
+
+    public PrefixTrie(boolean isCaseSensitive) {
+        this.isCaseSensitive = isCaseSensitive;
+    }
+
+    /**
+     * Adds {@code weight} to the weight of {@code word}, adding the word if it is not in the trie.
+     *
+     * @throws IllegalArgumentException if {@code weight} is not positive.
+     */
+    public synchronized void add(String word, long weight) {
+        requireNonNull(word);
+        if (weight <= 0) {
+            throw new IllegalArgumentException("Weight must be positive: " + weight);
+        }
+        String key = toKey(word);
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            node = node.children.computeIfAbsent(key.charAt(i), unused -> new Node(path.size()));
+            path.add(node);
+        }
+        if (node.weight == 0) {
+            node.word = word;
+            size++;
+        }
+        node.weight += weight;
+        updateBest(path);
+    }
+
+    /**
+     * Adds {@code word} with a weight of 1.
+     */
+    public void add(String word) {
+        add(word, 1);
+    }
+
+    /**
+     * Subtracts {@code weight} from the weight of {@code word}, removing the word once its weight is not positive.
+     * Does nothing if the word is not in the trie.
+     */
+    public synchronized void remove(String word, long weight) {
+        requireNonNull(word);
+        String key = toKey(word);
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+            path.add(node);
+        }
+        if (node == null || node.weight == 0) {
+            return;
+        }
+        node.weight -= weight;
+        if (node.weight <= 0) {
+            node.weight = 0;
+            node.word = null;
+            size--;
+            removeEmptyNodes(path, key);
+        }
+        updateBest(path);
+    }
+
+    /**
+     * Removes {@code word} with a weight of 1.
+     */
+    public void remove(String word) {
+        remove(word, 1);
+    }
+
+    /**
+     * Removes all words from the trie.
+     */
+    public synchronized void clear() {
+        root = new Node(0);
+        size = 0;
+    }
+
+    /**
+     * Returns the number of words in the trie.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if {@code word} is in the trie.
+     */
+    public synchronized boolean contains(String word) {
+        Node node = find(toKey(requireNonNull(word)));
+        return node != null && node.weight > 0;
+    }
+
+    /**
+     * Returns the best ranked word that starts with {@code prefix}, or {@code Optional.empty()} if there is none.
+     */
+    public synchronized Optional<String> complete(String prefix) {
+        Node node = find(toKey(requireNonNull(prefix)));
+        return node == null || node.best == null ? Optional.empty() : Optional.of(node.best.word);
+    }
+
+    /**
+     * Returns up to {@code limit} words that start with {@code prefix}, from the best ranked onwards.
+     */
+    public synchronized List<String> complete(String prefix, int limit) {
+        Node start = find(toKey(requireNonNull(prefix)));
+        if (start == null || start.best == null || limit <= 0) {
+            return Collections.emptyList();
+        }
+
+        // each candidate is either a whole subtree, ranked by its best word, or a single word
+        PriorityQueue<Candidate> candidates =
+                new PriorityQueue<>(Comparator.comparing(Candidate::getBest, RANKING));
+        candidates.add(new Candidate(start, false));
+        List<String> completions = new ArrayList<>();
+        while (completions.size() < limit && !candidates.isEmpty()) {
+            Candidate candidate = candidates.poll();
+            Node best = candidate.getBest();
+            completions.add(best.word);
+            if (!candidate.isWordOnly) {
+                addRemainingCandidates(candidate.node, best, candidates);
+            }
+        }
+        return completions;
+    }
+
+    /**
+     * Adds the words below {@code subtree} other than {@code best} to {@code candidates}, by splitting
+     * the subtree along the path to {@code best}.
+     */
+    private void addRemainingCandidates(Node subtree, Node best, PriorityQueue<Candidate> candidates) {
+        String bestKey = toKey(best.word);
+        Node node = subtree;
+        while (node != best) {
+            Node next = node.children.get(bestKey.charAt(node.depth));
+            if (node.weight > 0) {
+                candidates.add(new Candidate(node, true));
+            }
+            for (Node child : node.children.values()) {
+                if (child != next) {
+                    candidates.add(new Candidate(child, false));
+                }
+            }
+            node = next;
+        }
+        for (Node child : best.children.values()) {
+            candidates.add(new Candidate(child, false));
+        }
+    }
+
+    /**
+     * Returns the node for {@code key}, or null if no word starts with it.
+     */
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Removes the nodes at the end of {@code path} that no longer lead to any word.
+     */
+    private static void removeEmptyNodes(List<Node> path, String key) {
+        for (int i = path.size() - 1; i > 0; i--) {
+            Node node = path.get(i);
+            if (node.weight > 0 || !node.children.isEmpty()) {
+                return;
+            }
+            path.get(i - 1).children.remove(key.charAt(i - 1));
+        }
+    }
+
+    /**
+     * Recomputes the best ranked word below each node of {@code path}, from the deepest node up to the root.
+     */
+    private static void updateBest(List<Node> path) {
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node node = path.get(i);
+            Node best = node.weight > 0 ? node : null;
+            for (Node child : node.children.values()) {
+                if (child.best != null && (best == null || RANKING.compare(child.best, best) < 0)) {
+                    best = child.best;
+                }
+            }
+            node.best = best;
+        }
+    }
+
+    private String toKey(String word) {
+        return isCaseSensitive ? word : word.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A node of the trie. A node ends a word if its weight is positive.
+     */
+    private static class Node {
+        private final int depth;
+        private final Map<Character, Node> children = new HashMap<>();
+        private String word;
+        private long weight;
+        // the best ranked node below this one, including itself, that ends a word
+        private Node best;
+
+        Node(int depth) {
+            this.depth = depth;
+        }
+    }
+
+    /**
+     * A subtree of words, or only the word of its root node, that has yet to be returned as a completion.
+     */
+    private static class Candidate {
+        private final Node node;
+        private final boolean isWordOnly;
+
+        Candidate(Node node, boolean isWordOnly) {
+            this.node = node;
+            this.isWordOnly = isWordOnly;
+        }
+
+        Node getBest() {
+            return isWordOnly ? node : node.best;
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.commons.util;
+
+/**
+ * Allocation-free checks of the character classes used in field validation regexes.
+ *
+ * Field values are validated for every person when the address book is loaded and on every command that is
+ * parsed, so the fields check their values with these scanners instead of {@code String#matches}, which
+ * compiles the regex on every call. Each scanner must accept exactly the values that its regex matches.
+ */
+public class ValidationUtil {
+
+    /**
+     * Returns true if {@code c} is in the regex class {@code \p{Alnum}}, i.e. an ASCII letter or digit.
+     */
+    public static boolean isAlphanumeric(char c) {
+        return isDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    /**
+     * Returns true if {@code test} consists of one or more characters that are in the regex class
+     * {@code \p{Alnum}}, i.e. if {@code test} matches {@code \p{Alnum}+}.
+     */
+    public static boolean isAlphanumeric(String test) {
+        if (test.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isAlphanumeric(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is in the regex class {@code \d}, i.e. an ASCII digit.
+     */
+    public static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is in the regex class {@code \w}, i.e. an ASCII letter, digit or underscore.
+     */
+    public static boolean isWordCharacter(char c) {
+        return isAlphanumeric(c) || c == '_';
+    }
+
+    /**
+     * Returns true if {@code c} is in the regex class {@code \s}.
+     */
+    public static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns true if {@code c} is a line terminator, which the regex {@code .} does not match.
+     */
+    public static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+}
@@ -4,6 +4,8 @@ import static java.util.Objects.requireNonNull;
 
 import java.io.File;
 import java.io.FileNotFoundException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -15,6 +17,25 @@ import javax.xml.bind.Unmarshaller;
  */
 public class XmlUtil {
 
+    // creating a context is expensive, while a context can be shared by all threads
+    private static final Map<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the {@code JAXBContext} for {@code classToBeBound}, creating it on first use.
+     *
+     * @throws JAXBException Thrown if the context cannot be created.
+     */
+    public static JAXBContext getContext(Class<?> classToBeBound) throws JAXBException {
+        requireNonNull(classToBeBound);
+
+        JAXBContext context = contexts.get(classToBeBound);
+        if (context == null) {
+            context = JAXBContext.newInstance(classToBeBound);
+            contexts.putIfAbsent(classToBeBound, context);
+        }
+        return context;
+    }
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -36,8 +57,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
 
         return ((T) um.unmarshal(file));
     }
@@ -60,8 +80,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file);
@@ -1,45 +1,34 @@
 package seedu.address.logic;
 
-import java.io.BufferedInputStream;
-import java.io.IOException;
-import java.net.URL;
-import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
-
-import javazoom.jl.decoder.JavaLayerException;
-import javazoom.jl.player.Player;
-
 //@@author hanselblack
 /**
  * Common class to play audio file such as mp3 file etc.
  */
 public class Audio {
 
+    public static final String TYPING_SOUND = "audio/typing.mp3";
+
     private String audioFileName;
-    private Player player;
 
     public Audio(String audioFileName) {
         this.audioFileName = audioFileName;
     }
 
+    /**
+     * Decodes the given audio files in the background, so that they can be played right away when first needed.
+     */
+    public static void prepare(String... audioFileNames) {
+        for (String audioFileName : audioFileNames) {
+            AudioClip.prepare(audioFileName);
+        }
+    }
+
     /**
      * Plays audio file, returns void
      */
     public void playSound() {
-        URL url = this.getClass().getClassLoader().getResource(audioFileName);
-        //Async, by creating a single thread to prevent freezing on UI (main) thread
-        Executor executor = Executors.newSingleThreadExecutor();
-        executor.execute(() -> {
-            try {
-                BufferedInputStream in = new BufferedInputStream(url.openStream());
-                player = new Player(in);
-                player.play();
-                in.close();
-            } catch (IOException e) {
-                e.printStackTrace();
-            } catch (JavaLayerException e) {
-                e.printStackTrace();
-            }
-        });
+        //Async, the clip is decoded once in the background and mixed on the audio mixer's thread
+        //to prevent freezing on UI thread. A clip that is still being decoded is played once it is decoded.
+        AudioClip.prepare(audioFileName).thenAccept(clip -> clip.ifPresent(AudioMixer.getInstance()::play));
     }
 }
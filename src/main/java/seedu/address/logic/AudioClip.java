@@ -0,0 +1,158 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import javazoom.jl.decoder.Bitstream;
+import javazoom.jl.decoder.Decoder;
+import javazoom.jl.decoder.Header;
+import javazoom.jl.decoder.JavaLayerException;
+import javazoom.jl.decoder.SampleBuffer;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * A short sound decoded into 16-bit stereo samples at {@link AudioMixer#SAMPLE_RATE}, so that it can be played
+ * by the {@link AudioMixer} any number of times without being decoded again.
+ */
+public class AudioClip {
+
+    private static final Logger logger = LogsCenter.getLogger(AudioClip.class);
+
+    // clips decoded or being decoded from resources, by resource name
+    private static final Map<String, CompletableFuture<Optional<AudioClip>>> cache = new ConcurrentHashMap<>();
+    // decodes clips in the background, its thread ends when there is nothing left to decode
+    private static final Executor decodingExecutor = new ThreadPoolExecutor(0, 1, 1, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), AudioClip::createWorkerThread);
+
+    // interleaved left and right samples
+    private final short[] samples;
+
+    AudioClip(short[] samples) {
+        this.samples = requireNonNull(samples);
+    }
+
+    /**
+     * Returns the thread that decodes clips.
+     */
+    private static Thread createWorkerThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "Audio clip decoder");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Returns the clip in the mp3 resource {@code resourceName}, waiting for it to be decoded if this is the first
+     * time it is requested. Returns {@code Optional.empty()} if the resource cannot be decoded.
+     */
+    public static Optional<AudioClip> getClip(String resourceName) {
+        return prepare(resourceName).join();
+    }
+
+    /**
+     * Starts decoding the mp3 resource {@code resourceName} in the background if this is the first time it is
+     * requested, and returns the clip that will be decoded. Returns immediately.
+     */
+    public static CompletableFuture<Optional<AudioClip>> prepare(String resourceName) {
+        requireNonNull(resourceName);
+        return cache.computeIfAbsent(resourceName, name ->
+                CompletableFuture.supplyAsync(() -> decodeResource(name), decodingExecutor));
+    }
+
+    /**
+     * Decodes the mp3 resource {@code resourceName}, returning {@code Optional.empty()} if it cannot be decoded.
+     */
+    private static Optional<AudioClip> decodeResource(String resourceName) {
+        InputStream in = AudioClip.class.getClassLoader().getResourceAsStream(resourceName);
+        if (in == null) {
+            logger.warning("Audio resource " + resourceName + " cannot be found");
+            return Optional.empty();
+        }
+        try (InputStream mp3 = new BufferedInputStream(in)) {
+            return Optional.of(decode(mp3));
+        } catch (IOException ioe) {
+            logger.warning("Audio resource " + resourceName + " cannot be decoded: " + ioe.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Decodes the mp3 data in {@code mp3}.
+     *
+     * @throws IOException if the data cannot be read or is not valid mp3 data.
+     */
+    public static AudioClip decode(InputStream mp3) throws IOException {
+        Bitstream bitstream = new Bitstream(mp3);
+        Decoder decoder = new Decoder();
+        short[] decoded = new short[0];
+        int length = 0;
+        try {
+            Header header;
+            while ((header = bitstream.readFrame()) != null) {
+                SampleBuffer frame = (SampleBuffer) decoder.decodeFrame(header, bitstream);
+                if (length + frame.getBufferLength() > decoded.length) {
+                    decoded = Arrays.copyOf(decoded, Math.max(decoded.length * 2, length + frame.getBufferLength()));
+                }
+                System.arraycopy(frame.getBuffer(), 0, decoded, length, frame.getBufferLength());
+                length += frame.getBufferLength();
+                bitstream.closeFrame();
+            }
+        } catch (JavaLayerException jle) {
+            throw new IOException(jle);
+        }
+        if (length == 0) {
+            return new AudioClip(new short[0]);
+        }
+        return new AudioClip(toMixerFormat(Arrays.copyOf(decoded, length), decoder.getOutputChannels(),
+                decoder.getOutputFrequency()));
+    }
+
+    /**
+     * Converts {@code samples} with the given number of channels and sample rate into stereo samples at
+     * {@link AudioMixer#SAMPLE_RATE}, using linear interpolation.
+     */
+    static short[] toMixerFormat(short[] samples, int channels, int sampleRate) {
+        int frameCount = samples.length / channels;
+        int mixerFrameCount = (int) ((long) frameCount * AudioMixer.SAMPLE_RATE / sampleRate);
+        short[] converted = new short[mixerFrameCount * AudioMixer.CHANNELS];
+        for (int frame = 0; frame < mixerFrameCount; frame++) {
+            double position = (double) frame * sampleRate / AudioMixer.SAMPLE_RATE;
+            int before = (int) position;
+            int after = Math.min(before + 1, frameCount - 1);
+            double fraction = position - before;
+            for (int channel = 0; channel < AudioMixer.CHANNELS; channel++) {
+                int sourceChannel = Math.min(channel, channels - 1);
+                double sample = samples[before * channels + sourceChannel] * (1 - fraction)
+                        + samples[after * channels + sourceChannel] * fraction;
+                converted[frame * AudioMixer.CHANNELS + channel] = (short) Math.round(sample);
+            }
+        }
+        return converted;
+    }
+
+    /**
+     * Returns the number of stereo frames in the clip.
+     */
+    public int getFrameCount() {
+        return samples.length / AudioMixer.CHANNELS;
+    }
+
+    /**
+     * Returns the interleaved left and right samples of the clip. The returned array must not be modified.
+     */
+    short[] getSamples() {
+        return samples;
+    }
+}
@@ -0,0 +1,215 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.LineUnavailableException;
+import javax.sound.sampled.SourceDataLine;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Plays {@link AudioClip}s through a single audio line that is opened once, mixing the clips that play
+ * at the same time on one background thread.
+ *
+ * At most {@value #MAX_VOICES} clips play at the same time, and a clip that is already playing is not played
+ * again over itself. Requests to play beyond that are dropped rather than queued, so that short UI sounds such
+ * as typing clicks never fall behind.
+ */
+public class AudioMixer {
+
+    public static final int SAMPLE_RATE = 48000;
+    public static final int CHANNELS = 2;
+    public static final int MAX_VOICES = 4;
+
+    // about 20ms at SAMPLE_RATE, which bounds the delay before a clip starts playing
+    private static final int BUFFER_FRAMES = 1024;
+    private static final int BYTES_PER_FRAME = CHANNELS * 2;
+
+    private static final Logger logger = LogsCenter.getLogger(AudioMixer.class);
+
+    private static AudioMixer instance;
+
+    private final Supplier<Output> outputFactory;
+    // the clips being played, guarded by this
+    private final List<Voice> voices = new ArrayList<>();
+    // reused by mix(short[]) so that mixing does not allocate
+    private int[] sums = new int[0];
+    private boolean isEnabled = true;
+    private Thread mixerThread;
+
+    AudioMixer(Supplier<Output> outputFactory) {
+        this.outputFactory = requireNonNull(outputFactory);
+    }
+
+    public static synchronized AudioMixer getInstance() {
+        if (instance == null) {
+            instance = new AudioMixer(LineOutput::new);
+        }
+        return instance;
+    }
+
+    /**
+     * Starts playing {@code clip} and returns true, or returns false if the clip is dropped because it is
+     * already playing, too many clips are playing or audio is not available.
+     */
+    public synchronized boolean play(AudioClip clip) {
+        requireNonNull(clip);
+        if (!isEnabled || voices.size() >= MAX_VOICES || voices.stream().anyMatch(voice -> voice.clip == clip)) {
+            return false;
+        }
+        voices.add(new Voice(clip));
+        if (mixerThread == null) {
+            mixerThread = new Thread(this::runMixer, "Audio mixer");
+            // audio must not keep the app running
+            mixerThread.setDaemon(true);
+            mixerThread.start();
+        }
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Stops all clips and closes the audio line. No more clips are played afterwards.
+     */
+    public synchronized void shutdown() {
+        isEnabled = false;
+        voices.clear();
+        notifyAll();
+    }
+
+    /**
+     * Mixes the clips being played into the audio line until the mixer is shut down.
+     */
+    private void runMixer() {
+        Output output;
+        try {
+            output = outputFactory.get();
+        } catch (RuntimeException re) {
+            logger.warning("Audio is not available, disabling it: " + re.getMessage());
+            shutdown();
+            return;
+        }
+
+        short[] mixBuffer = new short[BUFFER_FRAMES * CHANNELS];
+        byte[] lineBuffer = new byte[BUFFER_FRAMES * BYTES_PER_FRAME];
+        try {
+            while (awaitVoices()) {
+                int frames = mix(mixBuffer);
+                for (int i = 0; i < frames * CHANNELS; i++) {
+                    // 16-bit signed little endian
+                    lineBuffer[2 * i] = (byte) mixBuffer[i];
+                    lineBuffer[2 * i + 1] = (byte) (mixBuffer[i] >> 8);
+                }
+                output.write(lineBuffer, frames * BYTES_PER_FRAME);
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } finally {
+            output.close();
+        }
+    }
+
+    /**
+     * Waits until a clip is being played. Returns false if the mixer is shut down instead.
+     */
+    private synchronized boolean awaitVoices() throws InterruptedException {
+        while (isEnabled && voices.isEmpty()) {
+            wait();
+        }
+        return isEnabled;
+    }
+
+    /**
+     * Mixes the next samples of the clips being played into {@code buffer}, and returns the number of frames
+     * mixed. Clips that have been played to the end are removed.
+     */
+    synchronized int mix(short[] buffer) {
+        int frames = 0;
+        if (sums.length != buffer.length) {
+            sums = new int[buffer.length];
+        }
+        Arrays.fill(sums, 0);
+        for (Iterator<Voice> it = voices.iterator(); it.hasNext();) {
+            Voice voice = it.next();
+            short[] samples = voice.clip.getSamples();
+            int count = Math.min(buffer.length, samples.length - voice.position);
+            for (int i = 0; i < count; i++) {
+                sums[i] += samples[voice.position + i];
+            }
+            voice.position += count;
+            frames = Math.max(frames, count / CHANNELS);
+            if (voice.position >= samples.length) {
+                it.remove();
+            }
+        }
+        for (int i = 0; i < frames * CHANNELS; i++) {
+            buffer[i] = (short) Math.max(Short.MIN_VALUE, Math.min(Short.MAX_VALUE, sums[i]));
+        }
+        return frames;
+    }
+
+    /**
+     * A clip being played, and the position of its next sample.
+     */
+    private static class Voice {
+        private final AudioClip clip;
+        private int position;
+
+        Voice(AudioClip clip) {
+            this.clip = clip;
+        }
+    }
+
+    /**
+     * Where the mixed samples are written to.
+     */
+    interface Output {
+        /**
+         * Writes the first {@code length} bytes of {@code bytes}, blocking until they can be written.
+         */
+        void write(byte[] bytes, int length);
+
+        /**
+         * Releases the output.
+         */
+        void close();
+    }
+
+    /**
+     * An {@code Output} to an audio line of the default mixer of the system.
+     */
+    private static class LineOutput implements Output {
+        private final SourceDataLine line;
+
+        LineOutput() {
+            AudioFormat format = new AudioFormat(SAMPLE_RATE, 16, CHANNELS, true, false);
+            try {
+                line = AudioSystem.getSourceDataLine(format);
+                line.open(format, BUFFER_FRAMES * BYTES_PER_FRAME * 2);
+            } catch (LineUnavailableException | IllegalArgumentException e) {
+                throw new IllegalStateException("Audio line cannot be opened", e);
+            }
+            line.start();
+        }
+
+        @Override
+        public void write(byte[] bytes, int length) {
+            line.write(bytes, 0, length);
+        }
+
+        @Override
+        public void close() {
+            line.drain();
+            line.close();
+        }
+    }
+}
@@ -2,11 +2,13 @@ package seedu.address.logic;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.List;
+import java.util.Optional;
 
+import seedu.address.commons.util.PrefixTrie;
 import seedu.address.logic.commands.hints.Hint;
 import seedu.address.logic.parser.HintParser;
 import seedu.address.logic.parser.ParserUtil;
+import seedu.address.logic.parser.Prefix;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.UserPrefs;
 
@@ -20,6 +22,19 @@ public class Autocomplete {
             "music", "redo", "remark", "select", "unalias", "undo", "radio", "share"
     ));
 
+    private static final PrefixTrie COMMAND_WORDS = createCommandWords();
+
+    /**
+     * Returns a trie of the command words in {@code COMMAND_LIST}, ranked in the order of the list.
+     */
+    private static PrefixTrie createCommandWords() {
+        PrefixTrie commandWords = new PrefixTrie(true);
+        for (int i = 0; i < COMMAND_LIST.size(); i++) {
+            commandWords.add(COMMAND_LIST.get(i), COMMAND_LIST.size() - i);
+        }
+        return commandWords;
+    }
+
     /**
      * Parses {@code String input} and returns an appropriate autocompletion
      */
@@ -45,12 +60,20 @@ public class Autocomplete {
      * matches.
      */
     public static String autocompleteCommand(String command) {
-        List<String> commands = new ArrayList<String>();
-        // We add from COMMAND_LIST first because we want to autocomplete them first.
-        commands.addAll(COMMAND_LIST);
-        commands.addAll(UserPrefs.getInstance().getAliases().getAllAliases());
-        String[] list = commands.toArray(new String[commands.size()]);
-        return autocompleteFromList(command, list);
+        // command words are completed before aliases
+        Optional<String> commandWord = COMMAND_WORDS.complete(command);
+        if (commandWord.isPresent()) {
+            return commandWord.get();
+        }
+        return UserPrefs.getInstance().getAliases().completeAlias(command).orElse(null);
+    }
+
+    /**
+     * Returns the best completion of {@code value} for the field of {@code prefix} from the persons in the
+     * address book, or {@code Optional.empty()} if there is none.
+     */
+    public static Optional<String> autocompleteFieldValue(Prefix prefix, String value) {
+        return FieldValueCompletions.getInstance().complete(prefix, value);
     }
 
     /**
@@ -2,31 +2,252 @@ package seedu.address.logic;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.LinkedList;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
 
 /**
- * Stores the history of commands executed.
+ * Stores the history of commands executed, up to a maximum number of commands after which the earliest
+ * commands are forgotten.
+ *
+ * The history can be kept in a file, to which each command is appended as a line, so that it is remembered
+ * across sessions. The file is rewritten with only the remembered commands once it holds twice as many.
  */
 public class CommandHistory {
-    private LinkedList<String> userInputHistory;
+
+    public static final int DEFAULT_MAX_SIZE = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandHistory.class);
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final String[] entries;
+    // the number of commands ever added, so that a command is at position (sequence number % entries.length)
+    private long addedCount;
+    private int size;
+
+    private final File file;
+    private Writer fileWriter;
+    private int fileLineCount;
 
     public CommandHistory() {
-        userInputHistory = new LinkedList<>();
+        this(DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * Creates an empty history of up to {@code maxSize} commands that is not kept in a file.
+     *
+     * @throws IllegalArgumentException if {@code maxSize} is not positive.
+     */
+    public CommandHistory(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maxSize);
+        }
+        entries = new String[maxSize];
+        file = null;
+    }
+
+    /**
+     * Creates a history of up to {@code maxSize} commands that is kept in the file at {@code filePath},
+     * starting with the commands already in the file.
+     * If the file cannot be read or written, the history is only kept in memory.
+     *
+     * @throws IllegalArgumentException if {@code maxSize} is not positive.
+     */
+    public CommandHistory(int maxSize, String filePath) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive: " + maxSize);
+        }
+        entries = new String[maxSize];
+        file = new File(requireNonNull(filePath));
+        try {
+            readFile();
+            fileWriter = openFileWriter();
+        } catch (IOException ioe) {
+            logger.warning("Command history file " + file + " cannot be used, keeping history in memory only: "
+                    + ioe.getMessage());
+        }
     }
 
     /**
      * Appends {@code userInput} to the list of user input entered.
      */
-    public void add(String userInput) {
+    public synchronized void add(String userInput) {
         requireNonNull(userInput);
-        userInputHistory.add(userInput);
+        entries[(int) (addedCount % entries.length)] = userInput;
+        addedCount++;
+        size = Math.min(size + 1, entries.length);
+        appendToFile(userInput);
+    }
+
+    /**
+     * Returns a defensive copy of {@code userInputHistory}, from the earliest to the most recent command.
+     */
+    public synchronized List<String> getHistory() {
+        return new ArrayList<>(getSnapshot());
+    }
+
+    /**
+     * Returns an unmodifiable view of the commands in the history at this time, from the earliest to the most
+     * recent command, that shares the storage of this history instead of copying it.
+     * Commands added later are not part of the view. Commands that are forgotten by the history as commands are
+     * added are dropped from the start of the view, so the view only shrinks.
+     */
+    public synchronized List<String> getSnapshot() {
+        return new Snapshot(addedCount - size, addedCount);
+    }
+
+    /**
+     * Returns the number of commands in the history.
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Returns the sequence number of the earliest command in the history.
+     */
+    private synchronized long getFirstSequenceNumber() {
+        return addedCount - size;
+    }
+
+    /**
+     * Returns the command at {@code index} among the commands from {@code firstSequenceNumber}, counting only
+     * those still in the history, to before {@code endSequenceNumber}.
+     */
+    private synchronized String get(long firstSequenceNumber, long endSequenceNumber, int index) {
+        long sequenceNumber = Math.max(firstSequenceNumber, getFirstSequenceNumber()) + index;
+        if (index < 0 || sequenceNumber >= endSequenceNumber) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        return entries[(int) (sequenceNumber % entries.length)];
+    }
+
+    /**
+     * Adds the commands in {@code file} to the history, keeping only the most recent ones that fit.
+     */
+    private void readFile() throws IOException {
+        if (!file.exists()) {
+            return;
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                entries[(int) (addedCount % entries.length)] = unescape(line);
+                addedCount++;
+                fileLineCount++;
+            }
+        }
+        size = (int) Math.min(addedCount, entries.length);
+    }
+
+    /**
+     * Opens {@code file} for appending commands, first rewriting it if it holds too many commands.
+     */
+    private Writer openFileWriter() throws IOException {
+        if (fileLineCount >= 2 * entries.length) {
+            rewriteFile();
+        }
+        FileUtil.createParentDirsOfFile(file);
+        return Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    /**
+     * Replaces {@code file} with a file of only the commands in the history.
+     */
+    private void rewriteFile() throws IOException {
+        File tempFile = new File(file.getPath() + TEMP_FILE_SUFFIX);
+        try (Writer writer = Files.newBufferedWriter(tempFile.toPath(), StandardCharsets.UTF_8)) {
+            for (String entry : getSnapshot()) {
+                writer.write(escape(entry));
+                writer.write('\n');
+            }
+        }
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        fileLineCount = size;
     }
 
     /**
-     * Returns a defensive copy of {@code userInputHistory}.
+     * Appends {@code userInput} to {@code file}, if the history is kept in a file.
      */
-    public List<String> getHistory() {
-        return new LinkedList<>(userInputHistory);
+    private void appendToFile(String userInput) {
+        if (fileWriter == null) {
+            return;
+        }
+        try {
+            fileWriter.write(escape(userInput));
+            fileWriter.write('\n');
+            fileWriter.flush();
+            fileLineCount++;
+            if (fileLineCount >= 2 * entries.length) {
+                fileWriter.close();
+                fileWriter = openFileWriter();
+            }
+        } catch (IOException ioe) {
+            logger.warning("Failed to save command to history file " + file + ": " + ioe.getMessage());
+            fileWriter = null;
+        }
+    }
+
+    /**
+     * Returns {@code userInput} with backslashes and line breaks escaped, so that it fits on one line.
+     */
+    private static String escape(String userInput) {
+        return userInput.replace("\\", "\\\\").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    /**
+     * Reverses {@link #escape(String)}.
+     */
+    private static String unescape(String line) {
+        StringBuilder userInput = new StringBuilder(line.length());
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c != '\\' || i == line.length() - 1) {
+                userInput.append(c);
+                continue;
+            }
+            char escaped = line.charAt(++i);
+            userInput.append(escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+        }
+        return userInput.toString();
+    }
+
+    /**
+     * A view of the commands with sequence numbers from {@code firstSequenceNumber} to before
+     * {@code endSequenceNumber} that are still in the history.
+     */
+    private class Snapshot extends AbstractList<String> implements RandomAccess {
+        private final long firstSequenceNumber;
+        private final long endSequenceNumber;
+
+        Snapshot(long firstSequenceNumber, long endSequenceNumber) {
+            this.firstSequenceNumber = firstSequenceNumber;
+            this.endSequenceNumber = endSequenceNumber;
+        }
+
+        @Override
+        public String get(int index) {
+            return CommandHistory.this.get(firstSequenceNumber, endSequenceNumber, index);
+        }
+
+        @Override
+        public int size() {
+            return (int) Math.max(endSequenceNumber - Math.max(firstSequenceNumber, getFirstSequenceNumber()), 0);
+        }
     }
 }
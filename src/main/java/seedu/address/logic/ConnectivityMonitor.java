@@ -0,0 +1,155 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.logic.InternetConnectionChangedEvent;
+
+/**
+ * Keeps track of whether the app is connected to the Internet, by probing the connection periodically on a
+ * background thread, so that commands can check the connection without waiting for a probe.
+ *
+ * The result of the last probe is only trusted for {@link #RESULT_TTL_MILLIS}, after which the connection is
+ * {@code UNKNOWN} until the next probe. Every change between connected and disconnected is posted as an
+ * {@link InternetConnectionChangedEvent}.
+ */
+public class ConnectivityMonitor {
+
+    public static final long PROBE_INTERVAL_MILLIS = 30000;
+    public static final long RESULT_TTL_MILLIS = 60000;
+
+    private static final Logger logger = LogsCenter.getLogger(ConnectivityMonitor.class);
+
+    private static ConnectivityMonitor instance;
+
+    /**
+     * Whether the app is connected to the Internet.
+     */
+    public enum Status { UNKNOWN, CONNECTED, DISCONNECTED }
+
+    private final BooleanSupplier probe;
+    private final long resultTtlNanos;
+    private final Consumer<Boolean> changeListener;
+    private final ScheduledExecutorService scheduler;
+    private final AtomicBoolean isProbing = new AtomicBoolean();
+    private volatile boolean isConnected;
+    private volatile boolean hasResult;
+    private volatile long probedAtNanos;
+
+    /**
+     * Creates a monitor that runs {@code probe} every {@code probeIntervalMillis}, starting right away, and
+     * passes every change in the connection to {@code changeListener}.
+     */
+    ConnectivityMonitor(BooleanSupplier probe, long probeIntervalMillis, long resultTtlMillis,
+                        Consumer<Boolean> changeListener) {
+        this.probe = requireNonNull(probe);
+        this.resultTtlNanos = TimeUnit.MILLISECONDS.toNanos(resultTtlMillis);
+        this.changeListener = requireNonNull(changeListener);
+        scheduler = new ScheduledThreadPoolExecutor(1, ConnectivityMonitor::createWorkerThread);
+        scheduler.scheduleWithFixedDelay(this::probe, 0, probeIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the thread that probes the connection.
+     */
+    private static Thread createWorkerThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "Connectivity probe");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public static synchronized ConnectivityMonitor getInstance() {
+        if (instance == null) {
+            instance = new ConnectivityMonitor(InternetConnectionCheck::isConnectedToInternet,
+                    PROBE_INTERVAL_MILLIS, RESULT_TTL_MILLIS, ConnectivityMonitor::postChange);
+        }
+        return instance;
+    }
+
+    private static void postChange(boolean isConnected) {
+        EventsCenter.getInstance().post(new InternetConnectionChangedEvent(isConnected));
+    }
+
+    /**
+     * Returns the connection found by the last probe, or {@code UNKNOWN} if there has been no recent probe.
+     * Returns immediately, requesting a probe in the background if the last result is too old.
+     */
+    public Status getStatus() {
+        if (!hasResult) {
+            return Status.UNKNOWN;
+        }
+        if (System.nanoTime() - probedAtNanos > resultTtlNanos) {
+            refresh();
+            return Status.UNKNOWN;
+        }
+        return isConnected ? Status.CONNECTED : Status.DISCONNECTED;
+    }
+
+    /**
+     * Returns true if the last recent probe found the app to be disconnected. Returns immediately.
+     */
+    public boolean isDisconnected() {
+        return getStatus() == Status.DISCONNECTED;
+    }
+
+    /**
+     * Requests a probe in the background, unless one is already in progress.
+     */
+    public void refresh() {
+        if (!scheduler.isShutdown() && isProbing.compareAndSet(false, true)) {
+            scheduler.execute(this::probeOnce);
+        }
+    }
+
+    /**
+     * Stops probing the connection.
+     */
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+
+    /**
+     * Probes the connection if no probe is in progress.
+     */
+    private void probe() {
+        if (isProbing.compareAndSet(false, true)) {
+            probeOnce();
+        }
+    }
+
+    /**
+     * Probes the connection and records the result. Must only be called after setting {@code isProbing}.
+     */
+    private void probeOnce() {
+        boolean isConnectedNow;
+        try {
+            isConnectedNow = probe.getAsBoolean();
+        } catch (RuntimeException re) {
+            logger.warning("Failed to probe the Internet connection: " + re.getMessage());
+            isConnectedNow = false;
+        }
+
+        boolean isChanged;
+        synchronized (this) {
+            isChanged = !hasResult || isConnected != isConnectedNow;
+            isConnected = isConnectedNow;
+            probedAtNanos = System.nanoTime();
+            hasResult = true;
+        }
+        isProbing.set(false);
+
+        if (isChanged) {
+            logger.info(isConnectedNow ? "Connected to the Internet" : "Disconnected from the Internet");
+            changeListener.accept(isConnectedNow);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.Optional;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.util.PrefixTrie;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Completes the names, emails and tags typed into commands from the values of the persons in the address book.
+ * Values that more persons have are completed first.
+ *
+ * Kept up to date through {@link AddressBookChangedEvent}s once the address book is set. Only the tags of
+ * a lazily read address book are completed until it is first changed, so that its persons are not read
+ * up front.
+ */
+public class FieldValueCompletions {
+
+    private static FieldValueCompletions instance;
+
+    private final PrefixTrie names = new PrefixTrie(false);
+    private final PrefixTrie emails = new PrefixTrie(false);
+    private final PrefixTrie tags = new PrefixTrie(false);
+    // true while only the tags of a lazily read address book are held
+    private boolean isPartial;
+
+    FieldValueCompletions() {}
+
+    public static synchronized FieldValueCompletions getInstance() {
+        if (instance == null) {
+            instance = new FieldValueCompletions();
+        }
+        return instance;
+    }
+
+    /**
+     * Replaces the values held with the values of the persons in {@code addressBook}.
+     */
+    public synchronized void setAddressBook(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        names.clear();
+        emails.clear();
+        tags.clear();
+        isPartial = addressBook instanceof AddressBook && ((AddressBook) addressBook).isLazy();
+        if (isPartial) {
+            addressBook.getTagList().forEach(tag -> tags.add(tag.tagName));
+            return;
+        }
+        addressBook.getPersonList().forEach(this::add);
+    }
+
+    /**
+     * Returns the best completion of {@code value} for the field of {@code prefix}, or {@code Optional.empty()}
+     * if there is none or the values of that field are not completed.
+     */
+    public synchronized Optional<String> complete(Prefix prefix, String value) {
+        requireNonNull(value);
+        if (PREFIX_NAME.equals(prefix)) {
+            return names.complete(value);
+        } else if (PREFIX_EMAIL.equals(prefix)) {
+            return emails.complete(value);
+        } else if (PREFIX_TAG.equals(prefix)) {
+            return tags.complete(value);
+        }
+        return Optional.empty();
+    }
+
+    @Subscribe
+    public synchronized void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
+        AddressBookChange change = event.change;
+        if (isPartial || change.getType() == AddressBookChange.Type.RESET) {
+            setAddressBook(event.data);
+            return;
+        }
+        switch (change.getType()) {
+        case ADD:
+            add(change.getPerson());
+            break;
+        case UPDATE:
+            remove(change.getTarget());
+            add(change.getPerson());
+            break;
+        case DELETE:
+            remove(change.getTarget());
+            break;
+        default:
+            throw new AssertionError("Unexpected change " + change.getType());
+        }
+    }
+
+    /**
+     * Adds the values of {@code person}.
+     */
+    private void add(ReadOnlyPerson person) {
+        names.add(person.getName().fullName);
+        emails.add(person.getEmail().value);
+        for (Tag tag : person.getTags()) {
+            tags.add(tag.tagName);
+        }
+    }
+
+    /**
+     * Removes the values of {@code person}.
+     */
+    private void remove(ReadOnlyPerson person) {
+        names.remove(person.getName().fullName);
+        emails.remove(person.getEmail().value);
+        for (Tag tag : person.getTags()) {
+            tags.remove(tag.tagName);
+        }
+    }
+}
@@ -1,5 +1,8 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
 
@@ -10,31 +13,40 @@ import java.util.NoSuchElementException;
  * {@code previous()}, the same element is returned on both calls.
  * In contrast, {@code ListElementPointer}'s behaviour: when making alternating calls of
  * {@code next()} and {@code previous()}, the next and previous elements are returned respectively.
+ *
+ * The pointer reads from the list it is given without copying or modifying it, so the list should not
+ * change while the pointer is in use, except by removing its earliest elements, e.g. a view of a history that
+ * forgets its earliest entries. Elements added to the pointer are kept separately, after the list.
  */
 public class ListElementPointer {
-    private List<String> list;
+    private final List<String> list;
+    private final List<String> addedElements = new ArrayList<>();
     private int index;
+    // the size of the list when the index was last adjusted to it
+    private int listSize;
 
     /**
-     * Constructs {@code ListElementPointer} which is backed by a defensive copy of {@code list}.
+     * Constructs {@code ListElementPointer} which is backed by {@code list}.
      * The cursor points to the last element in {@code list}.
      */
     public ListElementPointer(List<String> list) {
         this.list = list;
-        index = this.list.size() - 1;
+        listSize = list.size();
+        index = listSize - 1;
     }
 
     /**
-     * Appends {@code element} to the end of the list.
+     * Appends {@code element} to the end of the elements pointed to, without modifying the backing list.
      */
     public void add(String element) {
-        list.add(element);
+        addedElements.add(element);
     }
 
     /**
      * Returns true if calling {@code #next()} does not throw an {@code NoSuchElementException}.
      */
     public boolean hasNext() {
+        followList();
         int nextIndex = index + 1;
         return isWithinBounds(nextIndex);
     }
@@ -43,6 +55,7 @@ public class ListElementPointer {
      * Returns true if calling {@code #previous()} does not throw an {@code NoSuchElementException}.
      */
     public boolean hasPrevious() {
+        followList();
         int previousIndex = index - 1;
         return isWithinBounds(previousIndex);
     }
@@ -51,11 +64,33 @@ public class ListElementPointer {
      * Returns true if calling {@code #current()} does not throw an {@code NoSuchElementException}.
      */
     public boolean hasCurrent() {
+        followList();
         return isWithinBounds(index);
     }
 
     private boolean isWithinBounds(int index) {
-        return index >= 0 && index < list.size();
+        return index >= 0 && index < size();
+    }
+
+    private int size() {
+        return list.size() + addedElements.size();
+    }
+
+    /**
+     * Moves the cursor back by the number of elements removed from the start of the list since the last call,
+     * so that it stays on the same element. The cursor is placed before the first element if the element it
+     * pointed to was removed.
+     */
+    private void followList() {
+        int removedCount = listSize - list.size();
+        if (removedCount > 0) {
+            index = Math.max(index - removedCount, -1);
+        }
+        listSize = list.size();
+    }
+
+    private String get(int index) {
+        return index < list.size() ? list.get(index) : addedElements.get(index - list.size());
     }
 
     /**
@@ -66,7 +101,7 @@ public class ListElementPointer {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return list.get(++index);
+        return get(++index);
     }
 
     /**
@@ -77,7 +112,7 @@ public class ListElementPointer {
         if (!hasPrevious()) {
             throw new NoSuchElementException();
         }
-        return list.get(--index);
+        return get(--index);
     }
 
     /**
@@ -88,7 +123,44 @@ public class ListElementPointer {
         if (!hasCurrent()) {
             throw new NoSuchElementException();
         }
-        return list.get(index);
+        return get(index);
+    }
+
+    /**
+     * Returns true if calling {@code #previousContaining(String)} with {@code query} does not throw
+     * an {@code NoSuchElementException}.
+     */
+    public boolean hasPreviousContaining(String query) {
+        return findPreviousContaining(query) >= 0;
+    }
+
+    /**
+     * Returns the nearest previous element in the list that contains {@code query}, and moves the cursor
+     * position backwards to it.
+     * @throws NoSuchElementException if no previous element in the list contains {@code query}.
+     */
+    public String previousContaining(String query) {
+        int previousIndex = findPreviousContaining(query);
+        if (previousIndex < 0) {
+            throw new NoSuchElementException();
+        }
+        index = previousIndex;
+        return get(index);
+    }
+
+    /**
+     * Returns the index of the nearest previous element in the list that contains {@code query}, or -1 if
+     * there is none.
+     */
+    private int findPreviousContaining(String query) {
+        requireNonNull(query);
+        followList();
+        for (int i = index - 1; i >= 0; i--) {
+            if (get(i).contains(query)) {
+                return i;
+            }
+        }
+        return -1;
     }
 
     @Override
@@ -105,6 +177,7 @@ public class ListElementPointer {
 
         // state check
         ListElementPointer iterator = (ListElementPointer) other;
-        return list.equals(iterator.list) && index == iterator.index;
+        return list.equals(iterator.list) && addedElements.equals(iterator.addedElements)
+                && index == iterator.index;
     }
 }
@@ -1,9 +1,12 @@
 package seedu.address.logic;
 
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
@@ -25,10 +28,37 @@ public class LogicManager extends ComponentManager implements Logic {
     private final UndoRedoStack undoRedoStack;
 
     public LogicManager(Model model) {
+        this(model, new Config(), new CommandHistory());
+    }
+
+    /**
+     * Creates a {@code LogicManager} whose command history is kept in the file given by {@code config},
+     * or only in memory if there is no such file.
+     */
+    public LogicManager(Model model, Config config) {
+        this(model, config, createHistory(config));
+    }
+
+    private LogicManager(Model model, Config config, CommandHistory history) {
         this.model = model;
-        this.history = new CommandHistory();
+        this.history = history;
         this.addressBookParser = new AddressBookParser();
-        this.undoRedoStack = new UndoRedoStack();
+        this.undoRedoStack = new UndoRedoStack(config.getUndoStackMaxDepth(), config.getUndoStackMaxPersons());
+
+        FieldValueCompletions fieldValueCompletions = FieldValueCompletions.getInstance();
+        fieldValueCompletions.setAddressBook(model.getAddressBook());
+        EventsCenter.getInstance().registerHandler(fieldValueCompletions);
+    }
+
+    /**
+     * Returns a command history of the size given by {@code config}, kept in the file given by {@code config}
+     * if there is one.
+     */
+    private static CommandHistory createHistory(Config config) {
+        String filePath = config.getCommandHistoryFilePath();
+        return filePath == null
+                ? new CommandHistory(config.getCommandHistoryMaxSize())
+                : new CommandHistory(config.getCommandHistoryMaxSize(), filePath);
     }
 
     @Override
@@ -39,7 +69,7 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
-        logger.info("----------------[USER COMMAND][" + commandText + "]");
+        logger.log(Level.INFO, "----------------[USER COMMAND][{0}]", commandText);
         try {
             Command command = parse(commandText);
             command.setData(model, history, undoRedoStack);
@@ -58,6 +88,6 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public ListElementPointer getHistorySnapshot() {
-        return new ListElementPointer(history.getHistory());
+        return new ListElementPointer(history.getSnapshot());
     }
 }
@@ -0,0 +1,399 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javax.mail.Message;
+import javax.mail.MessagingException;
+import javax.mail.Multipart;
+import javax.mail.SendFailedException;
+import javax.mail.Session;
+import javax.mail.Transport;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeBodyPart;
+import javax.mail.internet.MimeMessage;
+import javax.mail.internet.MimeMultipart;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+
+/**
+ * Sends emails in the background on a fixed number of worker threads, each of which keeps its connection to
+ * the mail server open while there are emails to send, so that sending many emails only connects and
+ * authenticates a few times.
+ *
+ * Emails that could not be sent are retried with an exponential backoff, up to {@value #MAX_ATTEMPTS} attempts.
+ * Emails that are not sent yet are kept in an outbox file, and are sent again when the service is next created.
+ * While the app is known to be disconnected from the Internet, the emails wait in the outbox without being attempted.
+ * Once every email sent together has been sent or has failed, the outcome is reported.
+ */
+public class MailDeliveryService {
+
+    public static final int DEFAULT_WORKER_COUNT = 2;
+    public static final int MAX_ATTEMPTS = 5;
+    public static final long DEFAULT_RETRY_DELAY_MILLIS = 2000;
+    public static final long MAX_RETRY_DELAY_MILLIS = 300000;
+    /** How long a connection to the mail server is kept open without any emails to send. */
+    public static final long IDLE_CONNECTION_MILLIS = 30000;
+
+    public static final String MESSAGE_DELIVERED = "Email sent to %1$d recipient(s)!";
+    public static final String MESSAGE_NOT_DELIVERED = "Email could not be sent to: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(MailDeliveryService.class);
+
+    private static final MailServer DEFAULT_SERVER =
+            new MailServer("smtp.gmail.com", 587, "unifycs2103@gmail.com", "CS2103CS2103", true);
+    private static final long JOIN_TIMEOUT_MILLIS = 1000;
+
+    private static MailDeliveryService instance;
+
+    private final MailServer server;
+    private final Session session;
+    private final File outboxFile;
+    private final long retryDelayMillis;
+    private final ConnectivityMonitor connectivityMonitor;
+    private final Consumer<String> statusReporter;
+    private final DelayQueue<Delivery> queue = new DelayQueue<>();
+    // the emails that are not sent yet, in the order they were queued
+    private final Map<String, OutgoingMail> outbox = new LinkedHashMap<>();
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean isShutdown;
+
+    /**
+     * Creates a service that sends emails through {@code server} on {@code workerCount} threads, and keeps
+     * the emails that are not sent yet in {@code outboxFile} unless it is null. The workers only connect to
+     * {@code server} while {@code connectivityMonitor} does not find the app disconnected.
+     * The emails already in the outbox file are sent right away.
+     */
+    MailDeliveryService(MailServer server, File outboxFile, int workerCount, long retryDelayMillis,
+                        ConnectivityMonitor connectivityMonitor, Consumer<String> statusReporter) {
+        this.server = requireNonNull(server);
+        this.session = server.createSession();
+        this.outboxFile = outboxFile;
+        this.retryDelayMillis = retryDelayMillis;
+        this.connectivityMonitor = requireNonNull(connectivityMonitor);
+        this.statusReporter = requireNonNull(statusReporter);
+
+        List<OutgoingMail> unsentMails = readOutbox();
+        if (!unsentMails.isEmpty()) {
+            logger.info("Sending " + unsentMails.size() + " emails left in the outbox");
+            send(unsentMails);
+        }
+        for (int i = 0; i < workerCount; i++) {
+            Thread worker = new Thread(this::sendUntilShutdown, "Mail sender " + (i + 1));
+            // unsent emails are kept in the outbox, so sending must not keep the app running
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    public static synchronized MailDeliveryService getInstance() {
+        if (instance == null) {
+            instance = createDefault(null);
+        }
+        return instance;
+    }
+
+    /**
+     * Replaces the service returned by {@link #getInstance()} with one that keeps the emails that are not
+     * sent yet in the file at {@code outboxFilePath}, or only in memory if it is null.
+     */
+    public static synchronized void init(String outboxFilePath) {
+        if (instance != null) {
+            instance.shutdown();
+        }
+        instance = createDefault(outboxFilePath == null ? null : new File(outboxFilePath));
+    }
+
+    private static MailDeliveryService createDefault(File outboxFile) {
+        return new MailDeliveryService(DEFAULT_SERVER, outboxFile, DEFAULT_WORKER_COUNT,
+                DEFAULT_RETRY_DELAY_MILLIS, ConnectivityMonitor.getInstance(), MailDeliveryService::postStatus);
+    }
+
+    private static void postStatus(String status) {
+        EventsCenter.getInstance().post(new NewResultAvailableEvent(status));
+    }
+
+    /**
+     * Queues {@code mails} to be sent, and returns immediately.
+     * The outcome is reported once every one of them has been sent or has failed.
+     */
+    public void send(List<OutgoingMail> mails) {
+        requireNonNull(mails);
+        if (mails.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            for (OutgoingMail mail : mails) {
+                outbox.put(mail.getId(), mail);
+            }
+            saveOutbox();
+        }
+        if (isShutdown) {
+            // the emails are sent from the outbox file when the service is next created
+            return;
+        }
+        Batch batch = new Batch(mails.size());
+        for (OutgoingMail mail : mails) {
+            queue.add(new Delivery(mail, batch, 0, 0));
+        }
+    }
+
+    /**
+     * Returns the emails that are not sent yet, in the order they were queued.
+     */
+    public synchronized List<OutgoingMail> getUnsentMails() {
+        return new ArrayList<>(outbox.values());
+    }
+
+    /**
+     * Stops sending emails once the emails currently being sent are sent. The emails that are not sent yet
+     * are left in the outbox file.
+     */
+    public void shutdown() {
+        isShutdown = true;
+        for (Thread worker : workers) {
+            worker.interrupt();
+        }
+        for (Thread worker : workers) {
+            try {
+                worker.join(JOIN_TIMEOUT_MILLIS);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Sends queued emails until the service is shut down, keeping the connection to the mail server open
+     * between emails and closing it once there has been nothing to send for a while. Emails are held back
+     * while the app is disconnected, without using up their attempts.
+     */
+    private void sendUntilShutdown() {
+        Transport transport = null;
+        try {
+            while (!isShutdown) {
+                Delivery delivery = queue.poll(IDLE_CONNECTION_MILLIS, TimeUnit.MILLISECONDS);
+                if (delivery == null) {
+                    transport = close(transport);
+                    continue;
+                }
+                try {
+                    if (transport == null || !transport.isConnected()) {
+                        if (connectivityMonitor.isDisconnected()) {
+                            // put back as it was, so that the emails are still sent in the order they were queued
+                            queue.add(delivery);
+                            Thread.sleep(retryDelayMillis);
+                            continue;
+                        }
+                        transport = server.connect(session);
+                    }
+                    MimeMessage message = createMessage(delivery.mail);
+                    transport.sendMessage(message, message.getAllRecipients());
+                    complete(delivery, true);
+                } catch (MessagingException me) {
+                    logger.warning("Failed to send " + delivery.mail + ": " + me.getMessage());
+                    transport = close(transport);
+                    retryOrFail(delivery, me);
+                }
+            }
+        } catch (InterruptedException ie) {
+            // shutting down
+        } finally {
+            close(transport);
+        }
+    }
+
+    /**
+     * Queues {@code delivery} to be attempted again after a backoff, or gives up on it if it has been attempted
+     * too many times or can never succeed.
+     */
+    private void retryOrFail(Delivery delivery, MessagingException cause) {
+        int attempts = delivery.attempts + 1;
+        boolean isRejected = cause instanceof SendFailedException
+                && ((SendFailedException) cause).getInvalidAddresses() != null
+                && ((SendFailedException) cause).getInvalidAddresses().length > 0;
+        if (isRejected || attempts >= MAX_ATTEMPTS || isShutdown) {
+            if (!isShutdown) {
+                complete(delivery, false);
+            }
+            return;
+        }
+        long delayMillis = Math.min(retryDelayMillis << (attempts - 1), MAX_RETRY_DELAY_MILLIS);
+        queue.add(new Delivery(delivery.mail, delivery.batch, attempts, delayMillis));
+    }
+
+    /**
+     * Removes the email of {@code delivery} from the outbox, and reports the outcome of its batch if this was the
+     * last email of the batch.
+     */
+    private void complete(Delivery delivery, boolean isDelivered) {
+        synchronized (this) {
+            outbox.remove(delivery.mail.getId());
+            saveOutbox();
+        }
+        delivery.batch.complete(delivery.mail, isDelivered).ifPresent(statusReporter);
+    }
+
+    /**
+     * Returns {@code mail} as a message from the sender of the mail server.
+     */
+    private MimeMessage createMessage(OutgoingMail mail) throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        message.setFrom(new InternetAddress(server.getSender()));
+        message.addRecipient(Message.RecipientType.TO, new InternetAddress(mail.getRecipient()));
+        message.setSubject(mail.getSubject());
+
+        MimeBodyPart messageBodyPart = new MimeBodyPart();
+        messageBodyPart.setContent(mail.getHtmlContent(), "text/html");
+        Multipart multipart = new MimeMultipart();
+        multipart.addBodyPart(messageBodyPart);
+        message.setContent(multipart);
+        return message;
+    }
+
+    /**
+     * Closes {@code transport} if it is open. Always returns null, for the caller to forget the transport.
+     */
+    private static Transport close(Transport transport) {
+        if (transport == null) {
+            return null;
+        }
+        try {
+            transport.close();
+        } catch (MessagingException me) {
+            logger.fine("Failed to close connection to mail server: " + me.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Returns the emails in the outbox file.
+     */
+    private List<OutgoingMail> readOutbox() {
+        if (outboxFile == null) {
+            return Collections.emptyList();
+        }
+        try {
+            return JsonUtil.readJsonFile(outboxFile.getPath(), Outbox.class)
+                    .map(savedOutbox -> savedOutbox.mails)
+                    .orElse(Collections.emptyList());
+        } catch (DataConversionException dce) {
+            logger.warning("Outbox file " + outboxFile + " is not in the correct format, ignoring it");
+            return Collections.emptyList();
+        }
+    }
+
+    /**
+     * Writes the emails that are not sent yet to the outbox file. Must be called while holding the lock.
+     */
+    private void saveOutbox() {
+        if (outboxFile == null) {
+            return;
+        }
+        try {
+            JsonUtil.saveJsonFile(new Outbox(new ArrayList<>(outbox.values())), outboxFile.getPath());
+        } catch (IOException ioe) {
+            logger.warning("Failed to save outbox file " + outboxFile + ": " + ioe.getMessage());
+        }
+    }
+
+    /**
+     * An attempt to send an email that is due after a delay.
+     */
+    private static class Delivery implements Delayed {
+        private static final AtomicLong nextSequenceNumber = new AtomicLong();
+
+        private final OutgoingMail mail;
+        private final Batch batch;
+        // the number of failed attempts so far
+        private final int attempts;
+        private final long dueNanos;
+        // keeps the deliveries that are due at the same time in the order they were queued
+        private final long sequenceNumber = nextSequenceNumber.getAndIncrement();
+
+        Delivery(OutgoingMail mail, Batch batch, int attempts, long delayMillis) {
+            this.mail = mail;
+            this.batch = batch;
+            this.attempts = attempts;
+            this.dueNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            Delivery otherDelivery = (Delivery) other;
+            int comparison = Long.compare(dueNanos - otherDelivery.dueNanos, 0);
+            return comparison != 0 ? comparison : Long.compare(sequenceNumber, otherDelivery.sequenceNumber);
+        }
+    }
+
+    /**
+     * The emails queued together, whose outcome is reported together.
+     */
+    private static class Batch {
+        private final AtomicInteger remaining;
+        private final int size;
+        private final List<String> failedRecipients = Collections.synchronizedList(new ArrayList<>());
+
+        Batch(int size) {
+            this.size = size;
+            this.remaining = new AtomicInteger(size);
+        }
+
+        /**
+         * Records the outcome of sending {@code mail}. Returns the outcome of the batch if this was its last email.
+         */
+        Optional<String> complete(OutgoingMail mail, boolean isDelivered) {
+            if (!isDelivered) {
+                failedRecipients.add(mail.getRecipient());
+            }
+            if (remaining.decrementAndGet() > 0) {
+                return Optional.empty();
+            }
+            return Optional.of(failedRecipients.isEmpty()
+                    ? String.format(MESSAGE_DELIVERED, size)
+                    : String.format(MESSAGE_NOT_DELIVERED, String.join(", ", failedRecipients)));
+        }
+    }
+
+    /**
+     * The contents of the outbox file.
+     */
+    private static class Outbox {
+        private List<OutgoingMail> mails = new ArrayList<>();
+
+        Outbox(List<OutgoingMail> mails) {
+            this.mails = mails;
+        }
+
+        /**
+         * Used when the outbox is read from the outbox file.
+         */
+        private Outbox() {}
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Properties;
+
+import javax.mail.MessagingException;
+import javax.mail.Session;
+import javax.mail.Transport;
+
+/**
+ * The SMTP server that emails are sent through, and the account that they are sent from.
+ */
+public class MailServer {
+
+    private static final String TIMEOUT_MILLIS = "10000";
+
+    private final String host;
+    private final int port;
+    private final String sender;
+    private final String password;
+    private final boolean isStartTlsEnabled;
+
+    /**
+     * Creates a server that sends emails from {@code sender}, authenticating as {@code sender} with
+     * {@code password} if the password is not null.
+     */
+    public MailServer(String host, int port, String sender, String password, boolean isStartTlsEnabled) {
+        this.host = requireNonNull(host);
+        this.port = port;
+        this.sender = requireNonNull(sender);
+        this.password = password;
+        this.isStartTlsEnabled = isStartTlsEnabled;
+    }
+
+    public String getSender() {
+        return sender;
+    }
+
+    /**
+     * Returns a new session for sending emails through this server.
+     */
+    public Session createSession() {
+        Properties props = new Properties();
+        props.put("mail.smtp.host", host);
+        props.put("mail.smtp.port", String.valueOf(port));
+        props.put("mail.smtp.starttls.enable", String.valueOf(isStartTlsEnabled));
+        props.put("mail.smtp.auth", String.valueOf(password != null));
+        props.put("mail.smtp.connectiontimeout", TIMEOUT_MILLIS);
+        props.put("mail.smtp.timeout", TIMEOUT_MILLIS);
+        return Session.getInstance(props);
+    }
+
+    /**
+     * Returns a transport of {@code session} that is connected and authenticated to this server.
+     */
+    public Transport connect(Session session) throws MessagingException {
+        Transport transport = session.getTransport("smtp");
+        transport.connect(host, port, password == null ? null : sender, password);
+        return transport;
+    }
+}
@@ -0,0 +1,49 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.UUID;
+
+/**
+ * An HTML email to a single recipient that is waiting to be sent.
+ */
+public class OutgoingMail {
+
+    private String id;
+    private String recipient;
+    private String subject;
+    private String htmlContent;
+
+    public OutgoingMail(String recipient, String subject, String htmlContent) {
+        this.id = UUID.randomUUID().toString();
+        this.recipient = requireNonNull(recipient);
+        this.subject = requireNonNull(subject);
+        this.htmlContent = requireNonNull(htmlContent);
+    }
+
+    /**
+     * Used when the mail is read from the outbox file.
+     */
+    private OutgoingMail() {}
+
+    public String getId() {
+        return id;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public String getHtmlContent() {
+        return htmlContent;
+    }
+
+    @Override
+    public String toString() {
+        return subject + " to " + recipient;
+    }
+}
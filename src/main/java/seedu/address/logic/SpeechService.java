@@ -0,0 +1,178 @@
+package seedu.address.logic;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.sun.speech.freetts.Voice;
+import com.sun.speech.freetts.VoiceManager;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Speaks utterances one at a time on a single background thread, using a voice that is only allocated once.
+ *
+ * At most {@value #MAX_PENDING_UTTERANCES} utterances wait to be spoken. When more are requested, the oldest
+ * waiting utterances are dropped, as they are already stale, e.g. the names of persons that were selected in
+ * quick succession.
+ */
+public class SpeechService {
+
+    public static final int MAX_PENDING_UTTERANCES = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(SpeechService.class);
+
+    // Some available voices are (kevin, kevin16, alan)
+    // alan only have a limited number of vocabulary hence
+    // kevin16 is used for ensure all words can be turned into speech
+    private static final String VOICE_NAME = "kevin16";
+
+    private static SpeechService instance;
+
+    private final Supplier<Speaker> speakerFactory;
+    private final ThreadPoolExecutor executor;
+    private volatile boolean isEnabled = true;
+    // only accessed by the worker thread
+    private Speaker speaker;
+
+    SpeechService(Supplier<Speaker> speakerFactory) {
+        this.speakerFactory = requireNonNull(speakerFactory);
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_PENDING_UTTERANCES), SpeechService::createWorkerThread,
+                new ThreadPoolExecutor.DiscardOldestPolicy());
+    }
+
+    /**
+     * Returns the thread that speaks the utterances.
+     */
+    private static Thread createWorkerThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "Text to speech");
+        // speech must not keep the app running
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public static synchronized SpeechService getInstance() {
+        if (instance == null) {
+            instance = new SpeechService(FreeTtsSpeaker::new);
+        }
+        return instance;
+    }
+
+    /**
+     * Enables or disables speech. Utterances requested while speech is disabled are dropped.
+     */
+    public void setEnabled(boolean isEnabled) {
+        this.isEnabled = isEnabled;
+        if (!isEnabled) {
+            executor.getQueue().clear();
+        }
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Allocates the voice in the background, so that the first utterance is not delayed by it.
+     */
+    public void prepare() {
+        if (isEnabled) {
+            executor.execute(this::getSpeaker);
+        }
+    }
+
+    /**
+     * Queues {@code utterance} to be spoken after the utterances before it. Returns immediately.
+     */
+    public void speak(String utterance) {
+        requireNonNull(utterance);
+        if (!isEnabled || executor.isShutdown()) {
+            return;
+        }
+        executor.execute(() -> {
+            Speaker currentSpeaker = getSpeaker();
+            if (currentSpeaker != null && isEnabled) {
+                currentSpeaker.speak(utterance);
+            }
+        });
+    }
+
+    /**
+     * Drops the utterances that are not spoken yet and releases the voice once the current utterance is spoken.
+     */
+    public void shutdown() {
+        executor.getQueue().clear();
+        executor.execute(() -> {
+            if (speaker != null) {
+                speaker.close();
+                speaker = null;
+            }
+        });
+        executor.shutdown();
+    }
+
+    /**
+     * Returns the speaker, creating it if this is the first utterance.
+     * Disables speech if the speaker cannot be created. Must be called on the worker thread.
+     */
+    private Speaker getSpeaker() {
+        if (speaker == null && isEnabled) {
+            try {
+                speaker = speakerFactory.get();
+            } catch (RuntimeException re) {
+                logger.warning("Text to speech is not available, disabling it: " + re.getMessage());
+                setEnabled(false);
+            }
+        }
+        return speaker;
+    }
+
+    /**
+     * Speaks utterances with an allocated voice.
+     */
+    interface Speaker {
+        /**
+         * Speaks {@code utterance}, returning once it has been spoken.
+         */
+        void speak(String utterance);
+
+        /**
+         * Releases the voice.
+         */
+        void close();
+    }
+
+    /**
+     * A {@code Speaker} that uses a FreeTTS voice.
+     */
+    private static class FreeTtsSpeaker implements Speaker {
+        private final Voice voice;
+
+        FreeTtsSpeaker() {
+            voice = VoiceManager.getInstance().getVoice(VOICE_NAME);
+            if (voice == null) {
+                throw new IllegalStateException("Voice " + VOICE_NAME + " cannot be found");
+            }
+            //Voice settings to adjust how it sound like
+            voice.setRate(120f);
+            voice.setPitchShift(1.5f);
+            voice.setVolume(200f);
+            voice.allocate();
+        }
+
+        @Override
+        public void speak(String utterance) {
+            voice.speak(utterance);
+        }
+
+        @Override
+        public void close() {
+            voice.deallocate();
+        }
+    }
+}
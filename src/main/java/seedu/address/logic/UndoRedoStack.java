@@ -1,7 +1,10 @@
 package seedu.address.logic;
 
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.Stack;
 
+import seedu.address.commons.core.Config;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.UndoCommand;
@@ -10,14 +13,31 @@ import seedu.address.logic.commands.UndoableCommand;
 /**
  * Maintains the undo-stack (the stack of commands that can be undone) and the redo-stack (the stack of
  * commands that can be undone).
+ * The oldest commands in the undo-stack are discarded once the number of commands, or the number of persons
+ * held by the commands (see {@link UndoableCommand#getUndoDataSize()}), exceeds the configured limits.
  */
 public class UndoRedoStack {
     private Stack<UndoableCommand> undoStack;
     private Stack<UndoableCommand> redoStack;
+    private final int maxDepth;
+    private final int maxUndoDataSize;
+    private int undoDataSize;
 
     public UndoRedoStack() {
+        this(Config.DEFAULT_UNDO_STACK_MAX_DEPTH, Config.DEFAULT_UNDO_STACK_MAX_PERSONS);
+    }
+
+    /**
+     * @param maxDepth the maximum number of commands in the undo-stack and the redo-stack combined.
+     * @param maxUndoDataSize the maximum number of persons held by the commands in both stacks.
+     */
+    public UndoRedoStack(int maxDepth, int maxUndoDataSize) {
+        checkArgument(maxDepth >= 0, "Maximum depth cannot be negative");
+        checkArgument(maxUndoDataSize >= 0, "Maximum undo data size cannot be negative");
         undoStack = new Stack<>();
         redoStack = new Stack<>();
+        this.maxDepth = maxDepth;
+        this.maxUndoDataSize = maxUndoDataSize;
     }
 
     /**
@@ -26,6 +46,7 @@ public class UndoRedoStack {
      */
     public void push(Command command) {
         if (!(command instanceof UndoCommand) && !(command instanceof RedoCommand)) {
+            redoStack.forEach(redoCommand -> undoDataSize -= redoCommand.getUndoDataSize());
             redoStack.clear();
         }
 
@@ -33,7 +54,20 @@ public class UndoRedoStack {
             return;
         }
 
-        undoStack.add((UndoableCommand) command);
+        UndoableCommand undoableCommand = (UndoableCommand) command;
+        undoStack.add(undoableCommand);
+        undoDataSize += undoableCommand.getUndoDataSize();
+        discardOldestCommands();
+    }
+
+    /**
+     * Discards commands from the bottom of the undo-stack until the stacks are within their limits.
+     */
+    private void discardOldestCommands() {
+        while (!undoStack.empty()
+                && (undoStack.size() + redoStack.size() > maxDepth || undoDataSize > maxUndoDataSize)) {
+            undoDataSize -= undoStack.remove(0).getUndoDataSize();
+        }
     }
 
     /**
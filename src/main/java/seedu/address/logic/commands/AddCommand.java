@@ -13,6 +13,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
  * Adds a person to the address book.
@@ -70,6 +71,15 @@ public class AddCommand extends UndoableCommand {
 
     }
 
+    @Override
+    protected void revertUndoableCommand() {
+        try {
+            model.deletePerson(toAdd);
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("The added person cannot be missing");
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
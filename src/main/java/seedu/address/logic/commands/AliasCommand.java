@@ -22,6 +22,8 @@ public class AliasCommand extends UndoableCommand {
     private final String alias;
     private final String command;
 
+    private String previousCommand;
+
     public AliasCommand() {
         this.alias = null;
         this.command = null;
@@ -46,6 +48,7 @@ public class AliasCommand extends UndoableCommand {
             return new CommandResult(String.format(MESSAGE_LIST_SUCCESS, output));
         }
 
+        previousCommand = aliases.getCommand(alias);
         aliases.addAlias(alias, command);
         //@@author hanselblack
         //Text to Speech
@@ -55,6 +58,25 @@ public class AliasCommand extends UndoableCommand {
         return new CommandResult(String.format(MESSAGE_ADD_SUCCESS, alias, command));
     }
 
+    @Override
+    protected void revertUndoableCommand() {
+        if (alias == null && command == null) {
+            return;
+        }
+
+        Aliases aliases = UserPrefs.getInstance().getAliases();
+        if (previousCommand == null) {
+            aliases.removeAlias(alias);
+        } else {
+            aliases.addAlias(alias, previousCommand);
+        }
+    }
+
+    @Override
+    public int getUndoDataSize() {
+        return 0;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 
 import seedu.address.logic.TextToSpeech;
 import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Clears the address book.
@@ -13,9 +14,12 @@ public class ClearCommand extends UndoableCommand {
     public static final String COMMAND_WORD = "clear";
     public static final String MESSAGE_SUCCESS = "Address book has been cleared!";
 
+    private ReadOnlyAddressBook clearedAddressBook;
+
     @Override
     public CommandResult executeUndoableCommand() {
         requireNonNull(model);
+        clearedAddressBook = new AddressBook(model.getAddressBook());
         model.resetData(new AddressBook());
         //@@author hanselblack
         //Text to Speech
@@ -24,4 +28,15 @@ public class ClearCommand extends UndoableCommand {
         return new CommandResult(MESSAGE_SUCCESS);
     }
 
+    @Override
+    protected void revertUndoableCommand() {
+        requireNonNull(clearedAddressBook);
+        model.resetData(clearedAddressBook);
+    }
+
+    @Override
+    public int getUndoDataSize() {
+        return clearedAddressBook == null ? 0 : clearedAddressBook.getPersonList().size();
+    }
+
 }
@@ -7,6 +7,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.TextToSpeech;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 /**
@@ -25,6 +26,9 @@ public class DeleteCommand extends UndoableCommand {
 
     private final Index targetIndex;
 
+    private ReadOnlyPerson deletedPerson;
+    private int deletedPersonPosition;
+
     public DeleteCommand(Index targetIndex) {
         this.targetIndex = targetIndex;
     }
@@ -44,6 +48,8 @@ public class DeleteCommand extends UndoableCommand {
         }
 
         ReadOnlyPerson personToDelete = lastShownList.get(targetIndex.getZeroBased());
+        deletedPerson = personToDelete;
+        deletedPersonPosition = model.getAddressBook().getPersonList().indexOf(personToDelete);
 
         try {
             model.deletePerson(personToDelete);
@@ -57,6 +63,15 @@ public class DeleteCommand extends UndoableCommand {
         return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
     }
 
+    @Override
+    protected void revertUndoableCommand() {
+        try {
+            model.addPerson(deletedPersonPosition, deletedPerson);
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError("The deleted person cannot be in the address book");
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
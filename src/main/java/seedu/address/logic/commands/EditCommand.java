@@ -58,6 +58,9 @@ public class EditCommand extends UndoableCommand {
     private final Index index;
     private final EditPersonDescriptor editPersonDescriptor;
 
+    private ReadOnlyPerson originalPerson;
+    private ReadOnlyPerson editedPerson;
+
     /**
      * @param index of the person in the filtered person list to edit
      * @param editPersonDescriptor details to edit the person with
@@ -88,6 +91,8 @@ public class EditCommand extends UndoableCommand {
         } catch (PersonNotFoundException pnfe) {
             throw new AssertionError("The target person cannot be missing");
         }
+        this.originalPerson = personToEdit;
+        this.editedPerson = editedPerson;
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         //@@author hanselblack
         //Text to Speech
@@ -96,6 +101,22 @@ public class EditCommand extends UndoableCommand {
         return new CommandResult(String.format(MESSAGE_EDIT_PERSON_SUCCESS, editedPerson));
     }
 
+    @Override
+    protected void revertUndoableCommand() {
+        try {
+            model.updatePerson(editedPerson, originalPerson);
+        } catch (DuplicatePersonException dpe) {
+            throw new AssertionError("The original person cannot be a duplicate of another person");
+        } catch (PersonNotFoundException pnfe) {
+            throw new AssertionError("The edited person cannot be missing");
+        }
+    }
+
+    @Override
+    public int getUndoDataSize() {
+        return 2;
+    }
+
     /**
      * Creates and returns a {@code Person} with the details of {@code personToEdit}
      * edited with {@code editPersonDescriptor}.
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import java.util.function.Predicate;
 
 import seedu.address.logic.TextToSpeech;
+import seedu.address.model.person.ReadOnlyPerson;
 
 //@@author nicholaschuayunzhi
 /**
@@ -18,12 +19,16 @@ public class FindCommand extends Command {
             + "Parameters: PREFIX/KEYWORD [MORE_PREFIX/KEYWORDS]...\n"
             + "Example: " + COMMAND_WORD + " n/alice a/Blk 100 Street t/friend";
 
-    private final Predicate predicate;
+    private final Predicate<ReadOnlyPerson> predicate;
 
-    public FindCommand(Predicate predicate) {
+    public FindCommand(Predicate<ReadOnlyPerson> predicate) {
         this.predicate = predicate;
     }
 
+    public Predicate<ReadOnlyPerson> getPredicate() {
+        return predicate;
+    }
+
     @Override
     public CommandResult execute() {
         model.updateFilteredPersonList(predicate);
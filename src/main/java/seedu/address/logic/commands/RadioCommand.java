@@ -1,10 +1,11 @@
 package seedu.address.logic.commands;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 
 import java.util.Arrays;
 
-import seedu.address.logic.InternetConnectionCheck;
+import seedu.address.logic.ConnectivityMonitor;
 import seedu.address.logic.TextToSpeech;
 import seedu.address.logic.threads.Radio;
 
@@ -29,6 +30,7 @@ public class RadioCommand extends Command {
     public static final String MESSAGE_STOP = "Radio Stopped";
     public static final String MESSAGE_SUCCESS = "Radio Playing";
     public static final String MESSAGE_NO_INTERNET = "Not Connected to the Internet";
+    public static final String MESSAGE_CHECKING_INTERNET = "Checking the Internet connection, please try again shortly";
 
     private static boolean isRadioPlaying = false;
     private static Radio radio;
@@ -36,14 +38,24 @@ public class RadioCommand extends Command {
     private String command;
     private String genre = "pop";
     private String[] genreList = {"chinese", "classic", "news", "pop"};
+    private final ConnectivityMonitor connectivityMonitor;
 
     public RadioCommand(String command, String genre) {
-        this.command = command;
-        this.genre = genre;
+        this(command, genre, ConnectivityMonitor.getInstance());
     }
 
     public RadioCommand(String command) {
         this.command = command;
+        this.connectivityMonitor = ConnectivityMonitor.getInstance();
+    }
+
+    /**
+     * Creates a command that checks the connection with {@code connectivityMonitor} before playing the radio.
+     */
+    RadioCommand(String command, String genre, ConnectivityMonitor connectivityMonitor) {
+        this.command = command;
+        this.genre = genre;
+        this.connectivityMonitor = requireNonNull(connectivityMonitor);
     }
 
     /**
@@ -77,7 +89,8 @@ public class RadioCommand extends Command {
         switch (command) {
         case "play":
             if (genreExist) {
-                if (InternetConnectionCheck.isConnectedToInternet()) {
+                ConnectivityMonitor.Status connectionStatus = connectivityMonitor.getStatus();
+                if (connectionStatus == ConnectivityMonitor.Status.CONNECTED) {
                     if (MusicCommand.getIsMusicPlaying()) {
                         MusicCommand.stopMusicPlayer();
                         MusicCommand.setIsMusicPlaying(false);
@@ -91,6 +104,11 @@ public class RadioCommand extends Command {
                     //Text to Speech
                     new TextToSpeech(printedSuccessMessage).speak();
                     return new CommandResult(printedSuccessMessage);
+                } else if (connectionStatus == ConnectivityMonitor.Status.UNKNOWN) {
+                    // the stream would fail silently without a connection, so the radio is only played once the
+                    // connection is known, which the probe requested here finds out in the background
+                    connectivityMonitor.refresh();
+                    return new CommandResult(MESSAGE_CHECKING_INTERNET);
                 } else {
                     return new CommandResult(MESSAGE_NO_INTERNET);
                 }
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SHARE;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.mail.internet.AddressException;
@@ -11,12 +12,14 @@ import javax.mail.internet.InternetAddress;
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.exceptions.IllegalValueException;
-import seedu.address.logic.InternetConnectionCheck;
+import seedu.address.logic.ConnectivityMonitor;
+import seedu.address.logic.MailDeliveryService;
+import seedu.address.logic.OutgoingMail;
 import seedu.address.logic.TextToSpeech;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.ParserUtil;
-import seedu.address.logic.threads.SendEmail;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
 
 
 
@@ -34,20 +37,32 @@ public class ShareCommand extends Command {
             + "Example: " + COMMAND_WORD + " 1 "
             + PREFIX_SHARE + "EMAIL ADDRESS";
 
-    public static final String MESSAGE_SUCCESS = "Email Sent!";
+    public static final String MESSAGE_SUCCESS = "Sending email...";
     public static final String MESSAGE_EMAIL_NOT_VALID = "Email address is not valid!";
-    public static final String MESSAGE_NO_INTERNET = "Not Connected to the Internet";
+    public static final String MESSAGE_NO_INTERNET =
+            "Not Connected to the Internet. The email will be sent once connected.";
 
     public static final String MESSAGE_FAILURE = "Email was not sent!";
 
-    private static SendEmail sendEmail;
-
     private Index targetIndex;
     private String[] shareEmailArray;
+    private final ConnectivityMonitor connectivityMonitor;
+    private final MailDeliveryService mailDeliveryService;
 
     public ShareCommand(Index targetIndex, String[] shareEmailArray) {
+        this(targetIndex, shareEmailArray, ConnectivityMonitor.getInstance(), MailDeliveryService.getInstance());
+    }
+
+    /**
+     * Creates a command that sends the emails through {@code mailDeliveryService}, and tells the user whether
+     * they wait for the connection with {@code connectivityMonitor}.
+     */
+    ShareCommand(Index targetIndex, String[] shareEmailArray, ConnectivityMonitor connectivityMonitor,
+                 MailDeliveryService mailDeliveryService) {
         this.targetIndex = targetIndex;
         this.shareEmailArray = shareEmailArray;
+        this.connectivityMonitor = requireNonNull(connectivityMonitor);
+        this.mailDeliveryService = requireNonNull(mailDeliveryService);
     }
 
     @Override
@@ -60,42 +75,77 @@ public class ShareCommand extends Command {
             throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
         }
 
-        if (InternetConnectionCheck.isConnectedToInternet()) {
-            ReadOnlyPerson person = lastShownList.get(targetIndex.getZeroBased());
-            String to;
-
-            for (int index = 0; index < shareEmailArray.length; index++) {
-                to = shareEmailArray[index];
-                if (isNumeric(to)) {
-                    try {
-                        Index recipientIndex = ParserUtil.parseIndex(to);
-                        if (recipientIndex.getZeroBased() >= lastShownList.size()) {
-                            throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
-                        }
-                        ReadOnlyPerson personRecipient = lastShownList.get(recipientIndex.getZeroBased());
-                        to = personRecipient.getEmail().toString();
-
-                    } catch (IllegalValueException ive) {
-                        //Text to Speech
-                        new TextToSpeech(MESSAGE_FAILURE).speak();
-                        return new CommandResult(MESSAGE_FAILURE);
+        ReadOnlyPerson person = lastShownList.get(targetIndex.getZeroBased());
+        List<OutgoingMail> mails = new ArrayList<>();
+        String to;
+
+        for (int index = 0; index < shareEmailArray.length; index++) {
+            to = shareEmailArray[index];
+            if (isNumeric(to)) {
+                try {
+                    Index recipientIndex = ParserUtil.parseIndex(to);
+                    if (recipientIndex.getZeroBased() >= lastShownList.size()) {
+                        throw new CommandException(Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX);
                     }
-                }
-                if (isValidEmailAddress(to)) {
-                    sendEmail = new SendEmail(to, person);
-                    sendEmail.start();
-                } else {
+                    ReadOnlyPerson personRecipient = lastShownList.get(recipientIndex.getZeroBased());
+                    to = personRecipient.getEmail().toString();
+
+                } catch (IllegalValueException ive) {
                     //Text to Speech
-                    new TextToSpeech(MESSAGE_EMAIL_NOT_VALID).speak();;
-                    return new CommandResult(MESSAGE_EMAIL_NOT_VALID);
+                    new TextToSpeech(MESSAGE_FAILURE).speak();
+                    return new CommandResult(MESSAGE_FAILURE);
                 }
             }
-            //Text to Speech
-            new TextToSpeech(MESSAGE_SUCCESS).speak();;
-            return new CommandResult(MESSAGE_SUCCESS);
-        } else {
-            return new CommandResult(MESSAGE_NO_INTERNET);
+            if (isValidEmailAddress(to)) {
+                mails.add(createContactDetailsMail(to, person));
+            } else {
+                //Text to Speech
+                new TextToSpeech(MESSAGE_EMAIL_NOT_VALID).speak();;
+                return new CommandResult(MESSAGE_EMAIL_NOT_VALID);
+            }
+        }
+
+        // only sent once every recipient is known to be valid, and kept in the outbox until sent while offline
+        mailDeliveryService.send(mails);
+        String message = connectivityMonitor.isDisconnected() ? MESSAGE_NO_INTERNET : MESSAGE_SUCCESS;
+        //Text to Speech
+        new TextToSpeech(message).speak();
+        return new CommandResult(message);
+    }
+
+    /**
+     * Returns an email to {@code recipient} with the contact details of {@code person}.
+     */
+    private static OutgoingMail createContactDetailsMail(String recipient, ReadOnlyPerson person) {
+        String name = person.getName().fullName;
+        String phone = person.getPhone().toString();
+        String address = person.getAddress().toString();
+        String email = person.getEmail().toString();
+        String remark  = person.getRemark().toString();
+        String tags = "";
+        for (Tag tag :  person.getTags()) {
+            tags += tag.tagName + " ";
         }
+        String content = "<img src='https://github.com/CS2103AUG2017-W11-B4/"
+                + "main/blob/master/docs/images/email_header.png?raw=true'/>"
+                + "<br/><br/><br/><img src='https://github.com/CS2103AUG2017-W11-B4/"
+                + "main/blob/master/docs/images/email_subheader.png?raw=true'/>"
+                + "<br/><br/>"
+                + "<table>"
+                + "<tr><td style=\"height:20px; width:80px; margin:0;\">"
+                + "<b>Name</b></td><td>" + name + "</td></tr>"
+                + "<tr><td style=\"height:20px; width:80px; margin:0;\">"
+                + "<b>Phone</b></td><td>" + phone + "</td></tr>"
+                + "<tr><td style=\"height:20px; width:80px; margin:0;\">"
+                + "<b>Address</b></td><td>" + address + "</td></tr>"
+                + "<tr><td style=\"height:20px; width:80px; margin:0;\">"
+                + "<b>Email</b></td><td>" + email + "</td></tr>"
+                + "<tr><td style=\"height:20px; width:80px; margin:0;\">"
+                + "<b>Remark</b></td><td>" + remark + "</td></tr>"
+                + "<tr><td style=\"height:20px; width:80px; margin:0;\">"
+                + "<b>Tags</b></td><td>" + tags + "</td></tr>"
+                + "</table>";
+        return new OutgoingMail(recipient, "Unify: Address Book: " + name + " Exported Data", content);
     }
 
     /**
@@ -23,6 +23,8 @@ public class UnaliasCommand extends UndoableCommand {
 
     private final String alias;
 
+    private String removedCommand;
+
     public UnaliasCommand(String alias) {
         this.alias = alias;
     }
@@ -31,6 +33,7 @@ public class UnaliasCommand extends UndoableCommand {
     public CommandResult executeUndoableCommand() throws CommandException {
         Aliases aliases = UserPrefs.getInstance().getAliases();
 
+        removedCommand = aliases.getCommand(alias);
         try {
             aliases.removeAlias(alias);
         } catch (NoSuchElementException e) {
@@ -41,6 +44,16 @@ public class UnaliasCommand extends UndoableCommand {
         return new CommandResult(String.format(MESSAGE_SUCCESS, alias));
     }
 
+    @Override
+    protected void revertUndoableCommand() {
+        UserPrefs.getInstance().getAliases().addAlias(alias, removedCommand);
+    }
+
+    @Override
+    public int getUndoDataSize() {
+        return 0;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
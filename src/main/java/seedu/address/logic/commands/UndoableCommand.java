@@ -1,27 +1,30 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
-import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
 import seedu.address.logic.commands.exceptions.CommandException;
-import seedu.address.model.AddressBook;
-import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Represents a command which can be undone and redone.
+ * Instead of keeping a copy of the whole address book, each command records just enough
+ * of the data it changed to be able to apply the inverse of its changes.
  */
 public abstract class UndoableCommand extends Command {
-    private ReadOnlyAddressBook previousAddressBook;
 
     protected abstract CommandResult executeUndoableCommand() throws CommandException;
 
     /**
-     * Stores the current state of {@code model#addressBook}.
+     * Reverts the changes made to the model by the last execution of {@link #executeUndoableCommand()}.
      */
-    private void saveAddressBookSnapshot() {
-        requireNonNull(model);
-        this.previousAddressBook = new AddressBook(model.getAddressBook());
+    protected abstract void revertUndoableCommand();
+
+    /**
+     * Returns the number of persons this command holds on to in order to be undone.
+     * Used by {@code UndoRedoStack} to limit the memory used by the undo history.
+     */
+    public int getUndoDataSize() {
+        return 1;
     }
 
     /**
@@ -30,8 +33,8 @@ public abstract class UndoableCommand extends Command {
      * show all persons.
      */
     protected final void undo() {
-        requireAllNonNull(model, previousAddressBook);
-        model.resetData(previousAddressBook);
+        requireNonNull(model);
+        revertUndoableCommand();
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -52,7 +55,6 @@ public abstract class UndoableCommand extends Command {
 
     @Override
     public final CommandResult execute() throws CommandException {
-        saveAddressBookSnapshot();
         return executeUndoableCommand();
     }
 }
@@ -69,6 +69,12 @@ public class AddCommandHint extends ArgumentsHint {
             return;
         }
 
+        // can we complete the value being typed
+        // case: add n/Ali|
+        if (handleValueCompletion(PREFIXES)) {
+            return;
+        }
+
         // we should offer a hint
         // case: add n/* |
         handleOfferHint(PREFIXES);
@@ -1,8 +1,10 @@
 package seedu.address.logic.commands.hints;
 
 import java.util.List;
+import java.util.Optional;
 
 import seedu.address.commons.util.HintUtil;
+import seedu.address.logic.Autocomplete;
 import seedu.address.logic.parser.Prefix;
 
 //@@author nicholaschuayunzhi
@@ -66,6 +68,31 @@ public abstract class ArgumentsHint extends Hint {
         return currentPrefix;
     }
 
+    /**
+     * Should be used when a value is being typed after a prefix (ie n/Ali|)
+     * {@code prefixList} whose values may be completed from the persons in the addressbook
+     * updates {@code onTab} to return {@code userInput} with the value completed
+     * returns false if there is no value to complete
+     */
+    protected boolean handleValueCompletion(List<Prefix> prefixList) {
+        Optional<Prefix> prefix = HintUtil.findPrefixOfValueBeingTyped(arguments, prefixList);
+        if (!prefix.isPresent()) {
+            return false;
+        }
+
+        String value = HintUtil.getValueBeingTyped(arguments, prefix.get());
+        Optional<String> completedValue = Autocomplete.autocompleteFieldValue(prefix.get(), value);
+        if (!completedValue.isPresent() || completedValue.get().length() <= value.length()) {
+            return false;
+        }
+
+        argumentHint = completedValue.get().substring(value.length());
+        description = getDescription(prefix.get());
+        onTab = userInput.substring(0, userInput.length() - value.length()) + completedValue.get();
+        LOGGER.info("ArgumentsHint - Handled Value Completion");
+        return true;
+    }
+
     /**
      * Should be used when you want the addressbook to offer the next argument (ie n/nicholas |)
      * {@code prefixList} to generate the next prefix hint
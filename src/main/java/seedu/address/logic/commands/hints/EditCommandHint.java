@@ -75,6 +75,12 @@ public class EditCommandHint extends ArgumentsHint {
             return;
         }
 
+        // can we complete the value being typed
+        // case: edit 1 n/Ali|
+        if (handleValueCompletion(PREFIXES)) {
+            return;
+        }
+
         // we should offer a hint
         // case: edit 1 n/* |
         handleOfferHint(PREFIXES);
@@ -69,6 +69,12 @@ public class FindCommandHint extends ArgumentsHint {
             return;
         }
 
+        // can we complete the value being typed
+        // case: find n/Ali|
+        if (handleValueCompletion(PREFIXES)) {
+            return;
+        }
+
         // we should offer a hint
         // case: find n/* |
 
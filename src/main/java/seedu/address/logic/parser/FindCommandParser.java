@@ -20,6 +20,7 @@ import seedu.address.model.person.EmailContainsKeywordPredicate;
 import seedu.address.model.person.NameContainsKeywordPredicate;
 import seedu.address.model.person.PersonContainsFieldsPredicate;
 import seedu.address.model.person.PhoneContainsKeywordPredicate;
+import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.RemarkContainsKeywordPredicate;
 import seedu.address.model.person.TagsContainKeywordPredicate;
 
@@ -60,7 +61,7 @@ public class FindCommandParser implements Parser<FindCommand> {
                 ArgumentTokenizer.tokenize(formattedText,
                         PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_REMARK);
 
-        List<Predicate> predicateList = new ArrayList<>();
+        List<Predicate<ReadOnlyPerson>> predicateList = new ArrayList<>();
 
         for (Prefix prefix : LIST_OF_PREFIXES) {
             for (String value : argumentMultimap.getAllValues(prefix)) {
@@ -77,7 +78,7 @@ public class FindCommandParser implements Parser<FindCommand> {
      * Takes in {@code value} and {@code prefix}
      * returns {@code Predicate} that checks for the value in person's field based on prefix
      */
-    private Predicate valueAndPrefixIntoPredicate(String value, Prefix prefix) {
+    private Predicate<ReadOnlyPerson> valueAndPrefixIntoPredicate(String value, Prefix prefix) {
         switch (prefix.toString()) {
         case CliSyntax.PREFIX_NAME_STRING:
             return new NameContainsKeywordPredicate(value);
@@ -2,10 +2,8 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.List;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Objects;
 import java.util.Set;
 
@@ -16,6 +14,7 @@ import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
 import seedu.address.model.tag.UniqueTagList;
 
 /**
@@ -25,7 +24,9 @@ import seedu.address.model.tag.UniqueTagList;
 public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
-    private final UniqueTagList tags;
+    private final TagRegistry tags;
+    // false while the persons are read lazily and their tags have not been registered yet
+    private boolean areTagsRegistered;
 
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
@@ -36,7 +37,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     {
         persons = new UniquePersonList();
-        tags = new UniqueTagList();
+        tags = new TagRegistry();
+        areTagsRegistered = true;
     }
 
     public AddressBook() {}
@@ -51,113 +53,140 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     //// list overwrite operations
 
-    public void setPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
-        this.persons.setPersons(persons);
-    }
-
-    public void setTags(Set<Tag> tags) {
-        this.tags.setTags(tags);
-    }
-
     /**
      * Resets the existing data of this {@code AddressBook} with {@code newData}.
+     * The tags in {@code newData} that no person has are kept.
      */
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
         try {
-            setPersons(newData.getPersonList());
+            persons.setPersons(newData.getPersonList());
         } catch (DuplicatePersonException e) {
             assert false : "AddressBooks should not have duplicate persons";
         }
 
-        setTags(new HashSet<>(newData.getTagList()));
-        syncMasterTagListWith(persons);
+        tags.clear();
+        if (persons.isLazy()) {
+            // reading every person to register its tags would defeat reading them lazily,
+            // so the tags of newData are only listed until the persons are needed
+            addTags(newData.getTagList());
+            areTagsRegistered = false;
+            return;
+        }
+        registerTags(newData.getTagList());
+    }
+
+    /**
+     * Registers the tags of all persons with {@link #tags}, after which {@link #tags} only holds those tags
+     * and the tags in {@code otherTags}.
+     */
+    private void registerTags(Collection<Tag> otherTags) {
+        tags.clear();
+        for (Person person : persons) {
+            person.setTags(tags.intern(person.getTags()));
+            tags.register(person);
+        }
+        addTags(otherTags);
+        areTagsRegistered = true;
+    }
+
+    /**
+     * Adds the tags in {@code tagsToAdd} that are not in {@link #tags} yet.
+     */
+    private void addTags(Collection<Tag> tagsToAdd) {
+        for (Tag tag : tagsToAdd) {
+            if (!tags.contains(tag)) {
+                try {
+                    tags.add(tag);
+                } catch (UniqueTagList.DuplicateTagException e) {
+                    assert false : "Tags already in the registry are not added";
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers the tags of lazily read persons, if they have not been registered yet.
+     */
+    private void ensureTagsRegistered() {
+        if (!areTagsRegistered) {
+            registerTags(new ArrayList<>(tags.asObservableList()));
+        }
     }
 
     //// person-level operations
 
     /**
      * Adds a person to the address book.
-     * Also checks the new person's tags and updates {@link #tags} with any new tags found,
-     * and updates the Tag objects in the person to point to those in {@link #tags}.
+     * Also adds the new person's tags to {@link #tags}, and updates the Tag objects in the person to point
+     * to those in {@link #tags}.
      *
      * @throws DuplicatePersonException if an equivalent person already exists.
      */
     public void addPerson(ReadOnlyPerson p) throws DuplicatePersonException {
-        Person newPerson = new Person(p);
-        syncMasterTagListWith(newPerson);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
-        persons.add(newPerson);
+        addPerson(persons.asObservableList().size(), p);
+    }
+
+    /**
+     * Adds a person to the address book at the given position of the person list.
+     *
+     * @throws DuplicatePersonException if an equivalent person already exists.
+     * @see #addPerson(ReadOnlyPerson)
+     */
+    public void addPerson(int position, ReadOnlyPerson p) throws DuplicatePersonException {
+        ensureTagsRegistered();
+        Person newPerson = persons.add(position, p);
+        newPerson.setTags(tags.intern(newPerson.getTags()));
+        tags.register(newPerson);
     }
 
     /**
      * Replaces the given person {@code target} in the list with {@code editedReadOnlyPerson}.
-     * {@code AddressBook}'s tag list will be updated with the tags of {@code editedReadOnlyPerson}.
+     * {@code AddressBook}'s tag list will be updated with the tags of {@code editedReadOnlyPerson},
+     * and tags that no person has any more are removed from it.
      *
      * @throws DuplicatePersonException if updating the person's details causes the person to be equivalent to
      *      another existing person in the list.
      * @throws PersonNotFoundException if {@code target} could not be found in the list.
-     *
-     * @see #syncMasterTagListWith(Person)
      */
     public void updatePerson(ReadOnlyPerson target, ReadOnlyPerson editedReadOnlyPerson)
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedReadOnlyPerson);
+        ensureTagsRegistered();
 
-        Person editedPerson = new Person(editedReadOnlyPerson);
-        syncMasterTagListWith(editedPerson);
-        // TODO: the tags master list will be updated even though the below line fails.
-        // This can cause the tags master list to have additional tags that are not tagged to any person
-        // in the person list.
-        persons.setPerson(target, editedPerson);
+        Person replacedPerson = persons.setPerson(target, editedReadOnlyPerson);
+        Person editedPerson = persons.get(editedReadOnlyPerson);
+        tags.unregister(replacedPerson);
+        editedPerson.setTags(tags.intern(editedPerson.getTags()));
+        tags.register(editedPerson);
     }
 
     /**
-     * Ensures that every tag in this person:
-     *  - exists in the master list {@link #tags}
-     *  - points to a Tag object in the master list
-     */
-    private void syncMasterTagListWith(Person person) {
-        final UniqueTagList personTags = new UniqueTagList(person.getTags());
-        tags.mergeFrom(personTags);
-
-        // Create map with values = tag object references in the master list
-        // used for checking person tag references
-        final Map<Tag, Tag> masterTagObjects = new HashMap<>();
-        tags.forEach(tag -> masterTagObjects.put(tag, tag));
-
-        // Rebuild the list of person tags to point to the relevant tags in the master tag list.
-        final Set<Tag> correctTagReferences = new HashSet<>();
-        personTags.forEach(tag -> correctTagReferences.add(masterTagObjects.get(tag)));
-        person.setTags(correctTagReferences);
-    }
-
-    /**
-     * Ensures that every tag in these persons:
-     *  - exists in the master list {@link #tags}
-     *  - points to a Tag object in the master list
-     *  @see #syncMasterTagListWith(Person)
+     * Removes {@code key} from this {@code AddressBook}, along with the tags that no other person has.
+     * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
      */
-    private void syncMasterTagListWith(UniquePersonList persons) {
-        persons.forEach(this::syncMasterTagListWith);
+    public boolean removePerson(ReadOnlyPerson key) throws PersonNotFoundException {
+        ensureTagsRegistered();
+        Person removedPerson = persons.remove(key);
+        tags.unregister(removedPerson);
+        return true;
     }
 
     /**
-     * Removes {@code key} from this {@code AddressBook}.
-     * @throws PersonNotFoundException if the {@code key} is not in this {@code AddressBook}.
+     * Returns the persons that have a tag whose name contains {@code keyword}, ignoring case.
      */
-    public boolean removePerson(ReadOnlyPerson key) throws PersonNotFoundException {
-        if (persons.remove(key)) {
-            return true;
-        } else {
-            throw new PersonNotFoundException();
-        }
+    public Set<ReadOnlyPerson> getPersonsWithTagContaining(String keyword) {
+        ensureTagsRegistered();
+        return tags.getPersonsWithTagContaining(keyword);
     }
 
     //// tag-level operations
 
+    /**
+     * Adds a tag that is kept in the address book even when no person has it.
+     *
+     * @throws UniqueTagList.DuplicateTagException if an equivalent tag is already in the address book.
+     */
     public void addTag(Tag t) throws UniqueTagList.DuplicateTagException {
         tags.add(t);
     }
@@ -170,6 +199,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         // TODO: refine later
     }
 
+    /**
+     * Returns true if the persons of this address book are only read from the data file as they are accessed.
+     */
+    public boolean isLazy() {
+        return persons.isLazy();
+    }
+
     @Override
     public ObservableList<ReadOnlyPerson> getPersonList() {
         return persons.asObservableList();
@@ -185,7 +221,7 @@ public class AddressBook implements ReadOnlyAddressBook {
         return other == this // short circuit if same object
                 || (other instanceof AddressBook // instanceof handles nulls
                 && this.persons.equals(((AddressBook) other).persons)
-                && this.tags.equalsOrderInsensitive(((AddressBook) other).tags));
+                && this.tags.equals(((AddressBook) other).tags));
     }
 
     @Override
@@ -0,0 +1,142 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * Describes a single change made to an {@link AddressBook}, so that the change can be recorded
+ * and later applied again to an address book in the same state.
+ */
+public class AddressBookChange {
+
+    /**
+     * The kinds of changes that can be made to an address book.
+     * {@code RESET} stands for any change that replaces the data of the address book as a whole.
+     */
+    public enum Type { ADD, UPDATE, DELETE, RESET }
+
+    private static final AddressBookChange RESET = new AddressBookChange(Type.RESET, null, null, -1);
+
+    private final Type type;
+    private final ReadOnlyPerson target;
+    private final ReadOnlyPerson person;
+    private final int index;
+
+    private AddressBookChange(Type type, ReadOnlyPerson target, ReadOnlyPerson person, int index) {
+        this.type = type;
+        this.target = target;
+        this.person = person;
+        this.index = index;
+    }
+
+    /**
+     * Returns a change that adds {@code person} at {@code index} of the person list.
+     */
+    public static AddressBookChange add(int index, ReadOnlyPerson person) {
+        requireNonNull(person);
+        return new AddressBookChange(Type.ADD, null, person, index);
+    }
+
+    /**
+     * Returns a change that replaces {@code target} with {@code editedPerson}.
+     */
+    public static AddressBookChange update(ReadOnlyPerson target, ReadOnlyPerson editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        return new AddressBookChange(Type.UPDATE, target, editedPerson, -1);
+    }
+
+    /**
+     * Returns a change that deletes {@code target}.
+     */
+    public static AddressBookChange delete(ReadOnlyPerson target) {
+        requireNonNull(target);
+        return new AddressBookChange(Type.DELETE, target, null, -1);
+    }
+
+    /**
+     * Returns a change that replaces all the data of the address book.
+     */
+    public static AddressBookChange reset() {
+        return RESET;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns the person that is updated or deleted, or null for other changes.
+     */
+    public ReadOnlyPerson getTarget() {
+        return target;
+    }
+
+    /**
+     * Returns the person that is added, or the edited person of an update, or null for other changes.
+     */
+    public ReadOnlyPerson getPerson() {
+        return person;
+    }
+
+    /**
+     * Returns the position that the person is added at, or -1 for other changes.
+     */
+    public int getIndex() {
+        return index;
+    }
+
+    /**
+     * Makes this change to {@code addressBook}.
+     *
+     * @throws DuplicatePersonException if the change would cause duplicate persons in {@code addressBook}.
+     * @throws PersonNotFoundException if the person to change is not in {@code addressBook}.
+     * @throws UnsupportedOperationException if this is a {@code RESET} change, which does not carry the new data.
+     */
+    public void applyTo(AddressBook addressBook) throws DuplicatePersonException, PersonNotFoundException {
+        switch (type) {
+        case ADD:
+            addressBook.addPerson(index, person);
+            break;
+        case UPDATE:
+            addressBook.updatePerson(target, person);
+            break;
+        case DELETE:
+            addressBook.removePerson(target);
+            break;
+        default:
+            throw new UnsupportedOperationException("A reset cannot be applied to an address book");
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof AddressBookChange)) {
+            return false;
+        }
+
+        AddressBookChange otherChange = (AddressBookChange) other;
+        return type == otherChange.type
+                && Objects.equals(target, otherChange.target)
+                && Objects.equals(person, otherChange.person)
+                && index == otherChange.index;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, target, person, index);
+    }
+
+    @Override
+    public String toString() {
+        return type + (target == null ? "" : " " + target.getName()) + (person == null ? "" : " " + person);
+    }
+}
@@ -0,0 +1,48 @@
+package seedu.address.model;
+
+import java.util.Collection;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An immutable address book holding its own lists of persons and tags.
+ * Persons and tags are not modified once they are in an address book, so they are shared rather than copied.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<ReadOnlyPerson> persons;
+    private final ObservableList<Tag> tags;
+
+    public AddressBookSnapshot(ReadOnlyAddressBook addressBook) {
+        this(addressBook.getPersonList(), addressBook.getTagList());
+    }
+
+    public AddressBookSnapshot(Collection<? extends ReadOnlyPerson> persons, Collection<Tag> tags) {
+        this.persons = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(persons));
+        this.tags = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(tags));
+    }
+
+    /**
+     * Returns a snapshot of {@code addressBook}, which is {@code addressBook} itself if it is already a snapshot,
+     * so that an address book passed on from one snapshot taker to another is only copied once.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        if (addressBook instanceof AddressBookSnapshot) {
+            return (AddressBookSnapshot) addressBook;
+        }
+        return new AddressBookSnapshot(addressBook);
+    }
+
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.model;
 
-import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
+import seedu.address.commons.util.PrefixTrie;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.DeleteCommand;
 import seedu.address.logic.commands.EditCommand;
@@ -22,7 +24,10 @@ import seedu.address.logic.commands.SelectCommand;
  */
 public class Aliases {
 
-    private final Map<String, String> map = new HashMap<>();
+    // read by commands that are parsed in the background while the user types
+    private final Map<String, String> map = new ConcurrentHashMap<>();
+    // built on the first completion, as the map is replaced when the aliases are read from the preferences file
+    private transient PrefixTrie completions;
 
     /*
      * We initialise the map with aliases for frequently used commands. Users can add other aliases themselves.
@@ -57,11 +62,25 @@ public class Aliases {
         return map.get(alias);
     }
 
+    /**
+     * Returns the alphabetically first alias that starts with {@code prefix}, or {@code Optional.empty()} if
+     * there is none.
+     */
+    public synchronized Optional<String> completeAlias(String prefix) {
+        if (completions == null) {
+            completions = new PrefixTrie(true);
+            map.keySet().forEach(completions::add);
+        }
+        return completions.complete(prefix);
+    }
+
     /**
      * Adds or updates an alias to the map.
      */
-    public void addAlias(String alias, String command) {
-        map.put(alias, command);
+    public synchronized void addAlias(String alias, String command) {
+        if (map.put(alias, command) == null && completions != null) {
+            completions.add(alias);
+        }
     }
 
     /**
@@ -69,10 +88,13 @@ public class Aliases {
      *
      * @throws NoSuchElementException if no such alias exists
      */
-    public boolean removeAlias(String alias) throws NoSuchElementException {
+    public synchronized boolean removeAlias(String alias) throws NoSuchElementException {
         if (map.remove(alias) == null) {
             throw new NoSuchElementException();
         }
+        if (completions != null) {
+            completions.remove(alias);
+        }
         return true;
     }
 
@@ -0,0 +1,289 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * An unmodifiable view of the persons in a source list that are either all shown, or filtered by a predicate.
+ * Unlike a {@code FilteredList}, no person is tested while all of them are shown, so the persons of a lazily
+ * read address book are only read when they are accessed.
+ *
+ * While a predicate is set, the persons that are added to or changed in the source are tested against it.
+ */
+class FilteredPersonList extends ObservableListBase<ReadOnlyPerson> {
+
+    private final ObservableList<ReadOnlyPerson> source;
+    // null while every person is shown
+    private Predicate<? super ReadOnlyPerson> predicate;
+    // the positions in the source of the persons shown while a predicate is set, in ascending order
+    private int[] positions = new int[0];
+    private int size;
+    // the position of each person in the source, built when first needed after the source changes
+    private Map<ReadOnlyPerson, Integer> sourcePositions;
+
+    FilteredPersonList(ObservableList<ReadOnlyPerson> source) {
+        this.source = requireNonNull(source);
+        source.addListener(this::sourceChanged);
+    }
+
+    /**
+     * Shows every person in the source, without testing any of them.
+     */
+    void showAll() {
+        if (predicate == null) {
+            return;
+        }
+        List<ReadOnlyPerson> removed = new ArrayList<>(this);
+        predicate = null;
+        positions = new int[0];
+        size = 0;
+        replaceAll(removed);
+    }
+
+    /**
+     * Shows the persons in the source that match {@code predicate}, testing every person in the source.
+     */
+    void setPredicate(Predicate<? super ReadOnlyPerson> predicate) {
+        requireNonNull(predicate);
+        List<ReadOnlyPerson> removed = new ArrayList<>(this);
+        this.predicate = predicate;
+        positions = new int[source.size()];
+        size = 0;
+        for (int i = 0; i < source.size(); i++) {
+            if (predicate.test(source.get(i))) {
+                positions[size++] = i;
+            }
+        }
+        replaceAll(removed);
+    }
+
+    /**
+     * Shows the persons among {@code candidates} that match {@code predicate}, in the order of the source.
+     * Only the candidates are tested, so they must include every person in the source that matches
+     * {@code predicate}. Candidates that are not in the source are ignored.
+     */
+    void setPredicate(Predicate<? super ReadOnlyPerson> predicate, Collection<? extends ReadOnlyPerson> candidates) {
+        requireNonNull(predicate);
+        requireNonNull(candidates);
+        List<ReadOnlyPerson> removed = new ArrayList<>(this);
+        Map<ReadOnlyPerson, Integer> sourcePositions = getSourcePositions();
+        this.predicate = predicate;
+        positions = new int[candidates.size()];
+        size = 0;
+        for (ReadOnlyPerson candidate : candidates) {
+            Integer position = sourcePositions.get(candidate);
+            if (position != null && predicate.test(source.get(position))) {
+                positions[size++] = position;
+            }
+        }
+        Arrays.sort(positions, 0, size);
+        replaceAll(removed);
+    }
+
+    /**
+     * Returns the position of each person in the source.
+     */
+    private Map<ReadOnlyPerson, Integer> getSourcePositions() {
+        if (sourcePositions == null) {
+            sourcePositions = new HashMap<>(source.size() * 2);
+            for (int i = 0; i < source.size(); i++) {
+                sourcePositions.put(source.get(i), i);
+            }
+        }
+        return sourcePositions;
+    }
+
+    /**
+     * Reports that the persons in {@code removed} were replaced by every person now shown.
+     */
+    private void replaceAll(List<ReadOnlyPerson> removed) {
+        beginChange();
+        if (!removed.isEmpty()) {
+            nextRemove(0, removed);
+        }
+        if (size() > 0) {
+            nextAdd(0, size());
+        }
+        endChange();
+    }
+
+    @Override
+    public ReadOnlyPerson get(int index) {
+        if (predicate == null) {
+            return source.get(index);
+        }
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return source.get(positions[index]);
+    }
+
+    @Override
+    public int size() {
+        return predicate == null ? source.size() : size;
+    }
+
+    /**
+     * Follows {@code change} of the source, reporting the persons shown that it changes.
+     */
+    private void sourceChanged(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        sourcePositions = null;
+        beginChange();
+        while (change.next()) {
+            if (predicate == null) {
+                forward(change);
+            } else if (change.wasPermutated()) {
+                permute(change);
+            } else if (change.wasUpdated()) {
+                update(change);
+            } else {
+                replace(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Reports {@code change} of the source as it is, as every person in the source is shown.
+     */
+    private void forward(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        if (change.wasPermutated()) {
+            int[] permutation = new int[change.getTo() - change.getFrom()];
+            for (int i = 0; i < permutation.length; i++) {
+                permutation[i] = change.getPermutation(change.getFrom() + i);
+            }
+            nextPermutation(change.getFrom(), change.getTo(), permutation);
+        } else if (change.wasUpdated()) {
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                nextUpdate(i);
+            }
+        } else {
+            if (change.wasRemoved()) {
+                nextRemove(change.getFrom(), change.getRemoved());
+            }
+            if (change.wasAdded()) {
+                nextAdd(change.getFrom(), change.getTo());
+            }
+        }
+    }
+
+    /**
+     * Moves the persons shown to their new positions after the source was permuted by {@code change}.
+     */
+    private void permute(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        int from = findPosition(change.getFrom());
+        int to = findPosition(change.getTo());
+        if (from == to) {
+            return;
+        }
+        long[] movedPositions = new long[to - from];
+        for (int i = from; i < to; i++) {
+            // sorts by the new position, while remembering the old index in the view
+            movedPositions[i - from] = ((long) change.getPermutation(positions[i]) << 32) | i;
+        }
+        Arrays.sort(movedPositions);
+        int[] permutation = new int[to - from];
+        for (int i = from; i < to; i++) {
+            long moved = movedPositions[i - from];
+            positions[i] = (int) (moved >>> 32);
+            permutation[(int) moved - from] = i;
+        }
+        nextPermutation(from, to, permutation);
+    }
+
+    /**
+     * Tests the persons updated by {@code change} again, showing or hiding them as needed.
+     */
+    private void update(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            ReadOnlyPerson person = source.get(i);
+            int index = findPosition(i);
+            boolean isShown = index < size && positions[index] == i;
+            boolean isMatch = predicate.test(person);
+            if (isShown && isMatch) {
+                nextUpdate(index);
+            } else if (isShown) {
+                removePositions(index, index + 1);
+                nextRemove(index, person);
+            } else if (isMatch) {
+                insertPosition(index, i);
+                nextAdd(index, index + 1);
+            }
+        }
+    }
+
+    /**
+     * Hides the persons removed from the source by {@code change}, and shows the persons it added that match.
+     */
+    private void replace(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        int from = change.getFrom();
+        int removedSize = change.getRemovedSize();
+        int index = findPosition(from);
+        int removedEnd = findPosition(from + removedSize);
+
+        if (removedEnd > index) {
+            List<ReadOnlyPerson> removed = new ArrayList<>();
+            for (int i = index; i < removedEnd; i++) {
+                removed.add(change.getRemoved().get(positions[i] - from));
+            }
+            removePositions(index, removedEnd);
+            nextRemove(index, removed);
+        }
+
+        int shift = change.getAddedSize() - removedSize;
+        for (int i = index; i < size; i++) {
+            positions[i] += shift;
+        }
+
+        int addedFrom = index;
+        for (int i = from; i < change.getTo(); i++) {
+            if (predicate.test(source.get(i))) {
+                insertPosition(index++, i);
+            }
+        }
+        if (index > addedFrom) {
+            nextAdd(addedFrom, index);
+        }
+    }
+
+    /**
+     * Returns the index in this view of the first person shown whose position in the source is at least
+     * {@code sourcePosition}.
+     */
+    private int findPosition(int sourcePosition) {
+        int index = Arrays.binarySearch(positions, 0, size, sourcePosition);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    /**
+     * Shows the person at {@code sourcePosition} in the source at {@code index} in this view.
+     */
+    private void insertPosition(int index, int sourcePosition) {
+        if (size == positions.length) {
+            positions = Arrays.copyOf(positions, Math.max(size * 2, 16));
+        }
+        System.arraycopy(positions, index, positions, index + 1, size - index);
+        positions[index] = sourcePosition;
+        size++;
+    }
+
+    /**
+     * Hides the persons from {@code from} (inclusive) to {@code to} (exclusive) in this view.
+     */
+    private void removePositions(int from, int to) {
+        System.arraycopy(positions, to, positions, from, size - to);
+        size -= to - from;
+    }
+}
@@ -26,6 +26,9 @@ public interface Model {
     /** Adds the given person */
     void addPerson(ReadOnlyPerson person) throws DuplicatePersonException;
 
+    /** Adds the given person at {@code index} of the address book's person list */
+    void addPerson(int index, ReadOnlyPerson person) throws DuplicatePersonException;
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      *
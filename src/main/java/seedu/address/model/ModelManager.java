@@ -3,15 +3,17 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.logging.Level;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import javafx.collections.transformation.FilteredList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
@@ -24,9 +26,13 @@ public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
 
     private final AddressBook addressBook;
-    private final FilteredList<ReadOnlyPerson> filteredPersons;
+    private final FilteredPersonList filteredPersons;
+    // built on the first search, so that the persons of a lazily read address book are not read up front
+    private PersonSearchIndex searchIndex;
     private final UserPrefs userPrefs;
 
+    private Predicate<ReadOnlyPerson> currentPredicate = PREDICATE_SHOW_ALL_PERSONS;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -34,11 +40,12 @@ public class ModelManager extends ComponentManager implements Model {
         super();
         requireAllNonNull(addressBook, userPrefs);
 
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+        logger.log(Level.FINE, "Initializing with address book: {0} and user prefs {1}",
+                new Object[] {addressBook, userPrefs});
 
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = userPrefs;
-        filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        filteredPersons = new FilteredPersonList(this.addressBook.getPersonList());
     }
 
     public ModelManager() {
@@ -48,7 +55,9 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
         addressBook.resetData(newData);
-        indicateAddressBookChanged();
+        searchIndex = null;
+        refreshFilteredPersonList();
+        indicateAddressBookChanged(AddressBookChange.reset());
     }
 
     @Override
@@ -56,22 +65,38 @@ public class ModelManager extends ComponentManager implements Model {
         return addressBook;
     }
 
-    /** Raises an event to indicate the model has changed */
-    private void indicateAddressBookChanged() {
-        raise(new AddressBookChangedEvent(addressBook));
+    /** Raises an event to indicate the model has changed by {@code change} */
+    private void indicateAddressBookChanged(AddressBookChange change) {
+        raise(new AddressBookChangedEvent(addressBook, change));
     }
 
     @Override
     public synchronized void deletePerson(ReadOnlyPerson target) throws PersonNotFoundException {
         addressBook.removePerson(target);
-        indicateAddressBookChanged();
+        if (searchIndex != null) {
+            searchIndex.remove(target);
+        }
+        indicateAddressBookChanged(AddressBookChange.delete(target));
     }
 
     @Override
     public synchronized void addPerson(ReadOnlyPerson person) throws DuplicatePersonException {
         addressBook.addPerson(person);
+        if (searchIndex != null) {
+            searchIndex.add(person);
+        }
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-        indicateAddressBookChanged();
+        indicateAddressBookChanged(AddressBookChange.add(addressBook.getPersonList().size() - 1, person));
+    }
+
+    @Override
+    public synchronized void addPerson(int index, ReadOnlyPerson person) throws DuplicatePersonException {
+        addressBook.addPerson(index, person);
+        if (searchIndex != null) {
+            searchIndex.add(person);
+        }
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        indicateAddressBookChanged(AddressBookChange.add(index, person));
     }
 
     @Override
@@ -80,7 +105,11 @@ public class ModelManager extends ComponentManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.updatePerson(target, editedPerson);
-        indicateAddressBookChanged();
+        if (searchIndex != null) {
+            searchIndex.update(target, editedPerson);
+        }
+        refreshFilteredPersonList();
+        indicateAddressBookChanged(AddressBookChange.update(target, editedPerson));
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -97,7 +126,42 @@ public class ModelManager extends ComponentManager implements Model {
     @Override
     public void updateFilteredPersonList(Predicate<ReadOnlyPerson> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        currentPredicate = predicate;
+        if (predicate == PREDICATE_SHOW_ALL_PERSONS) {
+            // no person needs to be tested, or read if the address book is read lazily
+            filteredPersons.showAll();
+            return;
+        }
+        Set<ReadOnlyPerson> candidates = PersonSearchIndex.canNarrow(predicate)
+                ? getSearchIndex().getCandidates(predicate)
+                : null;
+        if (candidates != null) {
+            // only the candidates are tested, instead of every person
+            filteredPersons.setPredicate(predicate, candidates);
+        } else {
+            filteredPersons.setPredicate(predicate);
+        }
+    }
+
+    /**
+     * Returns the search index over the persons in {@code addressBook}, building it if needed.
+     */
+    private PersonSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new PersonSearchIndex(addressBook.getPersonList(),
+                    addressBook::getPersonsWithTagContaining);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Reapplies the current filter, as persons that were changed since it was narrowed down by
+     * {@code searchIndex} are not among its candidates.
+     */
+    private void refreshFilteredPersonList() {
+        if (currentPredicate != PREDICATE_SHOW_ALL_PERSONS) {
+            updateFilteredPersonList(currentPredicate);
+        }
     }
 
     @Override
@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.ValidationUtil.isLineTerminator;
+import static seedu.address.commons.util.ValidationUtil.isWhitespace;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
@@ -38,7 +40,16 @@ public class Address {
      * Returns true if a given string is a valid person email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(ADDRESS_VALIDATION_REGEX);
+        // scans for ADDRESS_VALIDATION_REGEX
+        if (test.isEmpty() || isWhitespace(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            if (isLineTerminator(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
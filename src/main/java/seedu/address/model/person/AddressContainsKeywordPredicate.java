@@ -14,6 +14,10 @@ public class AddressContainsKeywordPredicate implements Predicate<ReadOnlyPerson
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(ReadOnlyPerson person) {
         return person.getAddress().toString().toLowerCase().contains(keyword.toLowerCase());
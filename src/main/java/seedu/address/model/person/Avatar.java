@@ -1,6 +1,6 @@
 package seedu.address.model.person;
 
-import java.util.UUID;
+import java.io.IOException;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.storage.ImageStorage;
@@ -55,8 +55,12 @@ public class Avatar {
             throw new IllegalValueException(MESSAGE_AVATAR_CONSTRAINTS);
         }
 
-        //use a unique id for each image to prevent overwriting old images.
-        return new Avatar(UUID.randomUUID().toString() + "." + ImageStorage.getFormat(filePath), filePath);
+        //name the image after its contents, so that the same image is only saved once
+        try {
+            return new Avatar(ImageStorage.getContentAddressedName(filePath), filePath);
+        } catch (IOException ioe) {
+            throw new IllegalValueException(MESSAGE_AVATAR_CONSTRAINTS, ioe);
+        }
     }
 
     /**
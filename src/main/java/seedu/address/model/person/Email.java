@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.ValidationUtil.isWordCharacter;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
@@ -34,7 +35,18 @@ public class Email {
      * Returns if a given string is a valid person email.
      */
     public static boolean isValidEmail(String test) {
-        return test.matches(EMAIL_VALIDATION_REGEX);
+        // scans for EMAIL_VALIDATION_REGEX
+        int atIndex = test.indexOf('@');
+        if (atIndex <= 0 || atIndex == test.length() - 1) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (i != atIndex && c != '.' && !isWordCharacter(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
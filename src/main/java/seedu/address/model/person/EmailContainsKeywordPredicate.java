@@ -14,6 +14,10 @@ public class EmailContainsKeywordPredicate implements Predicate<ReadOnlyPerson>
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(ReadOnlyPerson person) {
         return person.getEmail().toString().toLowerCase().contains(keyword.toLowerCase());
@@ -0,0 +1,71 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.IntFunction;
+
+import javafx.collections.ObservableListBase;
+
+/**
+ * An unmodifiable list of unique persons that are only created when they are accessed, e.g. from a data file,
+ * so that a large address book does not need to be held in memory as a whole.
+ * The most recently accessed persons are cached, so repeated accesses return the same instance until it is evicted.
+ *
+ * A {@link UniquePersonList} set to a {@code LazyPersonList} reads from it until the list is first modified.
+ */
+public class LazyPersonList extends ObservableListBase<ReadOnlyPerson> {
+
+    public static final int DEFAULT_CACHE_SIZE = 1024;
+
+    private final int size;
+    private final IntFunction<? extends ReadOnlyPerson> loader;
+    private final Map<Integer, ReadOnlyPerson> cache;
+
+    /**
+     * Creates a list of {@code size} persons, where {@code loader} creates the person at a given index.
+     * The loader is only called for persons that are not in the cache.
+     *
+     * @param cacheSize the number of persons to keep in the cache. Must be positive.
+     */
+    public LazyPersonList(int size, IntFunction<? extends ReadOnlyPerson> loader, int cacheSize) {
+        requireNonNull(loader);
+        if (size < 0 || cacheSize <= 0) {
+            throw new IllegalArgumentException("Invalid size " + size + " or cache size " + cacheSize);
+        }
+        this.size = size;
+        this.loader = loader;
+        this.cache = new LinkedHashMap<Integer, ReadOnlyPerson>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, ReadOnlyPerson> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    /**
+     * Returns the person at {@code index}, creating it if it is not in the cache.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not within {@code [0, size)}.
+     */
+    @Override
+    public synchronized ReadOnlyPerson get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+        }
+        return cache.computeIfAbsent(index, loader::apply);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the number of persons that are currently cached.
+     */
+    synchronized int getCachedCount() {
+        return cache.size();
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumeric;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
@@ -39,7 +40,17 @@ public class Name {
      * Returns true if a given string is a valid person name.
      */
     public static boolean isValidName(String test) {
-        return test.matches(NAME_VALIDATION_REGEX);
+        // scans for NAME_VALIDATION_REGEX
+        if (test.isEmpty() || !isAlphanumeric(test.charAt(0))) {
+            return false;
+        }
+        for (int i = 1; i < test.length(); i++) {
+            char c = test.charAt(i);
+            if (c != ' ' && !isAlphanumeric(c)) {
+                return false;
+            }
+        }
+        return true;
     }
 
 
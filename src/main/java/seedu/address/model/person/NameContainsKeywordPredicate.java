@@ -14,6 +14,10 @@ public class NameContainsKeywordPredicate implements Predicate<ReadOnlyPerson> {
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(ReadOnlyPerson person) {
         return person.getName().fullName.toLowerCase().contains(keyword.toLowerCase());
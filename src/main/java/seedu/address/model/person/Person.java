@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
 
@@ -15,30 +16,29 @@ import seedu.address.model.tag.UniqueTagList;
 /**
  * Represents a Person in the address book.
  * Guarantees: details are present and not null, field values are validated.
+ *
+ * The fields are held directly, and the JavaFX properties over them are only created when first requested,
+ * which is usually when the person is shown in the UI. The tag set is unmodifiable, so it is shared with
+ * the copies of the person instead of being copied.
  */
 public class Person implements ReadOnlyPerson {
 
-    private ObjectProperty<Name> name;
-    private ObjectProperty<Phone> phone;
-    private ObjectProperty<Email> email;
-    private ObjectProperty<Address> address;
-    private ObjectProperty<Remark> remark;
-    private ObjectProperty<Avatar> avatar;
-    private ObjectProperty<UniqueTagList> tags;
+    private Name name;
+    private Phone phone;
+    private Email email;
+    private Address address;
+    private Remark remark;
+    private Avatar avatar;
+    private Set<Tag> tags;
+    // null until a property is first requested
+    private Properties properties;
 
     /**
      * Every field must be present and not null.
      */
     public Person(Name name, Phone phone, Email email, Address address, Remark remark, Avatar avatar, Set<Tag> tags) {
-        requireAllNonNull(name, phone, email, address, tags);
-        this.name = new SimpleObjectProperty<>(name);
-        this.phone = new SimpleObjectProperty<>(phone);
-        this.email = new SimpleObjectProperty<>(email);
-        this.address = new SimpleObjectProperty<>(address);
-        this.remark = new SimpleObjectProperty<>(remark);
-        this.avatar = new SimpleObjectProperty<>(avatar);
         // protect internal tags from changes in the arg list
-        this.tags = new SimpleObjectProperty<>(new UniqueTagList(tags));
+        this(name, phone, email, address, remark, avatar, toUnmodifiableSet(requireNonNull(tags)), true);
     }
 
     /**
@@ -46,94 +46,132 @@ public class Person implements ReadOnlyPerson {
      */
     public Person(ReadOnlyPerson source) {
         this(source.getName(), source.getPhone(), source.getEmail(), source.getAddress(), source.getRemark(),
-                source.getAvatar(), source.getTags());
+                source.getAvatar(), source instanceof Person
+                        ? ((Person) source).tags
+                        : toUnmodifiableSet(source.getTags()), true);
+    }
+
+    /**
+     * Creates a person with {@code unmodifiableTags}, which is shared rather than copied.
+     * The unused {@code isShared} parameter only tells this constructor apart from the public one.
+     */
+    private Person(Name name, Phone phone, Email email, Address address, Remark remark, Avatar avatar,
+                   Set<Tag> unmodifiableTags, boolean isShared) {
+        requireAllNonNull(name, phone, email, address, unmodifiableTags);
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.address = address;
+        this.remark = remark;
+        this.avatar = avatar;
+        this.tags = unmodifiableTags;
     }
 
     public void setName(Name name) {
-        this.name.set(requireNonNull(name));
+        this.name = requireNonNull(name);
+        if (properties != null) {
+            properties.name.set(name);
+        }
     }
 
     @Override
     public ObjectProperty<Name> nameProperty() {
-        return name;
+        return getProperties().name;
     }
 
     @Override
     public Name getName() {
-        return name.get();
+        return name;
     }
 
     public void setPhone(Phone phone) {
-        this.phone.set(requireNonNull(phone));
+        this.phone = requireNonNull(phone);
+        if (properties != null) {
+            properties.phone.set(phone);
+        }
     }
 
     @Override
     public ObjectProperty<Phone> phoneProperty() {
-        return phone;
+        return getProperties().phone;
     }
 
     @Override
     public Phone getPhone() {
-        return phone.get();
+        return phone;
     }
 
     public void setEmail(Email email) {
-        this.email.set(requireNonNull(email));
+        this.email = requireNonNull(email);
+        if (properties != null) {
+            properties.email.set(email);
+        }
     }
 
     @Override
     public ObjectProperty<Email> emailProperty() {
-        return email;
+        return getProperties().email;
     }
 
     @Override
     public Email getEmail() {
-        return email.get();
+        return email;
     }
 
     public void setAddress(Address address) {
-        this.address.set(requireNonNull(address));
+        this.address = requireNonNull(address);
+        if (properties != null) {
+            properties.address.set(address);
+        }
     }
 
     @Override
     public ObjectProperty<Address> addressProperty() {
-        return address;
+        return getProperties().address;
     }
 
     @Override
     public Address getAddress() {
-        return address.get();
+        return address;
     }
 
     @Override
     public Remark getRemark() {
-        return remark.get();
+        return remark;
     }
+
     public void setRemark(Remark remark) {
-        this.remark.set(requireNonNull(remark));
+        this.remark = requireNonNull(remark);
+        if (properties != null) {
+            properties.remark.set(remark);
+        }
     }
 
     @Override
     public ObjectProperty<Remark> remarkProperty() {
-        return remark;
+        return getProperties().remark;
     }
 
     @Override
     public Avatar getAvatar() {
-        return avatar.get();
+        return avatar;
     }
 
     @Override
     public void saveAvatar() {
-        avatar.get().saveAvatar();
+        avatar.saveAvatar();
     }
+
     public void setAvatar(Avatar avatar) {
-        this.avatar.set(requireNonNull(avatar));
+        this.avatar = requireNonNull(avatar);
+        if (properties != null) {
+            properties.avatar.set(avatar);
+        }
     }
 
     @Override
     public ObjectProperty<Avatar> avatarProperty() {
-        return avatar;
+        return getProperties().avatar;
     }
 
     /**
@@ -142,18 +180,43 @@ public class Person implements ReadOnlyPerson {
      */
     @Override
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags.get().toSet());
+        return tags;
     }
 
+    @Override
     public ObjectProperty<UniqueTagList> tagProperty() {
-        return tags;
+        return getProperties().tags;
     }
 
     /**
      * Replaces this person's tags with the tags in the argument tag set.
      */
     public void setTags(Set<Tag> replacement) {
-        tags.set(new UniqueTagList(replacement));
+        tags = toUnmodifiableSet(requireNonNull(replacement));
+        if (properties != null) {
+            properties.tags.set(new UniqueTagList(tags));
+        }
+    }
+
+    private Properties getProperties() {
+        if (properties == null) {
+            properties = new Properties();
+        }
+        return properties;
+    }
+
+    /**
+     * Returns an unmodifiable copy of {@code tags}, using the smallest set implementation that fits.
+     */
+    private static Set<Tag> toUnmodifiableSet(Set<Tag> tags) {
+        switch (tags.size()) {
+        case 0:
+            return Collections.emptySet();
+        case 1:
+            return Collections.singleton(tags.iterator().next());
+        default:
+            return Collections.unmodifiableSet(new HashSet<>(tags));
+        }
     }
 
     @Override
@@ -165,8 +228,8 @@ public class Person implements ReadOnlyPerson {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, remark, tags);
+        // only hash the fields compared in isSameStateAs, so that equal persons have equal hash codes
+        return Objects.hash(getName(), getPhone(), getEmail(), getAddress());
     }
 
     @Override
@@ -174,4 +237,52 @@ public class Person implements ReadOnlyPerson {
         return getAsText();
     }
 
+    /**
+     * The JavaFX properties of a person. Values set through a property are written back to the person.
+     */
+    private class Properties {
+        private final ObjectProperty<Name> name = new SimpleObjectProperty<Name>(Person.this.name) {
+            @Override
+            protected void invalidated() {
+                Person.this.name = requireNonNull(get());
+            }
+        };
+        private final ObjectProperty<Phone> phone = new SimpleObjectProperty<Phone>(Person.this.phone) {
+            @Override
+            protected void invalidated() {
+                Person.this.phone = requireNonNull(get());
+            }
+        };
+        private final ObjectProperty<Email> email = new SimpleObjectProperty<Email>(Person.this.email) {
+            @Override
+            protected void invalidated() {
+                Person.this.email = requireNonNull(get());
+            }
+        };
+        private final ObjectProperty<Address> address = new SimpleObjectProperty<Address>(Person.this.address) {
+            @Override
+            protected void invalidated() {
+                Person.this.address = requireNonNull(get());
+            }
+        };
+        private final ObjectProperty<Remark> remark = new SimpleObjectProperty<Remark>(Person.this.remark) {
+            @Override
+            protected void invalidated() {
+                Person.this.remark = get();
+            }
+        };
+        private final ObjectProperty<Avatar> avatar = new SimpleObjectProperty<Avatar>(Person.this.avatar) {
+            @Override
+            protected void invalidated() {
+                Person.this.avatar = get();
+            }
+        };
+        private final ObjectProperty<UniqueTagList> tags = new SimpleObjectProperty<UniqueTagList>(
+                new UniqueTagList(Person.this.tags)) {
+            @Override
+            protected void invalidated() {
+                Person.this.tags = toUnmodifiableSet(get().toSet());
+            }
+        };
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
@@ -11,15 +12,22 @@ import java.util.stream.Collectors;
 
 //@@author nicholaschuayunzhi
 public class PersonContainsFieldsPredicate implements Predicate<ReadOnlyPerson> {
-    private final Set<Predicate> predicates;
+    private final Set<Predicate<ReadOnlyPerson>> predicates;
 
-    public PersonContainsFieldsPredicate(List<Predicate> predicates) {
+    public PersonContainsFieldsPredicate(List<Predicate<ReadOnlyPerson>> predicates) {
         this.predicates = predicates.stream().collect(Collectors.toSet());
     }
 
+    /**
+     * Returns the field predicates combined by this predicate as an unmodifiable set.
+     */
+    public Set<Predicate<ReadOnlyPerson>> getPredicates() {
+        return Collections.unmodifiableSet(predicates);
+    }
+
     @Override
     public boolean test(ReadOnlyPerson person) {
-        for (Predicate searchQuery : predicates) {
+        for (Predicate<ReadOnlyPerson> searchQuery : predicates) {
             if (!searchQuery.test(person)) {
                 return false;
             }
@@ -0,0 +1,252 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from lower-cased character trigrams to the persons whose fields contain them.
+ * Used to find the candidates that can satisfy a {@link PersonContainsFieldsPredicate} so that only
+ * those persons need to be checked against the predicate itself.
+ *
+ * Tags can instead be looked up through a function given to the index, such as the per-tag postings of
+ * the address book, in which case tags are not indexed here.
+ *
+ * Persons are held by value, relying on {@link Person#equals(Object)} and {@link Person#hashCode()}.
+ */
+public class PersonSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+
+    /**
+     * The person fields that can be searched.
+     */
+    enum Field { NAME, PHONE, EMAIL, ADDRESS, REMARK, TAG }
+
+    private final Map<Field, Map<String, Set<ReadOnlyPerson>>> postings = new EnumMap<>(Field.class);
+    // the exact version of each person that was indexed, used to find the grams to remove
+    private final Map<ReadOnlyPerson, ReadOnlyPerson> indexedPersons = new HashMap<>();
+    // returns the persons with a tag containing the given keyword, or null if tags are indexed here
+    private final Function<String, Set<ReadOnlyPerson>> tagSearch;
+
+    public PersonSearchIndex() {
+        this((Function<String, Set<ReadOnlyPerson>>) null);
+    }
+
+    public PersonSearchIndex(Collection<? extends ReadOnlyPerson> persons) {
+        this();
+        setPersons(persons);
+    }
+
+    /**
+     * Creates an index of {@code persons} that looks up tags using {@code tagSearch} instead of indexing them.
+     */
+    public PersonSearchIndex(Collection<? extends ReadOnlyPerson> persons,
+                             Function<String, Set<ReadOnlyPerson>> tagSearch) {
+        this(requireNonNull(tagSearch));
+        setPersons(persons);
+    }
+
+    private PersonSearchIndex(Function<String, Set<ReadOnlyPerson>> tagSearch) {
+        this.tagSearch = tagSearch;
+        for (Field field : Field.values()) {
+            postings.put(field, new HashMap<>());
+        }
+    }
+
+    /**
+     * Replaces the contents of this index with {@code persons}.
+     */
+    public void setPersons(Collection<? extends ReadOnlyPerson> persons) {
+        requireNonNull(persons);
+        postings.values().forEach(Map::clear);
+        indexedPersons.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Indexes the fields of {@code person}.
+     */
+    public void add(ReadOnlyPerson person) {
+        requireNonNull(person);
+        indexedPersons.put(person, person);
+        for (Field field : getIndexedFields()) {
+            Map<String, Set<ReadOnlyPerson>> fieldPostings = postings.get(field);
+            for (String gram : getGrams(field, person)) {
+                fieldPostings.computeIfAbsent(gram, unused -> new HashSet<>()).add(person);
+            }
+        }
+    }
+
+    /**
+     * Removes {@code person} from this index. Does nothing if the person was not indexed.
+     */
+    public void remove(ReadOnlyPerson person) {
+        requireNonNull(person);
+        ReadOnlyPerson indexedPerson = indexedPersons.remove(person);
+        if (indexedPerson == null) {
+            return;
+        }
+        for (Field field : getIndexedFields()) {
+            Map<String, Set<ReadOnlyPerson>> fieldPostings = postings.get(field);
+            for (String gram : getGrams(field, indexedPerson)) {
+                Set<ReadOnlyPerson> posting = fieldPostings.get(gram);
+                if (posting != null && posting.remove(person) && posting.isEmpty()) {
+                    fieldPostings.remove(gram);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in this index.
+     */
+    public void update(ReadOnlyPerson target, ReadOnlyPerson editedPerson) {
+        remove(target);
+        add(editedPerson);
+    }
+
+    /**
+     * Returns true if {@code predicate} is of a kind that {@link #getCandidates(Predicate)} can narrow down.
+     */
+    public static boolean canNarrow(Predicate<ReadOnlyPerson> predicate) {
+        return predicate instanceof PersonContainsFieldsPredicate;
+    }
+
+    /**
+     * Returns the persons in this index that can possibly match {@code predicate}, which are those that contain
+     * every trigram of every keyword in {@code predicate}. Returns null if {@code predicate} cannot be narrowed
+     * down, such as when none of its keywords can be looked up, in which case every person can match it.
+     */
+    public Set<ReadOnlyPerson> getCandidates(Predicate<ReadOnlyPerson> predicate) {
+        requireNonNull(predicate);
+        if (!canNarrow(predicate)) {
+            return null;
+        }
+
+        Set<ReadOnlyPerson> candidates = null;
+        for (Predicate<ReadOnlyPerson> fieldPredicate : ((PersonContainsFieldsPredicate) predicate).getPredicates()) {
+            Set<ReadOnlyPerson> matches = getFieldCandidates(fieldPredicate);
+            if (matches == null) {
+                continue;
+            }
+            if (candidates == null) {
+                candidates = new HashSet<>(matches);
+            } else {
+                candidates.retainAll(matches);
+            }
+            if (candidates.isEmpty()) {
+                break;
+            }
+        }
+        return candidates;
+    }
+
+    /**
+     * Returns the persons that contain every trigram of the keyword of {@code fieldPredicate},
+     * or null if it cannot be looked up.
+     */
+    private Set<ReadOnlyPerson> getFieldCandidates(Predicate<ReadOnlyPerson> fieldPredicate) {
+        if (fieldPredicate instanceof NameContainsKeywordPredicate) {
+            return getFieldCandidates(Field.NAME, ((NameContainsKeywordPredicate) fieldPredicate).getKeyword());
+        } else if (fieldPredicate instanceof PhoneContainsKeywordPredicate) {
+            return getFieldCandidates(Field.PHONE, ((PhoneContainsKeywordPredicate) fieldPredicate).getKeyword());
+        } else if (fieldPredicate instanceof EmailContainsKeywordPredicate) {
+            return getFieldCandidates(Field.EMAIL, ((EmailContainsKeywordPredicate) fieldPredicate).getKeyword());
+        } else if (fieldPredicate instanceof AddressContainsKeywordPredicate) {
+            return getFieldCandidates(Field.ADDRESS, ((AddressContainsKeywordPredicate) fieldPredicate).getKeyword());
+        } else if (fieldPredicate instanceof RemarkContainsKeywordPredicate) {
+            return getFieldCandidates(Field.REMARK, ((RemarkContainsKeywordPredicate) fieldPredicate).getKeyword());
+        } else if (fieldPredicate instanceof TagsContainKeywordPredicate) {
+            String keyword = ((TagsContainKeywordPredicate) fieldPredicate).getKeyword();
+            return tagSearch == null ? getFieldCandidates(Field.TAG, keyword) : tagSearch.apply(keyword);
+        } else {
+            return null;
+        }
+    }
+
+    private Set<ReadOnlyPerson> getFieldCandidates(Field field, String keyword) {
+        Set<String> grams = toGrams(keyword);
+        if (grams.isEmpty()) {
+            return null;
+        }
+
+        Map<String, Set<ReadOnlyPerson>> fieldPostings = postings.get(field);
+        List<Set<ReadOnlyPerson>> gramPostings = new ArrayList<>();
+        for (String gram : grams) {
+            Set<ReadOnlyPerson> posting = fieldPostings.get(gram);
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            gramPostings.add(posting);
+        }
+
+        // intersect starting from the smallest posting set
+        gramPostings.sort(Comparator.comparingInt(Set::size));
+        Set<ReadOnlyPerson> result = new HashSet<>(gramPostings.get(0));
+        for (int i = 1; i < gramPostings.size() && !result.isEmpty(); i++) {
+            result.retainAll(gramPostings.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the fields whose trigrams are indexed here.
+     */
+    private Set<Field> getIndexedFields() {
+        return tagSearch == null ? EnumSet.allOf(Field.class) : EnumSet.complementOf(EnumSet.of(Field.TAG));
+    }
+
+    /**
+     * Returns the trigrams of the value(s) of {@code field} in {@code person}.
+     */
+    private static Set<String> getGrams(Field field, ReadOnlyPerson person) {
+        switch (field) {
+        case NAME:
+            return toGrams(person.getName().fullName);
+        case PHONE:
+            return toGrams(person.getPhone().value);
+        case EMAIL:
+            return toGrams(person.getEmail().value);
+        case ADDRESS:
+            return toGrams(person.getAddress().value);
+        case REMARK:
+            return person.getRemark() == null ? Collections.emptySet() : toGrams(person.getRemark().value);
+        case TAG:
+            Set<String> grams = new HashSet<>();
+            for (Tag tag : person.getTags()) {
+                grams.addAll(toGrams(tag.tagName));
+            }
+            return grams;
+        default:
+            throw new AssertionError("Unknown field " + field);
+        }
+    }
+
+    /**
+     * Returns the distinct lower-cased trigrams of {@code value}.
+     * Values shorter than a trigram have no grams.
+     */
+    private static Set<String> toGrams(String value) {
+        String lowerCaseValue = value.trim().toLowerCase();
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseValue.length(); i++) {
+            grams.add(lowerCaseValue.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.ValidationUtil.isDigit;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
@@ -34,7 +35,16 @@ public class Phone {
      * Returns true if a given string is a valid person phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(PHONE_VALIDATION_REGEX);
+        // scans for PHONE_VALIDATION_REGEX
+        if (test.length() < 3) {
+            return false;
+        }
+        for (int i = 0; i < test.length(); i++) {
+            if (!isDigit(test.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
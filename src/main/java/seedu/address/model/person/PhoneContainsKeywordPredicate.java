@@ -14,6 +14,10 @@ public class PhoneContainsKeywordPredicate implements Predicate<ReadOnlyPerson>
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(ReadOnlyPerson person) {
         return person.getPhone().value.toLowerCase().contains(keyword.toLowerCase());
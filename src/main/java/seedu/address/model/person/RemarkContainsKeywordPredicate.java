@@ -16,6 +16,10 @@ public class RemarkContainsKeywordPredicate implements Predicate<ReadOnlyPerson>
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(ReadOnlyPerson person) {
         return containsWordIgnoreCase(person.getRemark().value, keyword);
@@ -14,6 +14,10 @@ public class TagsContainKeywordPredicate implements Predicate<ReadOnlyPerson> {
         this.keyword = keyword;
     }
 
+    public String getKeyword() {
+        return keyword;
+    }
+
     @Override
     public boolean test(ReadOnlyPerson person) {
         return personTagsContainKeyword(person, keyword);
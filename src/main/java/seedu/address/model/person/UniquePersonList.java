@@ -2,12 +2,17 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 import org.fxmisc.easybind.EasyBind;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ModifiableObservableListBase;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.CollectionUtil;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -17,81 +22,165 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  * A list of persons that enforces uniqueness between its elements and does not allow nulls.
  *
  * Supports a minimal set of list operations.
+ * Membership is tracked by a hash index alongside the backing list, so duplicate checks and lookups
+ * do not need to scan the list.
+ * The list can also be set to a {@link LazyPersonList}, which it reads from until it is first modified or
+ * searched, so that persons are only created as they are accessed.
  *
  * @see Person#equals(Object)
  * @see CollectionUtil#elementsAreUnique(Collection)
  */
 public class UniquePersonList implements Iterable<Person> {
 
-    private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final InternalPersonList internalList = new InternalPersonList();
     // used by asObservableList()
     private final ObservableList<ReadOnlyPerson> mappedList = EasyBind.map(internalList, (person) -> person);
+    // hash index over internalList, must be kept in sync with it unless internalList is lazy
+    private final Map<PersonKey, Person> index = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(ReadOnlyPerson toCheck) {
         requireNonNull(toCheck);
-        return internalList.contains(toCheck);
+        materialize();
+        return index.containsKey(new PersonKey(toCheck));
     }
 
     /**
-     * Adds a person to the list.
+     * Returns the person in the list that is equivalent to {@code person}.
+     *
+     * @throws PersonNotFoundException if no such person could be found in the list.
+     */
+    public Person get(ReadOnlyPerson person) throws PersonNotFoundException {
+        requireNonNull(person);
+        materialize();
+        Person storedPerson = index.get(new PersonKey(person));
+        if (storedPerson == null) {
+            throw new PersonNotFoundException();
+        }
+        return storedPerson;
+    }
+
+    /**
+     * Adds a copy of a person to the list, and returns the copy.
      *
      * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
      */
-    public void add(ReadOnlyPerson toAdd) throws DuplicatePersonException {
+    public Person add(ReadOnlyPerson toAdd) throws DuplicatePersonException {
+        return add(internalList.size(), toAdd);
+    }
+
+    /**
+     * Adds a copy of a person to the list at the given position, and returns the copy.
+     *
+     * @throws DuplicatePersonException if the person to add is a duplicate of an existing person in the list.
+     * @throws IndexOutOfBoundsException if {@code position} is not within {@code [0, size]}.
+     */
+    public Person add(int position, ReadOnlyPerson toAdd) throws DuplicatePersonException {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        materialize();
+        PersonKey key = new PersonKey(toAdd);
+        if (index.containsKey(key)) {
             throw new DuplicatePersonException();
         }
-        internalList.add(new Person(toAdd));
+        Person newPerson = new Person(toAdd);
+        internalList.add(position, newPerson);
+        index.put(key, newPerson);
+        return newPerson;
     }
 
     /**
-     * Replaces the person {@code target} in the list with {@code editedPerson}.
+     * Replaces the person {@code target} in the list with {@code editedPerson}, and returns the replaced person.
      *
      * @throws DuplicatePersonException if the replacement is equivalent to another existing person in the list.
      * @throws PersonNotFoundException if {@code target} could not be found in the list.
      */
-    public void setPerson(ReadOnlyPerson target, ReadOnlyPerson editedPerson)
+    public Person setPerson(ReadOnlyPerson target, ReadOnlyPerson editedPerson)
             throws DuplicatePersonException, PersonNotFoundException {
         requireNonNull(editedPerson);
+        materialize();
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        PersonKey targetKey = new PersonKey(target);
+        Person targetPerson = index.get(targetKey);
+        if (targetPerson == null) {
             throw new PersonNotFoundException();
         }
 
-        if (!target.equals(editedPerson) && internalList.contains(editedPerson)) {
+        PersonKey editedKey = new PersonKey(editedPerson);
+        if (!targetKey.equals(editedKey) && index.containsKey(editedKey)) {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, new Person(editedPerson));
+        Person newPerson = new Person(editedPerson);
+        internalList.set(indexOfInstance(targetPerson), newPerson);
+        index.remove(targetKey);
+        index.put(editedKey, newPerson);
+        return targetPerson;
     }
 
     /**
-     * Removes the equivalent person from the list.
+     * Removes the equivalent person from the list, and returns the removed person.
      *
      * @throws PersonNotFoundException if no such person could be found in the list.
      */
-    public boolean remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
+    public Person remove(ReadOnlyPerson toRemove) throws PersonNotFoundException {
         requireNonNull(toRemove);
-        final boolean personFoundAndDeleted = internalList.remove(toRemove);
-        if (!personFoundAndDeleted) {
+        materialize();
+        final Person personToDelete = index.remove(new PersonKey(toRemove));
+        if (personToDelete == null) {
             throw new PersonNotFoundException();
         }
-        return personFoundAndDeleted;
+        internalList.remove(indexOfInstance(personToDelete));
+        return personToDelete;
+    }
+
+    /**
+     * Returns the position of {@code person} in {@link #internalList}.
+     * Compares by reference only, which is much cheaper than the {@code equals}-based {@code indexOf}.
+     */
+    private int indexOfInstance(Person person) {
+        for (int i = internalList.size() - 1; i >= 0; i--) {
+            if (internalList.get(i) == person) {
+                return i;
+            }
+        }
+        throw new AssertionError("Index and internal list are out of sync");
+    }
+
+    /**
+     * Copies the persons of a lazy list into this list and indexes them, so that they can be looked up
+     * and modified. Does nothing if this list is not lazy.
+     */
+    private void materialize() {
+        if (internalList.isLazy()) {
+            internalList.materialize();
+            internalList.forEach(person -> index.put(new PersonKey(person), person));
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
+        replacement.materialize();
         this.internalList.setAll(replacement.internalList);
+        this.index.clear();
+        this.index.putAll(replacement.index);
     }
 
+    /**
+     * Replaces the persons in this list with {@code persons}.
+     * If {@code persons} is a {@link LazyPersonList}, its persons are only read as they are accessed.
+     *
+     * @throws DuplicatePersonException if there are equivalent persons in {@code persons}.
+     */
     public void setPersons(List<? extends ReadOnlyPerson> persons) throws DuplicatePersonException {
+        if (persons instanceof LazyPersonList) {
+            this.index.clear();
+            this.internalList.setLazily((LazyPersonList) persons);
+            return;
+        }
         final UniquePersonList replacement = new UniquePersonList();
         for (final ReadOnlyPerson person : persons) {
-            replacement.add(new Person(person));
+            replacement.add(person);
         }
         setPersons(replacement);
     }
@@ -119,4 +208,144 @@ public class UniquePersonList implements Iterable<Person> {
     public int hashCode() {
         return internalList.hashCode();
     }
+
+    /**
+     * Returns true if the persons in this list are read from a {@link LazyPersonList} as they are accessed.
+     */
+    public boolean isLazy() {
+        return internalList.isLazy();
+    }
+
+    /**
+     * Immutable snapshot of the fields compared by {@link ReadOnlyPerson#isSameStateAs(ReadOnlyPerson)},
+     * used as the key of the hash index.
+     */
+    private static class PersonKey {
+        private final Name name;
+        private final Phone phone;
+        private final Email email;
+        private final Address address;
+        private final int hash;
+
+        PersonKey(ReadOnlyPerson person) {
+            this.name = person.getName();
+            this.phone = person.getPhone();
+            this.email = person.getEmail();
+            this.address = person.getAddress();
+            this.hash = Objects.hash(name, phone, email, address);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (!(other instanceof PersonKey)) {
+                return false;
+            }
+            PersonKey key = (PersonKey) other;
+            return hash == key.hash
+                    && name.equals(key.name)
+                    && phone.equals(key.phone)
+                    && email.equals(key.email)
+                    && address.equals(key.address);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * The backing list of a {@code UniquePersonList}, which reads from a {@link LazyPersonList} until it is first
+     * modified, and then holds its own copies of the persons.
+     */
+    private static class InternalPersonList extends ModifiableObservableListBase<Person> {
+        private final ArrayList<Person> persons = new ArrayList<>();
+        private LazyPersonList lazyPersons;
+
+        boolean isLazy() {
+            return lazyPersons != null;
+        }
+
+        /**
+         * Replaces the persons in this list with the persons in {@code lazyPersons}, without reading them.
+         */
+        void setLazily(LazyPersonList lazyPersons) {
+            List<Person> removed = new ArrayList<>(this);
+            beginChange();
+            if (!removed.isEmpty()) {
+                nextRemove(0, removed);
+            }
+            persons.clear();
+            this.lazyPersons = lazyPersons;
+            modCount++;
+            if (!lazyPersons.isEmpty()) {
+                nextAdd(0, lazyPersons.size());
+            }
+            endChange();
+        }
+
+        /**
+         * Reads all the persons from the lazy list, which is no longer used afterwards.
+         */
+        void materialize() {
+            if (lazyPersons == null) {
+                return;
+            }
+            persons.ensureCapacity(lazyPersons.size());
+            lazyPersons.forEach(person -> persons.add(toPerson(person)));
+            lazyPersons = null;
+        }
+
+        @Override
+        public Person get(int index) {
+            return lazyPersons != null ? toPerson(lazyPersons.get(index)) : persons.get(index);
+        }
+
+        @Override
+        public int size() {
+            return lazyPersons != null ? lazyPersons.size() : persons.size();
+        }
+
+        @Override
+        protected void doAdd(int index, Person element) {
+            materialize();
+            persons.add(index, element);
+        }
+
+        @Override
+        protected Person doSet(int index, Person element) {
+            materialize();
+            return persons.set(index, element);
+        }
+
+        @Override
+        protected Person doRemove(int index) {
+            materialize();
+            return persons.remove(index);
+        }
+
+        /**
+         * Removes all the persons at once, without reading a lazy list into this list first.
+         */
+        @Override
+        public void clear() {
+            if (isEmpty()) {
+                return;
+            }
+            List<Person> removed = new ArrayList<>(this);
+            beginChange();
+            nextRemove(0, removed);
+            persons.clear();
+            lazyPersons = null;
+            modCount++;
+            endChange();
+        }
+
+        private static Person toPerson(ReadOnlyPerson person) {
+            return person instanceof Person ? (Person) person : new Person(person);
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package seedu.address.model.tag;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.ValidationUtil.isAlphanumeric;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 
@@ -33,7 +34,8 @@ public class Tag {
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(TAG_VALIDATION_REGEX);
+        // scans for TAG_VALIDATION_REGEX
+        return isAlphanumeric(test);
     }
 
     @Override
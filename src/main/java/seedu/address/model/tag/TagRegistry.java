@@ -0,0 +1,169 @@
+package seedu.address.model.tag;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.ReadOnlyPerson;
+
+/**
+ * The master list of tags of an address book.
+ *
+ * Holds a single interned {@code Tag} object per tag, and the set of persons that have each tag.
+ * The number of persons in that set acts as the reference count of the tag: a tag is removed once no person has
+ * it any more, unless it was added on its own through {@link #add(Tag)}.
+ *
+ * Persons are held by value, relying on {@link ReadOnlyPerson#isSameStateAs(ReadOnlyPerson)}.
+ */
+public class TagRegistry {
+
+    private final Map<Tag, Entry> entries = new HashMap<>();
+    // the tags of entries, in the order they were added
+    private final ObservableList<Tag> tags = FXCollections.observableArrayList();
+
+    /**
+     * Returns true if the registry contains an equivalent tag as the given argument.
+     */
+    public boolean contains(Tag toCheck) {
+        requireNonNull(toCheck);
+        return entries.containsKey(toCheck);
+    }
+
+    /**
+     * Adds a tag that is kept in the registry even when no person has it.
+     *
+     * @throws UniqueTagList.DuplicateTagException if an equivalent tag is already in the registry.
+     */
+    public void add(Tag toAdd) throws UniqueTagList.DuplicateTagException {
+        requireNonNull(toAdd);
+        if (entries.containsKey(toAdd)) {
+            throw new UniqueTagList.DuplicateTagException();
+        }
+        getOrCreateEntry(toAdd).isPinned = true;
+    }
+
+    /**
+     * Returns {@code tagsToIntern} with each tag replaced by the equivalent tag object in the registry, if any.
+     * Does not change the registry.
+     */
+    public Set<Tag> intern(Set<Tag> tagsToIntern) {
+        Set<Tag> interned = new HashSet<>();
+        for (Tag tag : tagsToIntern) {
+            Entry entry = entries.get(tag);
+            interned.add(entry == null ? tag : entry.tag);
+        }
+        return interned;
+    }
+
+    /**
+     * Records that {@code person} has its tags, adding any tags that are not in the registry yet.
+     */
+    public void register(ReadOnlyPerson person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            getOrCreateEntry(tag).persons.add(person);
+        }
+    }
+
+    /**
+     * Records that {@code person} no longer has its tags, removing the tags that no other person has
+     * and that were not added on their own.
+     */
+    public void unregister(ReadOnlyPerson person) {
+        requireNonNull(person);
+        for (Tag tag : person.getTags()) {
+            Entry entry = entries.get(tag);
+            if (entry == null) {
+                continue;
+            }
+            entry.persons.remove(person);
+            if (entry.persons.isEmpty() && !entry.isPinned) {
+                entries.remove(tag);
+                tags.remove(entry.tag);
+            }
+        }
+    }
+
+    /**
+     * Removes all the tags and persons from the registry.
+     */
+    public void clear() {
+        entries.clear();
+        tags.clear();
+    }
+
+    /**
+     * Returns the persons that have {@code tag}.
+     */
+    public Set<ReadOnlyPerson> getPersonsWithTag(Tag tag) {
+        requireNonNull(tag);
+        Entry entry = entries.get(tag);
+        return entry == null ? Collections.emptySet() : Collections.unmodifiableSet(entry.persons);
+    }
+
+    /**
+     * Returns the persons that have a tag whose name contains {@code keyword}, ignoring case.
+     */
+    public Set<ReadOnlyPerson> getPersonsWithTagContaining(String keyword) {
+        requireNonNull(keyword);
+        String lowerCaseKeyword = keyword.toLowerCase();
+        Set<ReadOnlyPerson> persons = new HashSet<>();
+        for (Entry entry : entries.values()) {
+            if (entry.tag.tagName.toLowerCase().contains(lowerCaseKeyword)) {
+                persons.addAll(entry.persons);
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the tags in the registry as an unmodifiable {@code ObservableList}.
+     */
+    public ObservableList<Tag> asObservableList() {
+        return FXCollections.unmodifiableObservableList(tags);
+    }
+
+    private Entry getOrCreateEntry(Tag tag) {
+        Entry entry = entries.get(tag);
+        if (entry == null) {
+            entry = new Entry(tag);
+            entries.put(tag, entry);
+            tags.add(tag);
+        }
+        return entry;
+    }
+
+    /**
+     * Returns true if {@code other} holds the same tags, in any order.
+     */
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TagRegistry // instanceof handles nulls
+                && this.entries.keySet().equals(((TagRegistry) other).entries.keySet()));
+    }
+
+    @Override
+    public int hashCode() {
+        return entries.keySet().hashCode();
+    }
+
+    /**
+     * The interned object of a tag and the persons that have it.
+     */
+    private static class Entry {
+        private final Tag tag;
+        private final Set<ReadOnlyPerson> persons = new HashSet<>();
+        private boolean isPinned;
+
+        Entry(Tag tag) {
+            this.tag = tag;
+        }
+    }
+}
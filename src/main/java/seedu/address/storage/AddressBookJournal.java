@@ -0,0 +1,335 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Avatar;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.Remark;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An append-only file of {@link AddressBookChange}s made on top of a snapshot of the address book.
+ *
+ * The file starts with a header identifying the snapshot by its length and checksum, followed by one record
+ * per change. Each record is prefixed with its length and checksum, so that a record that was only partially
+ * written when the app stopped is detected and dropped.
+ */
+class AddressBookJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private static final int MAGIC = 0x41424a32; // "ABJ2"
+    private static final int HEADER_LENGTH = 4 + 8 + 8;
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+
+    private final File file;
+    // true while the journal belongs to the current snapshot, so that changes can be appended to it
+    private boolean isOpen;
+    // opened on the first append, so that only reading the journal does not keep the file open
+    private FileOutputStream out;
+    private int recordCount;
+
+    AddressBookJournal(File file) {
+        this.file = requireNonNull(file);
+    }
+
+    /**
+     * Returns the changes recorded in the journal on top of the snapshot with the given length and checksum,
+     * and opens the journal for appending further changes. The file itself is only opened for writing when the
+     * first change is appended.
+     * Returns {@code Optional.empty()} if there is no journal for that snapshot.
+     *
+     * @throws DataConversionException if a complete record in the journal cannot be read.
+     */
+    Optional<List<AddressBookChange>> read(long snapshotLength, long snapshotChecksum)
+            throws DataConversionException, IOException {
+        close();
+        if (!file.exists()) {
+            return Optional.empty();
+        }
+
+        List<AddressBookChange> changes = new ArrayList<>();
+        long validLength = HEADER_LENGTH;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readLong() != snapshotLength || in.readLong() != snapshotChecksum) {
+                logger.info("Journal " + file + " does not belong to the current snapshot, ignoring it");
+                return Optional.empty();
+            }
+            while (true) {
+                byte[] record = readRecord(in);
+                if (record == null) {
+                    break;
+                }
+                changes.add(decode(record));
+                validLength += 4 + 8 + record.length;
+            }
+        } catch (EOFException eofe) {
+            logger.info("Journal " + file + " has no valid header, ignoring it");
+            return Optional.empty();
+        }
+
+        if (validLength < file.length()) {
+            logger.warning("Dropping incomplete record at the end of journal " + file);
+            try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+                raf.setLength(validLength);
+            }
+        }
+        isOpen = true;
+        recordCount = changes.size();
+        return Optional.of(changes);
+    }
+
+    /**
+     * Replaces the journal with an empty one on top of the snapshot with the given length and checksum,
+     * and opens it for appending changes.
+     */
+    void start(long snapshotLength, long snapshotChecksum) throws IOException {
+        close();
+        File tempFile = new File(file.getPath() + TEMP_FILE_SUFFIX);
+        try (FileOutputStream tempOut = new FileOutputStream(tempFile)) {
+            DataOutputStream header = new DataOutputStream(tempOut);
+            header.writeInt(MAGIC);
+            header.writeLong(snapshotLength);
+            header.writeLong(snapshotChecksum);
+            header.flush();
+            tempOut.getFD().sync();
+        }
+        Files.move(tempFile.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        isOpen = true;
+        recordCount = 0;
+    }
+
+    /**
+     * Returns true if changes can be appended to the journal.
+     */
+    boolean isOpen() {
+        return isOpen;
+    }
+
+    /**
+     * Returns the number of changes in the journal.
+     */
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Appends {@code change} to the journal and forces it to the disk.
+     *
+     * @throws IllegalStateException if the journal is not open.
+     * @throws IllegalArgumentException if {@code change} is a reset, which cannot be recorded in a journal.
+     */
+    void append(AddressBookChange change) throws IOException {
+        if (!isOpen) {
+            throw new IllegalStateException("Journal " + file + " is not open");
+        }
+        if (out == null) {
+            out = new FileOutputStream(file, true);
+        }
+        byte[] payload = encode(change);
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+
+        ByteArrayOutputStream record = new ByteArrayOutputStream(4 + 8 + payload.length);
+        DataOutputStream recordOut = new DataOutputStream(record);
+        recordOut.writeInt(payload.length);
+        recordOut.writeLong(crc.getValue());
+        recordOut.write(payload);
+
+        out.write(record.toByteArray());
+        out.getChannel().force(false);
+        recordCount++;
+    }
+
+    /**
+     * Closes the journal. Changes cannot be appended until it is read or started again.
+     */
+    void close() throws IOException {
+        isOpen = false;
+        if (out != null) {
+            out.close();
+            out = null;
+        }
+    }
+
+    /**
+     * Returns the payload of the next record, or null if there are no more complete records.
+     */
+    private static byte[] readRecord(DataInputStream in) throws IOException {
+        try {
+            int length = in.readInt();
+            long checksum = in.readLong();
+            // a partially written length may be larger than the rest of the file
+            if (length < 0 || length > in.available()) {
+                return null;
+            }
+            byte[] payload = new byte[length];
+            in.readFully(payload);
+
+            CRC32 crc = new CRC32();
+            crc.update(payload);
+            return crc.getValue() == checksum ? payload : null;
+        } catch (EOFException eofe) {
+            return null;
+        }
+    }
+
+    /**
+     * Returns the payload of the record for {@code change}.
+     */
+    private static byte[] encode(AddressBookChange change) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(change.getType().ordinal());
+        switch (change.getType()) {
+        case ADD:
+            out.writeInt(change.getIndex());
+            writePerson(out, change.getPerson());
+            break;
+        case UPDATE:
+            writePerson(out, change.getTarget());
+            writePerson(out, change.getPerson());
+            break;
+        case DELETE:
+            writePerson(out, change.getTarget());
+            break;
+        default:
+            throw new IllegalArgumentException("A reset cannot be recorded in a journal");
+        }
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the change in the payload of {@code record}.
+     */
+    private static AddressBookChange decode(byte[] record) throws DataConversionException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(record));
+        try {
+            AddressBookChange.Type[] types = AddressBookChange.Type.values();
+            int type = in.readUnsignedByte();
+            switch (type < types.length ? types[type] : AddressBookChange.Type.RESET) {
+            case ADD:
+                int index = in.readInt();
+                return AddressBookChange.add(index, readPerson(in));
+            case UPDATE:
+                ReadOnlyPerson target = readPerson(in);
+                return AddressBookChange.update(target, readPerson(in));
+            case DELETE:
+                return AddressBookChange.delete(readPerson(in));
+            default:
+                throw new IllegalValueException("Unknown journal record type " + type);
+            }
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes the fields of {@code person} to {@code out}.
+     */
+    private static void writePerson(DataOutputStream out, ReadOnlyPerson person) throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeNullableString(out, person.getRemark() == null ? null : person.getRemark().value);
+        writeNullableString(out, person.getAvatar() == null ? null : person.getAvatar().value);
+        out.writeInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            writeString(out, tag.tagName);
+        }
+    }
+
+    /**
+     * Reads a person written by {@link #writePerson(DataOutputStream, ReadOnlyPerson)}.
+     */
+    private static ReadOnlyPerson readPerson(DataInputStream in) throws IOException, IllegalValueException {
+        Name name = new Name(readString(in));
+        Phone phone = new Phone(readString(in));
+        Email email = new Email(readString(in));
+        Address address = new Address(readString(in));
+        String remark = readNullableString(in);
+        String avatar = readNullableString(in);
+        int tagCount = in.readInt();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(readString(in)));
+        }
+        return new Person(name, phone, email, address, remark == null ? null : new Remark(remark),
+                new Avatar(avatar), tags);
+    }
+
+    /**
+     * Writes {@code value}, which may be null, to {@code out}.
+     */
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(out, value);
+        }
+    }
+
+    /**
+     * Reads a string written by {@link #writeNullableString(DataOutputStream, String)}.
+     */
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+
+    /**
+     * Writes {@code value} to {@code out} as its length in bytes followed by its UTF-8 encoding.
+     * Unlike {@link DataOutputStream#writeUTF(String)}, this is not limited to 65535 bytes.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     */
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        // records are read from memory, so the bytes left in the record are known
+        if (length < 0 || length > in.available()) {
+            throw new EOFException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
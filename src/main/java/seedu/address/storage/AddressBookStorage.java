@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.util.Optional;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -41,4 +42,16 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyAddressBook}, which has just been changed by {@code change}, to the storage.
+     * Storages that can record individual changes may save only {@code change}.
+     * @param addressBook cannot be null.
+     * @param change cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void saveAddressBookChange(ReadOnlyAddressBook addressBook, AddressBookChange change)
+            throws IOException {
+        saveAddressBook(addressBook);
+    }
+
 }
@@ -0,0 +1,70 @@
+package seedu.address.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data between storages of different formats, e.g. from xml to binary.
+ */
+public class AddressBookStorageConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookStorageConverter.class);
+
+    /**
+     * Copies the address book in {@code source} to {@code target}.
+     * Returns false if there is no address book in {@code source}.
+     *
+     * @throws DataConversionException if the address book in {@code source} is not in the expected format.
+     * @throws IOException if there was any problem reading from {@code source} or writing to {@code target}.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataConversionException, IOException {
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (!addressBook.isPresent()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        return true;
+    }
+
+    /**
+     * Imports the address book in {@code source} into {@code target} if {@code source} was modified after
+     * {@code target}, so that switching between formats keeps the latest data, even when switching back to a
+     * format whose data file is left over from before. Problems during the import are only logged, as the app
+     * can still start without the imported data.
+     */
+    public static void importIfNewer(AddressBookStorage source, AddressBookStorage target) {
+        long sourceLastModified = getLastModified(source);
+        if (sourceLastModified == 0 || sourceLastModified <= getLastModified(target)) {
+            return;
+        }
+        try {
+            if (convert(source, target)) {
+                logger.info("Imported address book from " + source.getAddressBookFilePath() + " into "
+                        + target.getAddressBookFilePath());
+            }
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Could not import address book from " + source.getAddressBookFilePath() + ": " + e);
+        }
+    }
+
+    /**
+     * Returns the time the data in {@code storage} was last modified, including the changes appended to its
+     * journal, or 0 if it has no data file.
+     */
+    private static long getLastModified(AddressBookStorage storage) {
+        File dataFile = new File(storage.getAddressBookFilePath());
+        if (!dataFile.exists()) {
+            return 0;
+        }
+        File journalFile = new File(storage.getAddressBookFilePath()
+                + JournaledAddressBookStorage.JOURNAL_FILE_SUFFIX);
+        return Math.max(dataFile.lastModified(), journalFile.lastModified());
+    }
+}
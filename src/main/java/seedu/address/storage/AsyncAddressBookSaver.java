@@ -0,0 +1,117 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.storage.AddressBookSavedEvent;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves the address book on a dedicated writer thread.
+ * All save requests made within {@code saveDelay} milliseconds of the first pending request are coalesced,
+ * so that only the latest version of the address book is written once the delay is over.
+ *
+ * The outcome of each write is reported as an {@link AddressBookSavedEvent} or a {@link DataSavingExceptionEvent}.
+ */
+public class AsyncAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long saveDelay;
+    private final Consumer<BaseEvent> eventRaiser;
+    private final ScheduledExecutorService writer;
+
+    // the latest address book that has not been written yet, guarded by this
+    private ReadOnlyAddressBook pendingAddressBook;
+    private ScheduledFuture<?> scheduledSave;
+
+    public AsyncAddressBookSaver(AddressBookStorage addressBookStorage, long saveDelay,
+                                 Consumer<BaseEvent> eventRaiser) {
+        this.addressBookStorage = requireNonNull(addressBookStorage);
+        this.saveDelay = saveDelay;
+        this.eventRaiser = requireNonNull(eventRaiser);
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "AddressBook writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code addressBook} to be written, replacing any version of it that is still pending.
+     * The address book is snapshotted before returning, so it may be modified afterwards. An address book that is
+     * already a snapshot, e.g. the one in an event dispatched in the background, is written without copying it.
+     */
+    public synchronized void requestSave(ReadOnlyAddressBook addressBook) {
+        pendingAddressBook = AddressBookSnapshot.of(addressBook);
+        if (scheduledSave == null) {
+            scheduledSave = writer.schedule(this::writePendingAddressBook, saveDelay, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Writes the pending address book, if any, without waiting for the rest of the delay,
+     * and blocks until it has been written.
+     */
+    public void flush() {
+        synchronized (this) {
+            if (scheduledSave != null) {
+                scheduledSave.cancel(false);
+                scheduledSave = null;
+            }
+        }
+        try {
+            writer.submit(this::writePendingAddressBook).get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Writing the address book should not throw", e.getCause());
+        }
+    }
+
+    /**
+     * Flushes the pending address book and stops the writer thread.
+     * No further saves can be requested afterwards.
+     */
+    public void shutdown() {
+        flush();
+        writer.shutdown();
+    }
+
+    /**
+     * Writes the pending address book, if any, and reports the outcome.
+     */
+    private void writePendingAddressBook() {
+        ReadOnlyAddressBook addressBook;
+        synchronized (this) {
+            addressBook = pendingAddressBook;
+            pendingAddressBook = null;
+            scheduledSave = null;
+        }
+        if (addressBook == null) {
+            return;
+        }
+
+        String filePath = addressBookStorage.getAddressBookFilePath();
+        logger.fine("Writing address book to data file: " + filePath);
+        try {
+            addressBookStorage.saveAddressBook(addressBook);
+            eventRaiser.accept(new AddressBookSavedEvent(filePath));
+        } catch (IOException e) {
+            eventRaiser.accept(new DataSavingExceptionEvent(e));
+        }
+    }
+}
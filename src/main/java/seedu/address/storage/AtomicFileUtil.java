@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+
+/**
+ * Helps with replacing data files atomically while keeping backups of their previous versions.
+ *
+ * New data is first written in full to the {@link #getTempFile(File) temp file} of a data file,
+ * which then replaces the data file in a single rename, so the data file never holds partially written data.
+ */
+class AtomicFileUtil {
+
+    private static final Logger logger = LogsCenter.getLogger(AtomicFileUtil.class);
+
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final String BACKUP_FILE_SUFFIX = ".bak";
+
+    /**
+     * Returns the file that new data for {@code file} is written to before it replaces {@code file}.
+     */
+    static File getTempFile(File file) {
+        return new File(file.getPath() + TEMP_FILE_SUFFIX);
+    }
+
+    /**
+     * Returns the file holding backup {@code number} of {@code file}, where backup 1 is the most recent one.
+     */
+    static File getBackupFile(File file, int number) {
+        return new File(file.getPath() + BACKUP_FILE_SUFFIX + number);
+    }
+
+    /**
+     * Atomically replaces {@code file} with its temp file, which must have been written and synced in full.
+     * The previous {@code backupCount} versions of {@code file} are kept as backups.
+     */
+    static void replaceWithTempFile(File file, int backupCount) throws IOException {
+        rotateBackups(file, backupCount);
+        Files.move(getTempFile(file).toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+        syncParentDir(file);
+    }
+
+    /**
+     * Deletes the temp file of {@code file}, after writing it has failed, so that it can never replace
+     * {@code file}.
+     */
+    static void deleteTempFile(File file) {
+        try {
+            Files.deleteIfExists(getTempFile(file).toPath());
+        } catch (IOException e) {
+            logger.warning("Could not delete temp file of " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Returns the data read from {@code file} by {@code reader}, or from the most recent backup of
+     * {@code file} that can be read if {@code file} itself cannot be read.
+     *
+     * @throws DataConversionException if neither {@code file} nor any of its backups can be read.
+     */
+    static <T> T readWithBackups(File file, DataFileReader<T> reader)
+            throws DataConversionException, FileNotFoundException {
+        try {
+            return reader.read(file);
+        } catch (DataConversionException dce) {
+            logger.warning("Data file " + file + " cannot be read: " + dce.getMessage());
+            for (int i = 1; getBackupFile(file, i).exists(); i++) {
+                File backupFile = getBackupFile(file, i);
+                try {
+                    T data = reader.read(backupFile);
+                    logger.warning("Using backup " + backupFile + " instead");
+                    return data;
+                } catch (DataConversionException backupDce) {
+                    logger.warning("Backup " + backupFile + " cannot be read either");
+                }
+            }
+            throw dce;
+        }
+    }
+
+    /**
+     * Shifts the backups of {@code file} by one, dropping the oldest, and makes the current version of
+     * {@code file} backup 1. The current version stays in place, so {@code file} is never missing.
+     */
+    private static void rotateBackups(File file, int backupCount) throws IOException {
+        if (backupCount <= 0 || !file.exists()) {
+            return;
+        }
+        for (int i = backupCount - 1; i >= 1; i--) {
+            File backup = getBackupFile(file, i);
+            if (backup.exists()) {
+                Files.move(backup.toPath(), getBackupFile(file, i + 1).toPath(),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+
+        Path latestBackup = getBackupFile(file, 1).toPath();
+        Files.deleteIfExists(latestBackup);
+        try {
+            Files.createLink(latestBackup, file.toPath());
+        } catch (IOException | UnsupportedOperationException e) {
+            // hard links are not supported by every file system
+            Files.copy(file.toPath(), latestBackup);
+        }
+    }
+
+    /**
+     * Forces the rename of {@code file} to the disk, where the file system allows it.
+     */
+    private static void syncParentDir(File file) {
+        File parentDir = file.getAbsoluteFile().getParentFile();
+        try (FileChannel dir = FileChannel.open(parentDir.toPath(), StandardOpenOption.READ)) {
+            dir.force(true);
+        } catch (IOException e) {
+            // directories cannot be opened on some platforms
+            logger.fine("Could not sync directory " + parentDir + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads the data in a data file.
+     */
+    @FunctionalInterface
+    interface DataFileReader<T> {
+        T read(File file) throws DataConversionException, FileNotFoundException;
+    }
+}
@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+import javax.imageio.ImageIO;
+
+import javafx.application.Platform;
+import javafx.scene.image.Image;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.AppUtil;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Loads avatars in the background as downscaled thumbnails.
+ *
+ * Thumbnails are generated from the saved avatar once and persisted in {@code THUMBNAIL_STORAGE_PATH}, so that
+ * later loads only decode the small thumbnail. Loaded avatars are kept in memory up to {@code CACHE_BUDGET_BYTES},
+ * and all persons without a readable avatar share a single default image.
+ */
+public class AvatarService {
+
+    public static final String THUMBNAIL_STORAGE_PATH = ImageStorage.AVATAR_STORAGE_PATH + "thumbnails/";
+    /** Largest width or height of a thumbnail, twice the size the avatar is displayed at. */
+    public static final int THUMBNAIL_SIZE = 300;
+    public static final long CACHE_BUDGET_BYTES = 32L * 1024 * 1024;
+
+    private static final Logger logger = LogsCenter.getLogger(AvatarService.class);
+
+    private static final String THUMBNAIL_FORMAT = ImageStorage.PNG;
+    private static final int BYTES_PER_PIXEL = 4;
+
+    private static AvatarService instance;
+
+    private final File avatarDirectory;
+    private final File thumbnailDirectory;
+    private final Executor resultExecutor;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(AvatarService::createWorkerThread);
+    private final LruCache<String, Image> cache = new LruCache<>(CACHE_BUDGET_BYTES, this::sizeOf);
+    private Image defaultAvatar;
+
+    AvatarService(File avatarDirectory, File thumbnailDirectory, Executor resultExecutor) {
+        this.avatarDirectory = requireNonNull(avatarDirectory);
+        this.thumbnailDirectory = requireNonNull(thumbnailDirectory);
+        this.resultExecutor = requireNonNull(resultExecutor);
+    }
+
+    /**
+     * Returns the thread that loads the avatars.
+     */
+    private static Thread createWorkerThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "Avatar loader");
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public static synchronized AvatarService getInstance() {
+        if (instance == null) {
+            instance = new AvatarService(new File(ImageStorage.AVATAR_STORAGE_PATH),
+                    new File(THUMBNAIL_STORAGE_PATH), Platform::runLater);
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the image shown for persons without a readable avatar.
+     */
+    public synchronized Image getDefaultAvatar() {
+        if (defaultAvatar == null) {
+            defaultAvatar = AppUtil.getImage(ImageStorage.DEFAULT_RESOURCE_PATH);
+        }
+        return defaultAvatar;
+    }
+
+    /**
+     * Returns the avatar saved as {@code imageName} if it can be shown without loading it,
+     * i.e. it is in the cache or the person has no avatar.
+     */
+    public Optional<Image> getCachedAvatar(String imageName) {
+        if (imageName == null || imageName.isEmpty()) {
+            return Optional.of(getDefaultAvatar());
+        }
+        return Optional.ofNullable(cache.get(imageName));
+    }
+
+    /**
+     * Loads the avatar saved as {@code imageName} in the background, and hands it to {@code onLoaded} on the
+     * JavaFX application thread. The default image is handed over if the avatar cannot be read.
+     * The returned future can be used to cancel the load if the avatar is no longer needed.
+     */
+    public Future<?> loadAvatar(String imageName, Consumer<Image> onLoaded) {
+        requireNonNull(onLoaded);
+        return executor.submit(() -> {
+            Image image = getCachedAvatar(imageName).orElseGet(() -> load(imageName));
+            resultExecutor.execute(() -> onLoaded.accept(image));
+        });
+    }
+
+    /**
+     * Stops loading avatars. Avatars that are still waiting to be loaded are never handed over.
+     */
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Decodes the thumbnail of the avatar saved as {@code imageName} and caches it.
+     */
+    private Image load(String imageName) {
+        Image image;
+        try {
+            image = new Image(new ByteArrayInputStream(getThumbnail(imageName)));
+        } catch (IOException ioe) {
+            logger.warning("Avatar " + imageName + " cannot be read, using the default avatar: " + ioe);
+            image = getDefaultAvatar();
+        }
+        cache.put(imageName, image);
+        return image;
+    }
+
+    /**
+     * Returns the encoded thumbnail of the avatar saved as {@code imageName}, generating and persisting it
+     * if there is no thumbnail that is at least as new as the avatar.
+     *
+     * @throws IOException if the avatar cannot be read.
+     */
+    byte[] getThumbnail(String imageName) throws IOException {
+        File avatarFile = new File(avatarDirectory, imageName);
+        File thumbnailFile = new File(thumbnailDirectory, imageName + "." + THUMBNAIL_FORMAT);
+        if (!avatarFile.isFile()) {
+            throw new IOException("Avatar file " + avatarFile + " does not exist");
+        }
+        if (thumbnailFile.isFile() && thumbnailFile.lastModified() >= avatarFile.lastModified()) {
+            return Files.readAllBytes(thumbnailFile.toPath());
+        }
+
+        byte[] thumbnail = createThumbnail(avatarFile, THUMBNAIL_SIZE);
+        try {
+            FileUtil.createParentDirsOfFile(thumbnailFile);
+            Files.write(thumbnailFile.toPath(), thumbnail);
+        } catch (IOException ioe) {
+            // the thumbnail is generated again next time
+            logger.warning("Thumbnail of " + imageName + " cannot be saved: " + ioe);
+        }
+        return thumbnail;
+    }
+
+    /**
+     * Returns {@code imageFile} encoded as a PNG that is downscaled to fit within {@code maxSize} by
+     * {@code maxSize} pixels. Smaller images keep their size.
+     *
+     * @throws IOException if {@code imageFile} cannot be decoded.
+     */
+    static byte[] createThumbnail(File imageFile, int maxSize) throws IOException {
+        BufferedImage image = ImageIO.read(imageFile);
+        if (image == null) {
+            throw new IOException(imageFile + " is not a supported image");
+        }
+
+        double scale = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        int width = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int height = Math.max(1, (int) Math.round(image.getHeight() * scale));
+        BufferedImage thumbnail = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = thumbnail.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ImageIO.write(thumbnail, THUMBNAIL_FORMAT, bytes);
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the memory taken by the pixels of {@code image}. The shared default image takes no extra memory.
+     */
+    private long sizeOf(Image image) {
+        if (image == defaultAvatar) {
+            return 0;
+        }
+        return (long) image.getWidth() * (long) image.getHeight() * BYTES_PER_PIXEL;
+    }
+}
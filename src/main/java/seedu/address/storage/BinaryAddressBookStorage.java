@@ -0,0 +1,114 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.LazyPersonList;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk.
+ * @see BinaryFileStorage
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private String filePath;
+    private final int backupCount;
+    private final boolean lazyLoading;
+
+    public BinaryAddressBookStorage(String filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a storage that keeps the previous {@code backupCount} versions of the data file as backups.
+     */
+    public BinaryAddressBookStorage(String filePath, int backupCount) {
+        this(filePath, backupCount, false);
+    }
+
+    /**
+     * Creates a storage that keeps the previous {@code backupCount} versions of the data file as backups.
+     * If {@code lazyLoading} is true, the address books read are backed by the contents of the data file and
+     * their persons are only read as they are accessed.
+     */
+    public BinaryAddressBookStorage(String filePath, int backupCount, boolean lazyLoading) {
+        this.filePath = filePath;
+        this.backupCount = backupCount;
+        this.lazyLoading = lazyLoading;
+    }
+
+    /**
+     * Returns the path of the binary file that corresponds to the data file at {@code filePath},
+     * which has the same name with the binary file extension.
+     */
+    public static String toBinaryFilePath(String filePath) {
+        int extensionStart = filePath.lastIndexOf('.');
+        int nameStart = filePath.lastIndexOf(File.separatorChar) + 1;
+        if (extensionStart > nameStart) {
+            return filePath.substring(0, extensionStart) + FILE_EXTENSION;
+        }
+        return filePath + FILE_EXTENSION;
+    }
+
+    public String getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * Falls back to the most recent backup of the file that can be read if the file itself cannot be read.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if neither the file nor any of its backups are in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 FileNotFoundException {
+        requireNonNull(filePath);
+
+        File addressBookFile = new File(filePath);
+
+        if (!addressBookFile.exists()) {
+            logger.info("AddressBook file "  + addressBookFile + " not found");
+            return Optional.empty();
+        }
+
+        if (lazyLoading) {
+            return Optional.of(AtomicFileUtil.readWithBackups(addressBookFile,
+                file -> BinaryFileStorage.loadDataLazily(file, LazyPersonList.DEFAULT_CACHE_SIZE)));
+        }
+        return Optional.of(AtomicFileUtil.readWithBackups(addressBookFile, BinaryFileStorage::loadDataFromSaveFile));
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        BinaryFileStorage.saveDataToFile(new File(filePath), addressBook, backupCount);
+    }
+
+}
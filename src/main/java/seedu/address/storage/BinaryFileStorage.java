@@ -0,0 +1,431 @@
+package seedu.address.storage;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Avatar;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.Remark;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Stores addressbook data in a compact binary file.
+ *
+ * The file consists of a header with the format version, a table of all distinct tag names, the tags of the
+ * address book as indices into that table, and one length-prefixed record per person. Tags of persons are
+ * also stored as indices into the table, so each tag name is stored and validated only once.
+ * The file ends with a CRC-32 checksum of everything before it.
+ * As each person record is prefixed with its length, the file can also be read lazily by skipping from record
+ * to record and only reading the persons that are accessed.
+ */
+public class BinaryFileStorage {
+
+    public static final int MAGIC = 0x41424231; // "ABB1"
+    public static final int VERSION = 2;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    // the longest person record that is written or read, so that a corrupted length is not allocated
+    private static final int MAX_RECORD_LENGTH = 1 << 20;
+
+    /**
+     * Saves the given addressbook data to the specified file, keeping the previous {@code backupCount}
+     * versions of the file as backups. The file is replaced atomically, and is left as it was if writing fails.
+     *
+     * @throws IOException if writing fails, or the record of a person is longer than the reader accepts.
+     */
+    public static void saveDataToFile(File file, ReadOnlyAddressBook addressBook, int backupCount)
+            throws IOException {
+        FileUtil.createParentDirsOfFile(file);
+        File tempFile = AtomicFileUtil.getTempFile(file);
+
+        try (FileOutputStream fileOut = new FileOutputStream(tempFile)) {
+            CheckedOutputStream checkedOut = new CheckedOutputStream(
+                    new BufferedOutputStream(fileOut, BUFFER_SIZE), new CRC32());
+            DataOutputStream out = new DataOutputStream(checkedOut);
+            writeAddressBook(out, addressBook);
+            out.flush();
+            out.writeLong(checkedOut.getChecksum().getValue());
+            out.flush();
+            fileOut.getFD().sync();
+        } catch (IOException | RuntimeException e) {
+            AtomicFileUtil.deleteTempFile(file);
+            throw e;
+        }
+
+        AtomicFileUtil.replaceWithTempFile(file, backupCount);
+    }
+
+    /**
+     * Returns the address book in the file.
+     *
+     * @throws DataConversionException if the file is not in the expected format or fails its checksum.
+     */
+    public static ReadOnlyAddressBook loadDataFromSaveFile(File file) throws DataConversionException,
+                                                                     FileNotFoundException {
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        try (FileInputStream fileIn = new FileInputStream(file)) {
+            CheckedInputStream checkedIn = new CheckedInputStream(
+                    new BufferedInputStream(fileIn, BUFFER_SIZE), new CRC32());
+            DataInputStream in = new DataInputStream(checkedIn);
+            ReadOnlyAddressBook addressBook = readAddressBook(in);
+
+            long actualChecksum = checkedIn.getChecksum().getValue();
+            if (in.readLong() != actualChecksum) {
+                throw new IllegalValueException("Data in " + file + " does not match its checksum");
+            }
+            return addressBook;
+        } catch (IOException | IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} to {@code out}.
+     */
+    private static void writeAddressBook(DataOutputStream out, ReadOnlyAddressBook addressBook)
+            throws IOException {
+        Map<String, Integer> tagIndices = new HashMap<>();
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : addressBook.getTagList()) {
+            tagIndices.computeIfAbsent(tag.tagName, name -> addName(tagNames, name));
+        }
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            for (Tag tag : person.getTags()) {
+                tagIndices.computeIfAbsent(tag.tagName, name -> addName(tagNames, name));
+            }
+        }
+
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeInt(tagNames.size());
+        for (String tagName : tagNames) {
+            writeString(out, tagName);
+        }
+        out.writeInt(addressBook.getTagList().size());
+        for (Tag tag : addressBook.getTagList()) {
+            out.writeInt(tagIndices.get(tag.tagName));
+        }
+
+        out.writeInt(addressBook.getPersonList().size());
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream record = new DataOutputStream(recordBytes);
+        for (ReadOnlyPerson person : addressBook.getPersonList()) {
+            recordBytes.reset();
+            writePerson(record, person, tagIndices);
+            record.flush();
+            if (recordBytes.size() > MAX_RECORD_LENGTH) {
+                throw new IOException("Record of " + person.getName() + " is " + recordBytes.size()
+                        + " bytes long, more than the " + MAX_RECORD_LENGTH + " bytes allowed");
+            }
+            out.writeInt(recordBytes.size());
+            recordBytes.writeTo(out);
+        }
+    }
+
+    /**
+     * Returns an address book read from {@code in}, which must be positioned at the start of the file.
+     */
+    private static ReadOnlyAddressBook readAddressBook(DataInputStream in)
+            throws IOException, IllegalValueException {
+        List<Tag> tagTable = readTagTable(in);
+        Set<Tag> tags = readTags(in, tagTable);
+
+        // counts and lengths are not trusted until the whole file has been checked against its checksum
+        int personCount = in.readInt();
+        List<ReadOnlyPerson> persons = new ArrayList<>(Math.min(Math.max(personCount, 0), BUFFER_SIZE));
+        byte[] recordBytes = new byte[256];
+        for (int i = 0; i < personCount; i++) {
+            int length = in.readInt();
+            if (length < 0 || length > MAX_RECORD_LENGTH) {
+                throw new EOFException("Invalid person record length " + length);
+            }
+            if (length > recordBytes.length) {
+                recordBytes = new byte[Math.max(length, recordBytes.length * 2)];
+            }
+            in.readFully(recordBytes, 0, length);
+            persons.add(readPerson(new DataInputStream(new ByteArrayInputStream(recordBytes, 0, length)),
+                    tagTable));
+        }
+        return new AddressBookSnapshot(persons, tags);
+    }
+
+    /**
+     * Returns the address book in the file, whose persons are only read when they are accessed.
+     * Only the tags and the positions of the person records are read up front, persons are read from the contents
+     * of the file when they are accessed and at most {@code cacheSize} of them are kept in memory.
+     * The contents are copied into memory rather than mapped, so the file can be replaced, e.g. by saving the
+     * address book, while the returned address book is in use.
+     *
+     * @throws DataConversionException if the file is not in the expected format or fails its checksum.
+     */
+    public static ReadOnlyAddressBook loadDataLazily(File file, int cacheSize) throws DataConversionException,
+                                                                                     FileNotFoundException {
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                return loadDataFromSaveFile(file);
+            }
+            // a mapping would keep the file open until it is garbage collected, which prevents the file from
+            // being replaced on some platforms
+            buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // read until the whole file is in the buffer
+            }
+            buffer.flip();
+        } catch (IOException ioe) {
+            throw new DataConversionException(ioe);
+        }
+
+        try {
+            ByteBuffer data = verifyChecksum(buffer, file);
+            DataInputStream in = new DataInputStream(new ByteBufferInputStream(data));
+            List<Tag> tagTable = readTagTable(in);
+            Set<Tag> tags = readTags(in, tagTable);
+
+            int personCount = in.readInt();
+            // every record takes at least the four bytes of its length
+            if (personCount < 0 || personCount > data.remaining() / 4) {
+                throw new IllegalValueException("Invalid person count " + personCount);
+            }
+            int[] recordOffsets = new int[personCount];
+            for (int i = 0; i < personCount; i++) {
+                int length = data.getInt();
+                if (length < 0 || length > data.remaining()) {
+                    throw new IllegalValueException("Invalid person record length " + length);
+                }
+                recordOffsets[i] = data.position();
+                data.position(data.position() + length);
+            }
+            return new LazyAddressBook(file, buffer, recordOffsets, tagTable, tags, cacheSize);
+        } catch (IOException | IllegalValueException | BufferUnderflowException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the part of {@code buffer} before its checksum, after checking it against the checksum.
+     *
+     * @throws IllegalValueException if the data does not match the checksum.
+     */
+    private static ByteBuffer verifyChecksum(ByteBuffer buffer, File file) throws IllegalValueException {
+        if (buffer.limit() < Long.BYTES) {
+            throw new IllegalValueException("Not an address book file");
+        }
+        ByteBuffer data = buffer.duplicate();
+        data.limit(buffer.limit() - Long.BYTES);
+        CRC32 crc = new CRC32();
+        crc.update(data.duplicate());
+        if (buffer.getLong(data.limit()) != crc.getValue()) {
+            throw new IllegalValueException("Data in " + file + " does not match its checksum");
+        }
+        return data;
+    }
+
+    /**
+     * Reads the header of the file and returns the table of tags that tags are referred to by.
+     */
+    private static List<Tag> readTagTable(DataInputStream in) throws IOException, IllegalValueException {
+        if (in.readInt() != MAGIC) {
+            throw new IllegalValueException("Not an address book file");
+        }
+        int version = in.readInt();
+        if (version != VERSION) {
+            throw new IllegalValueException("Unsupported address book file version " + version);
+        }
+
+        int tagTableSize = in.readInt();
+        List<Tag> tagTable = new ArrayList<>(Math.min(Math.max(tagTableSize, 0), BUFFER_SIZE));
+        for (int i = 0; i < tagTableSize; i++) {
+            tagTable.add(new Tag(readString(in)));
+        }
+        return tagTable;
+    }
+
+    /**
+     * Reads the tags of the address book, which refer to {@code tagTable}.
+     */
+    private static Set<Tag> readTags(DataInputStream in, List<Tag> tagTable)
+            throws IOException, IllegalValueException {
+        int tagCount = in.readInt();
+        Set<Tag> tags = new LinkedHashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(getTag(tagTable, in.readInt()));
+        }
+        return tags;
+    }
+
+    /**
+     * Writes the fields of {@code person} to {@code out}, with its tags as indices in {@code tagIndices}.
+     */
+    private static void writePerson(DataOutputStream out, ReadOnlyPerson person, Map<String, Integer> tagIndices)
+            throws IOException {
+        writeString(out, person.getName().fullName);
+        writeString(out, person.getPhone().value);
+        writeString(out, person.getEmail().value);
+        writeString(out, person.getAddress().value);
+        writeNullableString(out, person.getRemark() == null ? null : person.getRemark().value);
+        writeNullableString(out, person.getAvatar() == null ? null : person.getAvatar().value);
+        out.writeShort(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.writeInt(tagIndices.get(tag.tagName));
+        }
+    }
+
+    /**
+     * Reads a person written by {@link #writePerson(DataOutputStream, ReadOnlyPerson, Map)}.
+     */
+    private static ReadOnlyPerson readPerson(DataInputStream in, List<Tag> tagTable)
+            throws IOException, IllegalValueException {
+        Name name = new Name(readString(in));
+        Phone phone = new Phone(readString(in));
+        Email email = new Email(readString(in));
+        Address address = new Address(readString(in));
+        String remark = readNullableString(in);
+        String avatar = readNullableString(in);
+        int tagCount = in.readUnsignedShort();
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(getTag(tagTable, in.readInt()));
+        }
+        return new Person(name, phone, email, address, remark == null ? null : new Remark(remark),
+                new Avatar(avatar), tags);
+    }
+
+    /**
+     * Reads the person in {@code record}, which holds exactly one person record.
+     */
+    static ReadOnlyPerson readPerson(ByteBuffer record, List<Tag> tagTable)
+            throws IOException, IllegalValueException {
+        return readPerson(new DataInputStream(new ByteBufferInputStream(record)), tagTable);
+    }
+
+    private static Tag getTag(List<Tag> tagTable, int index) throws IllegalValueException {
+        if (index < 0 || index >= tagTable.size()) {
+            throw new IllegalValueException("Invalid tag index " + index);
+        }
+        return tagTable.get(index);
+    }
+
+    private static int addName(List<String> names, String name) {
+        names.add(name);
+        return names.size() - 1;
+    }
+
+    /**
+     * Writes {@code value}, which may be null, to {@code out}.
+     */
+    private static void writeNullableString(DataOutputStream out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            writeString(out, value);
+        }
+    }
+
+    /**
+     * Reads a string written by {@link #writeNullableString(DataOutputStream, String)}.
+     */
+    private static String readNullableString(DataInputStream in) throws IOException {
+        return in.readBoolean() ? readString(in) : null;
+    }
+
+    /**
+     * Writes {@code value} to {@code out} as its length in bytes followed by its UTF-8 encoding.
+     * Unlike {@link DataOutputStream#writeUTF(String)}, this is not limited to 65535 bytes.
+     */
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     */
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        // strings are read from a file or from memory, so the bytes left are known
+        if (length < 0 || length > in.available()) {
+            throw new EOFException("Invalid string length " + length);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * An {@code InputStream} that reads the remaining bytes of a {@code ByteBuffer}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xff : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
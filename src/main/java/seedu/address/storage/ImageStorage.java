@@ -1,19 +1,38 @@
 package seedu.address.storage;
 
+import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import javax.imageio.ImageIO;
 
 import javafx.scene.image.Image;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.AppUtil;
 import seedu.address.commons.util.FileUtil;
 
 /**
  * A class to store and retrieve images in the data folder
  * Currently used for for avatars
+ *
+ * Avatars are named after the hash of their contents, so an image that is used for many persons is only
+ * stored once. Avatars that no longer belong to any person are removed by {@link #removeUnreferencedAvatars(Set)}.
+ * Only content addressed avatars are ever removed, as avatars saved under other names may be shared in other ways.
  */
 //@@author nicholaschuayunzhi
 public class ImageStorage {
@@ -23,18 +42,38 @@ public class ImageStorage {
     public static final String AVATAR_STORAGE_PATH = "data/images/avatars/";
     public static final String DEFAULT_RESOURCE_PATH = "/images/avatars/default.png";
 
+    private static final Logger logger = LogsCenter.getLogger(ImageStorage.class);
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+    private static final String TEMP_FILE_SUFFIX = ".tmp";
+    private static final byte[] PNG_SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+    private static final byte[] JPG_SIGNATURE = {(byte) 0xff, (byte) 0xd8, (byte) 0xff};
+    private static final int MAX_CACHED_CONTENT_NAMES = 64;
+    private static final Pattern CONTENT_ADDRESSED_NAME =
+            Pattern.compile("[0-9a-f]{64}\\.(?:" + PNG + "|" + JPG + ")");
+
+    // the same file is named again whenever a command with it is parsed, e.g. while it is being typed
+    private static final LruCache<String, String> contentNames =
+            new LruCache<>(MAX_CACHED_CONTENT_NAMES, name -> 1);
+
     /**
      * Looks for image in {@code AVATAR_STORAGE_PATH} based on imageName
      * @param imageName
      * @return image if it exists or default image if image does not exist
      */
     public static Image getAvatar(String imageName) {
+        return getAvatar(new File(AVATAR_STORAGE_PATH), imageName);
+    }
+
+    /**
+     * Similar to {@link #getAvatar(String)}, with avatars in {@code avatarDirectory}.
+     */
+    static Image getAvatar(File avatarDirectory, String imageName) {
         Image image;
 
         try {
 
-            String fullPath = AVATAR_STORAGE_PATH + imageName;
-            image = new Image(new FileInputStream(new File(fullPath)));
+            image = new Image(new FileInputStream(new File(avatarDirectory, imageName)));
 
         } catch (FileNotFoundException e) {
             image = AppUtil.getImage(DEFAULT_RESOURCE_PATH);
@@ -43,27 +82,202 @@ public class ImageStorage {
         return image;
     }
 
+    /**
+     * Returns the name to save the image at {@code imageFilePath} as: the hash of its contents followed by
+     * its format, so that identical images get the same name.
+     * @throws IOException if the image cannot be read
+     */
+    public static String getContentAddressedName(String imageFilePath) throws IOException {
+        File imageFile = new File(imageFilePath);
+        String key = imageFile.getAbsolutePath() + "|" + imageFile.length() + "|" + imageFile.lastModified();
+        String name = contentNames.get(key);
+        if (name == null) {
+            name = hash(imageFile) + "." + getFormat(imageFilePath);
+            contentNames.put(key, name);
+        }
+        return name;
+    }
+
+    /**
+     * Returns the hexadecimal hash of the contents of {@code file}.
+     */
+    private static String hash(File file) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance(HASH_ALGORITHM);
+        } catch (NoSuchAlgorithmException nsae) {
+            throw new AssertionError(HASH_ALGORITHM + " is supported by every Java platform", nsae);
+        }
+
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new DigestInputStream(new FileInputStream(file), digest)) {
+            while (in.read(buffer) != -1) {
+                // the digest is updated as the file is read
+            }
+        }
+
+        StringBuilder hex = new StringBuilder();
+        for (byte b : digest.digest()) {
+            hex.append(String.format("%02x", b));
+        }
+        return hex.toString();
+    }
+
     /**
      * Saves image to {@code AVATAR_STORAGE_PATH}
+     * The image is copied as it is if it is already in the format of {@code name}, and is only converted otherwise.
+     * Nothing is written if an avatar named {@code name} is already saved, as names are content addressed.
      * @param imageFilePath file path of image to be saved
      * @param name name of image to be saved as
      * @return true if avatar is successfully saved and false if avatar is not saved
      */
     public static boolean saveAvatar(String imageFilePath, String name) {
+        return saveAvatar(new File(AVATAR_STORAGE_PATH), imageFilePath, name);
+    }
+
+    /**
+     * Similar to {@link #saveAvatar(String, String)}, with avatars in {@code avatarDirectory}.
+     */
+    static boolean saveAvatar(File avatarDirectory, String imageFilePath, String name) {
 
-        String format = getFormat(imageFilePath);
+        String format = getFormat(name);
 
         try {
             File imageFile = new File(imageFilePath);
-            File imageFileToWrite = new File(AVATAR_STORAGE_PATH + name);
-            FileUtil.createIfMissing(imageFileToWrite);
-            ImageIO.write(ImageIO.read(imageFile), format, imageFileToWrite);
+            File imageFileToWrite = new File(avatarDirectory, name);
+            if (!imageFile.isFile()) {
+                return false;
+            }
+            if (imageFileToWrite.isFile()) {
+                return true;
+            }
+
+            // written to a temporary file first, so that a partially written avatar is never taken as saved
+            File tempFile = new File(imageFileToWrite.getPath() + TEMP_FILE_SUFFIX);
+            FileUtil.createParentDirsOfFile(tempFile);
+            if (hasSignatureOf(imageFile, format)) {
+                Files.copy(imageFile.toPath(), tempFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            } else if (!ImageIO.write(readImage(imageFile), format, tempFile)) {
+                throw new IOException("No writer for format " + format);
+            }
+            Files.move(tempFile.toPath(), imageFileToWrite.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
         } catch (IOException e) {
             return false;
         }
         return true;
     }
 
+    /**
+     * Returns the decoded image in {@code imageFile}.
+     * @throws IOException if the file is not an image that can be decoded
+     */
+    private static BufferedImage readImage(File imageFile) throws IOException {
+        BufferedImage image = ImageIO.read(imageFile);
+        if (image == null) {
+            throw new IOException(imageFile + " is not a supported image");
+        }
+        return image;
+    }
+
+    /**
+     * Returns true if the contents of {@code imageFile} start with the signature of {@code format}.
+     */
+    private static boolean hasSignatureOf(File imageFile, String format) throws IOException {
+        byte[] signature = format.equals(JPG) ? JPG_SIGNATURE : PNG_SIGNATURE;
+        byte[] header = new byte[signature.length];
+        try (InputStream in = new FileInputStream(imageFile)) {
+            int read = 0;
+            while (read < header.length) {
+                int count = in.read(header, read, header.length - read);
+                if (count == -1) {
+                    return false;
+                }
+                read += count;
+            }
+        }
+        return Arrays.equals(header, signature);
+    }
+
+    /**
+     * Returns the names of the content addressed avatars that are mentioned in the files directly in
+     * {@code dataDirectory}, e.g. in data files in any format, their backups and their journals.
+     * The files are searched as they are rather than read as address books, so files that cannot be read as an
+     * address book still keep their avatars.
+     */
+    public static Set<String> findAvatarNamesIn(File dataDirectory) {
+        Set<String> names = new HashSet<>();
+        for (File file : listFiles(dataDirectory)) {
+            try {
+                // the names are in ascii, which is kept as it is by every format the data is saved in
+                String contents = new String(Files.readAllBytes(file.toPath()), StandardCharsets.ISO_8859_1);
+                Matcher matcher = CONTENT_ADDRESSED_NAME.matcher(contents);
+                while (matcher.find()) {
+                    names.add(matcher.group());
+                }
+            } catch (IOException ioe) {
+                logger.warning("Failed to search " + file + " for avatars: " + ioe);
+            }
+        }
+        return names;
+    }
+
+    /**
+     * Removes the content addressed avatars in {@code AVATAR_STORAGE_PATH}, and their thumbnails, that are not
+     * named in {@code referencedNames}.
+     * This must only be done when no removed person can be restored anymore, e.g. when the app stops.
+     * @return the number of avatars removed
+     */
+    public static int removeUnreferencedAvatars(Set<String> referencedNames) {
+        return removeUnreferencedAvatars(new File(AVATAR_STORAGE_PATH), new File(AvatarService.THUMBNAIL_STORAGE_PATH),
+                referencedNames);
+    }
+
+    /**
+     * Similar to {@link #removeUnreferencedAvatars(Set)}, with avatars in {@code avatarDirectory} and thumbnails
+     * in {@code thumbnailDirectory}.
+     */
+    static int removeUnreferencedAvatars(File avatarDirectory, File thumbnailDirectory, Set<String> referencedNames) {
+        int removedCount = 0;
+        for (File avatarFile : listFiles(avatarDirectory)) {
+            if (CONTENT_ADDRESSED_NAME.matcher(avatarFile.getName()).matches()
+                    && !referencedNames.contains(avatarFile.getName())) {
+                removedCount += delete(avatarFile) ? 1 : 0;
+            }
+        }
+        for (File thumbnailFile : listFiles(thumbnailDirectory)) {
+            String avatarName = thumbnailFile.getName().replaceFirst("\\.[^.]*$", "");
+            if (CONTENT_ADDRESSED_NAME.matcher(avatarName).matches() && !referencedNames.contains(avatarName)) {
+                delete(thumbnailFile);
+            }
+        }
+        if (removedCount > 0) {
+            logger.info("Removed " + removedCount + " avatars that no longer belong to any person");
+        }
+        return removedCount;
+    }
+
+    /**
+     * Returns the files directly in {@code directory}, or none if it does not exist.
+     */
+    private static File[] listFiles(File directory) {
+        File[] files = directory.listFiles(File::isFile);
+        return files == null ? new File[0] : files;
+    }
+
+    /**
+     * Deletes {@code file}, returning true if it was deleted.
+     */
+    private static boolean delete(File file) {
+        try {
+            Files.delete(file.toPath());
+            return true;
+        } catch (IOException ioe) {
+            logger.warning("Failed to delete " + file + ": " + ioe);
+            return false;
+        }
+    }
+
     /**
      * parses file path and returns format
      * @return image format of {@param imageFilePath}
@@ -0,0 +1,184 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+
+/**
+ * A class to access AddressBook data stored as an xml snapshot together with a journal of the changes
+ * made since the snapshot was written.
+ *
+ * Each change is appended to the journal instead of rewriting the whole snapshot. The journal is compacted
+ * into a new snapshot once it holds {@code compactionThreshold} changes, or when the whole address book
+ * is replaced. Reading the address book replays the journal on top of the snapshot.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage, Closeable {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final XmlAddressBookStorage snapshotStorage;
+    private final AddressBookJournal journal;
+    private final int compactionThreshold;
+
+    public JournaledAddressBookStorage(String filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, 0);
+    }
+
+    /**
+     * Creates a storage that keeps the previous {@code backupCount} snapshots as backups.
+     */
+    public JournaledAddressBookStorage(String filePath, int compactionThreshold, int backupCount) {
+        this.snapshotStorage = new XmlAddressBookStorage(filePath, backupCount);
+        this.journal = new AddressBookJournal(new File(filePath + JOURNAL_FILE_SUFFIX));
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    @Override
+    public String getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     * The journal is only replayed when reading from the file path of this storage.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format,
+     *     or the journal does not apply to the snapshot.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        File snapshotFile = new File(filePath);
+        if (!filePath.equals(getAddressBookFilePath()) || !snapshotFile.exists()) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        ReadOnlyAddressBook snapshot;
+        try {
+            snapshot = XmlFileStorage.loadDataFromSaveFile(snapshotFile);
+        } catch (DataConversionException dce) {
+            // the journal does not apply to the backups that the snapshot storage falls back to
+            logger.warning("Snapshot " + filePath + " cannot be read, ignoring its journal");
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        Optional<List<AddressBookChange>> changes = journal.read(snapshotFile.length(), checksum(snapshotFile));
+        if (!changes.isPresent() || changes.get().isEmpty()) {
+            return Optional.of(snapshot);
+        }
+
+        logger.info("Replaying " + changes.get().size() + " changes from the journal of " + filePath);
+        AddressBook addressBook = new AddressBook(snapshot);
+        try {
+            for (AddressBookChange change : changes.get()) {
+                change.applyTo(addressBook);
+            }
+        } catch (DuplicatePersonException | PersonNotFoundException e) {
+            throw new DataConversionException(e);
+        }
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to the file path of this storage compacts the journal into a new snapshot.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+        compact(addressBook);
+    }
+
+    /**
+     * Appends {@code change} to the journal, or writes {@code addressBook} as a new snapshot if the change
+     * cannot be appended or the journal is due for compaction.
+     */
+    @Override
+    public void saveAddressBookChange(ReadOnlyAddressBook addressBook, AddressBookChange change)
+            throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(change);
+
+        if (change.getType() == AddressBookChange.Type.RESET || !journal.isOpen()
+                || journal.getRecordCount() >= compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+        journal.append(change);
+    }
+
+    /**
+     * Closes the journal. Changes are written as a new snapshot until the address book is read again.
+     */
+    @Override
+    public void close() throws IOException {
+        journal.close();
+    }
+
+    /**
+     * Replaces the snapshot with {@code addressBook} and starts an empty journal on top of it.
+     * The old journal no longer matches the new snapshot, so it is never replayed on top of it
+     * even if the app stops before the new journal is started.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        File snapshotFile = new File(getAddressBookFilePath());
+
+        logger.fine("Compacting journal into data file: " + snapshotFile);
+        snapshotStorage.saveAddressBook(addressBook);
+        journal.start(snapshotFile.length(), checksum(snapshotFile));
+    }
+
+    /**
+     * Returns the CRC-32 checksum of the contents of {@code file}.
+     */
+    private static long checksum(File file) throws IOException {
+        CRC32 crc = new CRC32();
+        byte[] buffer = new byte[8192];
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                crc.update(buffer, 0, read);
+            }
+        }
+        return crc.getValue();
+    }
+
+}
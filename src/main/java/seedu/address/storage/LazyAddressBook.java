@@ -0,0 +1,73 @@
+package seedu.address.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.List;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.LazyPersonList;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A read-only address book backed by the contents of a binary data file.
+ * Persons are read from their records in the contents when they are accessed.
+ * @see BinaryFileStorage#loadDataLazily(File, int)
+ */
+class LazyAddressBook implements ReadOnlyAddressBook {
+
+    private final File file;
+    private final ByteBuffer buffer;
+    private final int[] recordOffsets;
+    private final List<Tag> tagTable;
+    private final ObservableList<ReadOnlyPerson> persons;
+    private final ObservableList<Tag> tags;
+
+    /**
+     * Creates an address book with the person records at {@code recordOffsets} of {@code buffer}, each of which
+     * is preceded by its length. The tags of persons refer to {@code tagTable}.
+     */
+    LazyAddressBook(File file, ByteBuffer buffer, int[] recordOffsets, List<Tag> tagTable, Collection<Tag> tags,
+                    int cacheSize) {
+        this.file = file;
+        this.buffer = buffer;
+        this.recordOffsets = recordOffsets;
+        this.tagTable = tagTable;
+        // a LazyPersonList is already unmodifiable, and is only read lazily by the model if it is not wrapped
+        this.persons = new LazyPersonList(recordOffsets.length, this::readPerson, cacheSize);
+        this.tags = FXCollections.unmodifiableObservableList(FXCollections.observableArrayList(tags));
+    }
+
+    /**
+     * Reads the person at {@code index} from the contents of the file.
+     *
+     * @throws IllegalStateException if the record of the person cannot be read, as the file was checked against
+     *     its checksum when it was opened.
+     */
+    private ReadOnlyPerson readPerson(int index) {
+        int offset = recordOffsets[index];
+        ByteBuffer record = buffer.duplicate();
+        record.position(offset);
+        record.limit(offset + buffer.getInt(offset - Integer.BYTES));
+        try {
+            return BinaryFileStorage.readPerson(record, tagTable);
+        } catch (IOException | IllegalValueException e) {
+            throw new IllegalStateException("Person " + index + " in " + file + " cannot be read", e);
+        }
+    }
+
+    @Override
+    public ObservableList<ReadOnlyPerson> getPersonList() {
+        return persons;
+    }
+
+    @Override
+    public ObservableList<Tag> getTagList() {
+        return tags;
+    }
+}
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * A thread-safe cache that holds values up to a total size in bytes, evicting the least recently used
+ * values first when the budget is exceeded.
+ */
+class LruCache<K, V> {
+
+    private final long maxBytes;
+    private final ToLongFunction<V> sizeOf;
+    // in access order, so that the first entry is the least recently used one
+    private final LinkedHashMap<K, V> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+
+    /**
+     * Creates a cache holding values of at most {@code maxBytes} in total, as measured by {@code sizeOf}.
+     */
+    LruCache(long maxBytes, ToLongFunction<V> sizeOf) {
+        this.maxBytes = maxBytes;
+        this.sizeOf = requireNonNull(sizeOf);
+    }
+
+    /**
+     * Returns the value cached for {@code key} and marks it as the most recently used, or null if there is none.
+     */
+    synchronized V get(K key) {
+        return entries.get(key);
+    }
+
+    /**
+     * Caches {@code value} for {@code key}, evicting the least recently used values to stay within the budget.
+     * A value larger than the whole budget is not cached.
+     */
+    synchronized void put(K key, V value) {
+        requireNonNull(key);
+        requireNonNull(value);
+        remove(key);
+
+        long size = sizeOf.applyAsLong(value);
+        if (size > maxBytes) {
+            return;
+        }
+        entries.put(key, value);
+        totalBytes += size;
+
+        Iterator<Map.Entry<K, V>> leastRecentlyUsed = entries.entrySet().iterator();
+        while (totalBytes > maxBytes) {
+            V evicted = leastRecentlyUsed.next().getValue();
+            leastRecentlyUsed.remove();
+            totalBytes -= sizeOf.applyAsLong(evicted);
+        }
+    }
+
+    /**
+     * Removes the value cached for {@code key}, if any.
+     */
+    synchronized void remove(K key) {
+        V removed = entries.remove(key);
+        if (removed != null) {
+            totalBytes -= sizeOf.applyAsLong(removed);
+        }
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long getTotalBytes() {
+        return totalBytes;
+    }
+}
@@ -7,10 +7,13 @@ import java.util.logging.Logger;
 import com.google.common.eventbus.Subscribe;
 
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookSavedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBookChange;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
@@ -22,12 +25,28 @@ public class StorageManager extends ComponentManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
+    // null if the address book is saved synchronously
+    private AsyncAddressBookSaver addressBookSaver;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
-        super();
+        this(addressBookStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that coalesces the changes to the address book made within
+     * {@code saveDelay} milliseconds into a single save on a background thread.
+     * The address book is saved synchronously on every change if {@code saveDelay} is not positive.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          long saveDelay) {
+        // saving may take long, so the events of storage are handled in the background if possible
+        super(EventsCenter.getInstance(), EventsCenter.Dispatch.BACKGROUND);
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        if (saveDelay > 0) {
+            this.addressBookSaver = new AsyncAddressBookSaver(addressBookStorage, saveDelay, this::raise);
+        }
     }
 
     // ================ UserPrefs methods ==============================
@@ -77,13 +96,39 @@ public class StorageManager extends ComponentManager implements Storage {
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
 
+    @Override
+    public void saveAddressBookChange(ReadOnlyAddressBook addressBook, AddressBookChange change)
+            throws IOException {
+        logger.fine("Attempting to save change to data file: " + change);
+        addressBookStorage.saveAddressBookChange(addressBook, change);
+    }
+
+
+    @Override
+    public void flushAddressBook() {
+        if (addressBookSaver != null) {
+            addressBookSaver.flush();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (addressBookSaver != null) {
+            addressBookSaver.shutdown();
+        }
+    }
 
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        if (addressBookSaver != null) {
+            addressBookSaver.requestSave(event.data);
+            return;
+        }
         try {
-            saveAddressBook(event.data);
+            saveAddressBookChange(event.data, event.change);
+            raise(new AddressBookSavedEvent(getAddressBookFilePath()));
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
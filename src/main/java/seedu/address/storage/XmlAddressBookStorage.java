@@ -10,7 +10,6 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyAddressBook;
 
 /**
@@ -21,9 +20,18 @@ public class XmlAddressBookStorage implements AddressBookStorage {
     private static final Logger logger = LogsCenter.getLogger(XmlAddressBookStorage.class);
 
     private String filePath;
+    private final int backupCount;
 
     public XmlAddressBookStorage(String filePath) {
+        this(filePath, 0);
+    }
+
+    /**
+     * Creates a storage that keeps the previous {@code backupCount} versions of the data file as backups.
+     */
+    public XmlAddressBookStorage(String filePath, int backupCount) {
         this.filePath = filePath;
+        this.backupCount = backupCount;
     }
 
     public String getAddressBookFilePath() {
@@ -37,8 +45,9 @@ public class XmlAddressBookStorage implements AddressBookStorage {
 
     /**
      * Similar to {@link #readAddressBook()}
+     * Falls back to the most recent backup of the file that can be read if the file itself cannot be read.
      * @param filePath location of the data. Cannot be null
-     * @throws DataConversionException if the file is not in the correct format.
+     * @throws DataConversionException if neither the file nor any of its backups are in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(String filePath) throws DataConversionException,
                                                                                  FileNotFoundException {
@@ -51,9 +60,7 @@ public class XmlAddressBookStorage implements AddressBookStorage {
             return Optional.empty();
         }
 
-        ReadOnlyAddressBook addressBookOptional = XmlFileStorage.loadDataFromSaveFile(new File(filePath));
-
-        return Optional.of(addressBookOptional);
+        return Optional.of(AtomicFileUtil.readWithBackups(addressBookFile, XmlFileStorage::loadDataFromSaveFile));
     }
 
     @Override
@@ -69,9 +76,7 @@ public class XmlAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        File file = new File(filePath);
-        FileUtil.createIfMissing(file);
-        XmlFileStorage.saveDataToFile(file, new XmlSerializableAddressBook(addressBook));
+        XmlFileStorage.saveDataToFile(new File(filePath), addressBook, backupCount);
     }
 
 }
@@ -1,39 +1,242 @@
 package seedu.address.storage;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedWriter;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStreamWriter;
+import java.io.RandomAccessFile;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedOutputStream;
 
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.Marshaller;
+import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
 
 /**
- * Stores addressbook data in an XML file
+ * Stores addressbook data in an XML file.
+ * The file is read and written one person or tag element at a time, in the format of
+ * {@link XmlSerializableAddressBook}, so that the whole document is never held in memory.
+ * A checksum of the data is kept in a comment at the end of the file.
  */
 public class XmlFileStorage {
+
+    private static final String ROOT_ELEMENT = "addressbook";
+    private static final String PERSON_ELEMENT = "persons";
+    private static final String TAG_ELEMENT = "tags";
+
+    private static final String CHECKSUM_FORMAT = "<!-- crc32: %08x -->\n";
+    private static final Pattern CHECKSUM_PATTERN = Pattern.compile("<!-- crc32: ([0-9a-f]{8}) -->\\s*$");
+    private static final int CHECKSUM_TAIL_LENGTH = 64;
+
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    /**
+     * Saves the given addressbook data to the specified file, without keeping backups.
+     * @see #saveDataToFile(File, ReadOnlyAddressBook, int)
+     */
+    public static void saveDataToFile(File file, ReadOnlyAddressBook addressBook) throws IOException {
+        saveDataToFile(file, addressBook, 0);
+    }
+
     /**
-     * Saves the given addressbook data to the specified file.
+     * Saves the given addressbook data to the specified file, followed by a checksum of the data.
+     * The data is written to a temporary file which then atomically replaces the specified file, so the
+     * specified file never holds partially written data. The previous {@code backupCount} versions of the
+     * file are kept as backups, the most recent one being backup 1. If writing fails, the specified file and
+     * its backups are left as they were.
      */
-    public static void saveDataToFile(File file, XmlSerializableAddressBook addressBook)
-            throws FileNotFoundException {
+    public static void saveDataToFile(File file, ReadOnlyAddressBook addressBook, int backupCount)
+            throws IOException {
+        FileUtil.createParentDirsOfFile(file);
+        File tempFile = AtomicFileUtil.getTempFile(file);
+
+        try (FileOutputStream out = new FileOutputStream(tempFile)) {
+            CheckedOutputStream checkedOut = new CheckedOutputStream(out, new CRC32());
+            Writer writer = new BufferedWriter(new OutputStreamWriter(checkedOut, StandardCharsets.UTF_8));
+            writeAddressBook(writer, addressBook);
+            writer.flush();
+
+            String checksumLine = String.format(CHECKSUM_FORMAT, checkedOut.getChecksum().getValue());
+            out.write(checksumLine.getBytes(StandardCharsets.US_ASCII));
+            out.getFD().sync();
+        } catch (IOException | RuntimeException e) {
+            AtomicFileUtil.deleteTempFile(file);
+            throw e;
+        }
+
+        AtomicFileUtil.replaceWithTempFile(file, backupCount);
+    }
+
+    /**
+     * Writes the elements of {@code addressBook} to {@code writer}.
+     *
+     * @throws IOException if writing fails or an element cannot be converted to XML.
+     */
+    private static void writeAddressBook(Writer writer, ReadOnlyAddressBook addressBook) throws IOException {
         try {
-            XmlUtil.saveDataToFile(file, addressBook);
+            Marshaller marshaller = XmlUtil.getContext(XmlSerializableAddressBook.class).createMarshaller();
+            marshaller.setProperty(Marshaller.JAXB_FRAGMENT, true);
+            marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+
+            writer.write("<?xml version=\"1.0\" encoding=\"UTF-8\" standalone=\"yes\"?>\n");
+            writer.write("<" + ROOT_ELEMENT + ">\n");
+            for (ReadOnlyPerson person : addressBook.getPersonList()) {
+                marshaller.marshal(new JAXBElement<>(new QName(PERSON_ELEMENT), XmlAdaptedPerson.class,
+                        new XmlAdaptedPerson(person)), writer);
+                writer.write("\n");
+            }
+            for (Tag tag : addressBook.getTagList()) {
+                marshaller.marshal(new JAXBElement<>(new QName(TAG_ELEMENT), XmlAdaptedTag.class,
+                        new XmlAdaptedTag(tag)), writer);
+                writer.write("\n");
+            }
+            writer.write("</" + ROOT_ELEMENT + ">\n");
         } catch (JAXBException e) {
-            assert false : "Unexpected exception " + e.getMessage();
+            throw new IOException("Failed to write address book as XML: " + e.getMessage(), e);
         }
     }
 
     /**
      * Returns address book in the file or an empty address book
      */
-    public static XmlSerializableAddressBook loadDataFromSaveFile(File file) throws DataConversionException,
-                                                                            FileNotFoundException {
-        try {
-            return XmlUtil.getDataFromFile(file, XmlSerializableAddressBook.class);
-        } catch (JAXBException e) {
+    public static ReadOnlyAddressBook loadDataFromSaveFile(File file) throws DataConversionException,
+                                                                     FileNotFoundException {
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.getAbsolutePath());
+        }
+
+        verifyChecksum(file);
+
+        List<ReadOnlyPerson> persons = new ArrayList<>();
+        Set<Tag> tags = new LinkedHashSet<>();
+        try (InputStream in = new BufferedInputStream(new FileInputStream(file))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            Unmarshaller unmarshaller = XmlUtil.getContext(XmlSerializableAddressBook.class).createUnmarshaller();
+
+            reader.nextTag();
+            if (!ROOT_ELEMENT.equals(reader.getLocalName())) {
+                throw new DataConversionException(
+                        new IllegalValueException("Unexpected root element " + reader.getLocalName()));
+            }
+            reader.nextTag();
+            while (reader.isStartElement()) {
+                switch (reader.getLocalName()) {
+                case PERSON_ELEMENT:
+                    persons.add(unmarshaller.unmarshal(reader, XmlAdaptedPerson.class).getValue().toModelType());
+                    break;
+                case TAG_ELEMENT:
+                    tags.add(unmarshaller.unmarshal(reader, XmlAdaptedTag.class).getValue().toModelType());
+                    break;
+                default:
+                    skipElement(reader);
+                }
+                skipToNextTag(reader);
+            }
+            reader.close();
+        } catch (IOException | XMLStreamException | JAXBException | IllegalValueException e) {
             throw new DataConversionException(e);
         }
+        return new AddressBookSnapshot(persons, tags);
+    }
+
+    /**
+     * Verifies that the data in {@code file} matches the checksum at its end.
+     * Files without a checksum, such as files edited by hand, are not verified.
+     *
+     * @throws DataConversionException if the data does not match the checksum.
+     */
+    private static void verifyChecksum(File file) throws DataConversionException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r")) {
+            int tailLength = (int) Math.min(raf.length(), CHECKSUM_TAIL_LENGTH);
+            byte[] tail = new byte[tailLength];
+            raf.seek(raf.length() - tailLength);
+            raf.readFully(tail);
+
+            // every byte maps to one char, so indices in the tail are byte offsets
+            Matcher matcher = CHECKSUM_PATTERN.matcher(new String(tail, StandardCharsets.ISO_8859_1));
+            if (!matcher.find()) {
+                return;
+            }
+            long expectedChecksum = Long.parseLong(matcher.group(1), 16);
+            long dataLength = raf.length() - tailLength + matcher.start();
+
+            CRC32 crc = new CRC32();
+            byte[] buffer = new byte[8192];
+            raf.seek(0);
+            for (long remaining = dataLength; remaining > 0;) {
+                int read = raf.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                crc.update(buffer, 0, read);
+                remaining -= read;
+            }
+            if (crc.getValue() != expectedChecksum) {
+                throw new DataConversionException(
+                        new IllegalValueException("Data in " + file + " does not match its checksum"));
+            }
+        } catch (IOException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Moves {@code reader} past the end of the element it is at the start of.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            reader.next();
+            if (reader.isStartElement()) {
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+        }
+        reader.next();
+    }
+
+    /**
+     * Moves {@code reader} to the next start or end of an element, unless it is already at one.
+     */
+    private static void skipToNextTag(XMLStreamReader reader) throws XMLStreamException {
+        while (!reader.isStartElement() && !reader.isEndElement()) {
+            reader.next();
+        }
+    }
+
+    /**
+     * Returns a factory for readers that do not resolve DTDs or external entities.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
     }
 
 }
@@ -6,6 +6,7 @@ import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Pos;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
@@ -33,7 +34,12 @@ public class CommandBox extends UiPart<Region> {
 
     private final Logger logger = LogsCenter.getLogger(CommandBox.class);
     private final Logic logic;
+    private final Audio typingSound = new Audio(Audio.TYPING_SOUND);
+    private final LatestInputWorker<Boolean> validityWorker =
+            new LatestInputWorker<>(this::isValidInput, this::setStyleByValidity);
     private ListElementPointer historySnapshot;
+    // the text being searched for in the history, or null if the history is not being searched
+    private String historySearchQuery;
 
     @FXML
     private TextField commandTextField;
@@ -59,7 +65,7 @@ public class CommandBox extends UiPart<Region> {
             commandTextField.setAlignment(Pos.CENTER_RIGHT);
             //@@author hanselblack
             //Plays typing Sound
-            new Audio("audio/typing.mp3").playSound();
+            typingSound.playSound();
             //@@author
         });
         //@@author nicholaschuayunzhi
@@ -82,7 +88,7 @@ public class CommandBox extends UiPart<Region> {
         // posts a CommandInputChangedEvent whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((observable, oldInput, newInput) ->
                 EventsCenter.getInstance().post(new CommandInputChangedEvent(newInput)));
-        historySnapshot = logic.getHistorySnapshot();
+        initHistory();
 
         //@@author
     }
@@ -92,6 +98,15 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleKeyPress(KeyEvent keyEvent) {
+        if (keyEvent.isControlDown() && keyEvent.getCode() == KeyCode.R) {
+            keyEvent.consume();
+            searchPreviousInput();
+            return;
+        }
+        if (!keyEvent.getCode().isModifierKey()) {
+            historySearchQuery = null;
+        }
+
         switch (keyEvent.getCode()) {
         case UP:
             // As up and down buttons will alter the position of the caret,
@@ -128,6 +143,23 @@ public class CommandBox extends UiPart<Region> {
         replaceText(historySnapshot.previous());
     }
 
+    /**
+     * Updates the text field with the nearest previous input in {@code historySnapshot} that contains
+     * the text being searched for, if there exists such an input. The text being searched for is the text
+     * in the text field when the search starts, and stays the same until another key is pressed.
+     */
+    private void searchPreviousInput() {
+        assert historySnapshot != null;
+        if (historySearchQuery == null) {
+            historySearchQuery = commandTextField.getText();
+        }
+        if (!historySnapshot.hasPreviousContaining(historySearchQuery)) {
+            return;
+        }
+
+        replaceText(historySnapshot.previousContaining(historySearchQuery));
+    }
+
     /**
      * Updates the text field with the next input in {@code historySnapshot},
      * if there exists a next input in {@code historySnapshot}
@@ -155,12 +187,15 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandInputChanged() {
+        // the command's own result decides the style
+        validityWorker.cancel();
         try {
             CommandResult commandResult = logic.execute(commandTextField.getText());
             initHistory();
             historySnapshot.next();
             // process result of the command
             commandTextField.setText("");
+            setStyleToDefault();
             logger.info("Result: " + commandResult.feedbackToUser);
             raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
 
@@ -195,20 +230,35 @@ public class CommandBox extends UiPart<Region> {
     }
 
     /**
-     * Sets the command box style to match validity of the input. (valid -> default, invalid -> failed)
+     * Sets the command box style to match validity of the input once it has been checked in the background.
+     * (valid -> default, invalid -> failed)
      */
     private void setStyleByValidityOfInput(String input) {
         if (input.equals("")) {
+            validityWorker.cancel();
             return;
         }
+        validityWorker.submit(input);
+    }
 
+    /**
+     * Returns true if {@code input} can be parsed into a command. Runs on the background thread.
+     */
+    private Boolean isValidInput(String input) {
         try {
             logic.parse(input);
+            return true;
         } catch (ParseException e) {
+            return false;
+        }
+    }
+
+    private void setStyleByValidity(Boolean isValid) {
+        if (isValid) {
+            setStyleToDefault();
+        } else {
             setStyleToIndicateCommandFailure();
-            return;
         }
-        setStyleToDefault();
     }
     //@@author
 
@@ -1,13 +1,12 @@
 package seedu.address.ui;
 
-import static seedu.address.logic.parser.HintParser.generateHint;
-
 import com.google.common.eventbus.Subscribe;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
 import seedu.address.commons.events.ui.CommandInputChangedEvent;
 import seedu.address.commons.util.TextUtil;
+import seedu.address.logic.parser.HintParser;
 
 /**
  * The UI component that is responsible for displaying hints
@@ -23,6 +22,9 @@ public class CommandBoxHints extends UiPart<TextField> {
 
     private TextField commandTextField;
 
+    private final LatestInputWorker<String> hintWorker =
+            new LatestInputWorker<>(HintParser::generateHint, hint -> commandBoxHints.setText(hint));
+
     public CommandBoxHints(TextField commandTextField) {
         super(FXML);
         registerAsAnEventHandler(this);
@@ -42,11 +44,12 @@ public class CommandBoxHints extends UiPart<TextField> {
     private void handleCommandInputChangedEvent(CommandInputChangedEvent event) {
         String userInput = event.currentInput;
         if (userInput.isEmpty()) {
+            hintWorker.cancel();
             commandBoxHints.setText("Enter Command Here");
             return;
         }
-        String hint = generateHint(userInput);
-        commandBoxHints.setText(hint);
+        // the hint is generated in the background
+        hintWorker.submit(userInput);
 
     }
 
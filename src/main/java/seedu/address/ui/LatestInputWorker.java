@@ -0,0 +1,121 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import javafx.application.Platform;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Computes results from user input on a background thread, and hands them to a handler on the JavaFX
+ * application thread, so that expensive work such as parsing does not slow down typing.
+ *
+ * Only the latest input counts: an input is computed once no newer input has been submitted for the debounce
+ * delay, and a result is only handed over if its input is still the latest one when the result is ready.
+ * All workers share one background thread.
+ */
+public class LatestInputWorker<R> {
+
+    public static final long DEFAULT_DEBOUNCE_DELAY_MILLIS = 50;
+
+    private static final Logger logger = LogsCenter.getLogger(LatestInputWorker.class);
+
+    private static final ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(
+            LatestInputWorker::createWorkerThread);
+
+    private final Function<String, R> computation;
+    private final Consumer<R> resultHandler;
+    private final Executor resultExecutor;
+    private final long debounceDelayMillis;
+    // incremented for every submitted or cancelled input, so that results of older inputs are discarded
+    private final AtomicLong latestInputNumber = new AtomicLong();
+    private ScheduledFuture<?> pendingComputation;
+
+    /**
+     * Creates a worker that computes results with {@code computation} and hands them to {@code resultHandler}
+     * on the JavaFX application thread.
+     */
+    public LatestInputWorker(Function<String, R> computation, Consumer<R> resultHandler) {
+        this(computation, resultHandler, Platform::runLater, DEFAULT_DEBOUNCE_DELAY_MILLIS);
+    }
+
+    LatestInputWorker(Function<String, R> computation, Consumer<R> resultHandler, Executor resultExecutor,
+                      long debounceDelayMillis) {
+        this.computation = requireNonNull(computation);
+        this.resultHandler = requireNonNull(resultHandler);
+        this.resultExecutor = requireNonNull(resultExecutor);
+        this.debounceDelayMillis = debounceDelayMillis;
+    }
+
+    /**
+     * Replaces the input to compute a result for with {@code input}, discarding the result of the previous input.
+     */
+    public synchronized void submit(String input) {
+        requireNonNull(input);
+        long inputNumber = latestInputNumber.incrementAndGet();
+        cancelPendingComputation();
+        pendingComputation = executor.schedule(() -> compute(input, inputNumber), debounceDelayMillis,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Discards the result of the latest input, so that no result is handed over until the next input.
+     */
+    public synchronized void cancel() {
+        latestInputNumber.incrementAndGet();
+        cancelPendingComputation();
+    }
+
+    /**
+     * Cancels the computation of the latest input if it has not started yet.
+     */
+    private void cancelPendingComputation() {
+        if (pendingComputation != null) {
+            pendingComputation.cancel(false);
+            pendingComputation = null;
+        }
+    }
+
+    /**
+     * Computes the result for {@code input} and hands it over, unless a newer input is submitted in the meantime.
+     */
+    private void compute(String input, long inputNumber) {
+        if (!isLatest(inputNumber)) {
+            return;
+        }
+        R result;
+        try {
+            result = computation.apply(input);
+        } catch (RuntimeException re) {
+            logger.warning("Failed to process input \"" + input + "\": " + re);
+            return;
+        }
+        resultExecutor.execute(() -> {
+            if (isLatest(inputNumber)) {
+                resultHandler.accept(result);
+            }
+        });
+    }
+
+    private boolean isLatest(long inputNumber) {
+        return latestInputNumber.get() == inputNumber;
+    }
+
+    /**
+     * Returns the thread that computes the results of all workers.
+     */
+    private static Thread createWorkerThread(Runnable runnable) {
+        Thread thread = new Thread(runnable, "Command input worker");
+        thread.setDaemon(true);
+        return thread;
+    }
+}
@@ -1,5 +1,10 @@
 package seedu.address.ui;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import javafx.beans.InvalidationListener;
 import javafx.beans.binding.Bindings;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
@@ -10,6 +15,7 @@ import seedu.address.model.person.ReadOnlyPerson;
 
 /**
  * An UI component that displays information of a {@code Person}.
+ * A card can be reused to display another person, so that a list only needs as many cards as it has visible cells.
  */
 public class PersonCard extends UiPart<Region> {
 
@@ -23,8 +29,6 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final ReadOnlyPerson person;
-
     @FXML
     private GridPane cardPane;
     @FXML
@@ -34,12 +38,56 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane tags;
 
+    private final InvalidationListener tagListener = observable -> showTags();
+    // tag labels of previous persons, reused for the tags of the current person
+    private final List<Tag> tagParts = new ArrayList<>();
+    private ReadOnlyPerson person;
+
     public PersonCard(ReadOnlyPerson person, int displayedIndex) {
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Creates a card that does not display any person yet.
+     */
+    PersonCard() {
         super(FXML);
+    }
+
+    public ReadOnlyPerson getPerson() {
+        return person;
+    }
+
+    /**
+     * Displays {@code person} at {@code displayedIndex} on this card, and stops observing the person that was
+     * displayed before.
+     */
+    void setPerson(ReadOnlyPerson person, int displayedIndex) {
+        setDisplayedIndex(displayedIndex);
+        if (person == this.person) {
+            return;
+        }
+        clear();
         this.person = person;
-        id.setText(displayedIndex + ". ");
-        initTags(person);
         bindListeners(person);
+        showTags();
+    }
+
+    void setDisplayedIndex(int displayedIndex) {
+        id.setText(displayedIndex + ". ");
+    }
+
+    /**
+     * Stops displaying and observing the current person, if any.
+     */
+    void clear() {
+        if (person == null) {
+            return;
+        }
+        name.textProperty().unbind();
+        person.tagProperty().removeListener(tagListener);
+        person = null;
     }
 
     /**
@@ -48,14 +96,25 @@ public class PersonCard extends UiPart<Region> {
      */
     private void bindListeners(ReadOnlyPerson person) {
         name.textProperty().bind(Bindings.convert(person.nameProperty()));
-        person.tagProperty().addListener((observable, oldValue, newValue) -> {
-            tags.getChildren().clear();
-            person.getTags().forEach(tag -> tags.getChildren().add(new Tag(tag.tagName).getRoot()));
-        });
+        person.tagProperty().addListener(tagListener);
     }
 
-    private void initTags(ReadOnlyPerson person) {
-        person.getTags().forEach(tag -> tags.getChildren().add(new Tag(tag.tagName).getRoot()));
+    /**
+     * Shows the tags of the current person, reusing the tag labels created for previous persons.
+     */
+    private void showTags() {
+        List<String> tagNames = new ArrayList<>();
+        person.getTags().forEach(tag -> tagNames.add(tag.tagName));
+        while (tagParts.size() < tagNames.size()) {
+            tagParts.add(new Tag(tagNames.get(tagParts.size())));
+        }
+
+        tags.getChildren().clear();
+        for (int i = 0; i < tagNames.size(); i++) {
+            Tag tagPart = tagParts.get(i);
+            tagPart.setText(tagNames.get(i));
+            tags.getChildren().add(tagPart.getRoot());
+        }
     }
 
     @Override
@@ -73,6 +132,6 @@ public class PersonCard extends UiPart<Region> {
         // state check
         PersonCard card = (PersonCard) other;
         return id.getText().equals(card.id.getText())
-                && person.equals(card.person);
+                && Objects.equals(person, card.person);
     }
 }
@@ -2,8 +2,6 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
-import org.fxmisc.easybind.EasyBind;
-
 import com.google.common.eventbus.Subscribe;
 
 import javafx.application.Platform;
@@ -25,7 +23,7 @@ public class PersonListPanel extends UiPart<Region> {
     private final Logger logger = LogsCenter.getLogger(PersonListPanel.class);
 
     @FXML
-    private ListView<PersonCard> personListView;
+    private ListView<ReadOnlyPerson> personListView;
 
     public PersonListPanel(ObservableList<ReadOnlyPerson> personList) {
         super(FXML);
@@ -34,9 +32,7 @@ public class PersonListPanel extends UiPart<Region> {
     }
 
     private void setConnections(ObservableList<ReadOnlyPerson> personList) {
-        ObservableList<PersonCard> mappedList = EasyBind.map(
-                personList, (person) -> new PersonCard(person, personList.indexOf(person) + 1));
-        personListView.setItems(mappedList);
+        personListView.setItems(personList);
         personListView.setCellFactory(listView -> new PersonListViewCell());
         setEventHandlerForSelectionChangeEvent();
     }
@@ -52,7 +48,7 @@ public class PersonListPanel extends UiPart<Region> {
     }
 
     /**
-     * Scrolls to the {@code PersonCard} at the {@code index} and selects it.
+     * Scrolls to the person at the {@code index} and selects it.
      */
     private void scrollTo(int index) {
         Platform.runLater(() -> {
@@ -68,19 +64,38 @@ public class PersonListPanel extends UiPart<Region> {
     }
 
     /**
-     * Custom {@code ListCell} that displays the graphics of a {@code PersonCard}.
+     * Custom {@code ListCell} that displays a person on a {@code PersonCard}.
+     * Cells are reused while scrolling, so each cell creates its card once and only changes the person on it.
      */
-    class PersonListViewCell extends ListCell<PersonCard> {
+    class PersonListViewCell extends ListCell<ReadOnlyPerson> {
+
+        private PersonCard personCard;
 
         @Override
-        protected void updateItem(PersonCard person, boolean empty) {
+        protected void updateItem(ReadOnlyPerson person, boolean empty) {
             super.updateItem(person, empty);
 
             if (empty || person == null) {
+                if (personCard != null) {
+                    personCard.clear();
+                }
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(person.getRoot());
+                if (personCard == null) {
+                    personCard = new PersonCard();
+                }
+                personCard.setPerson(person, getIndex() + 1);
+                setGraphic(personCard.getRoot());
+            }
+        }
+
+        @Override
+        public void updateIndex(int index) {
+            super.updateIndex(index);
+            // the same person may move to another index, e.g. when a person above it is deleted
+            if (personCard != null && !isEmpty()) {
+                personCard.setDisplayedIndex(index + 1);
             }
         }
     }
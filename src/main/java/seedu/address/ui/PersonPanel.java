@@ -1,5 +1,7 @@
 package seedu.address.ui;
 
+import java.util.Optional;
+import java.util.concurrent.Future;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -15,7 +17,7 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
 import seedu.address.logic.TextToSpeech;
 import seedu.address.model.person.ReadOnlyPerson;
-import seedu.address.storage.ImageStorage;
+import seedu.address.storage.AvatarService;
 
 /**
  * Panel that displays the additional details of a Person
@@ -44,6 +46,10 @@ public class PersonPanel extends UiPart<Region> {
     @FXML
     private ImageView avatar;
 
+    private final AvatarService avatarService = AvatarService.getInstance();
+    private String displayedAvatarName;
+    private Future<?> pendingAvatar;
+
     public PersonPanel() {
         super(FXML);
         registerAsAnEventHandler(this);
@@ -67,13 +73,36 @@ public class PersonPanel extends UiPart<Region> {
     }
 
     //@@author nicholaschuayunzhi
+    /**
+     * Shows the avatar saved as {@code imageName}, loading it in the background if it is not cached.
+     * The default avatar is shown until it is loaded.
+     */
+    private void showAvatar(String imageName) {
+        displayedAvatarName = imageName;
+        if (pendingAvatar != null) {
+            pendingAvatar.cancel(false);
+        }
+
+        Optional<Image> cachedAvatar = avatarService.getCachedAvatar(imageName);
+        if (cachedAvatar.isPresent()) {
+            avatar.setImage(cachedAvatar.get());
+            return;
+        }
+        avatar.setImage(avatarService.getDefaultAvatar());
+        pendingAvatar = avatarService.loadAvatar(imageName, image -> {
+            // another person may have been selected while loading
+            if (imageName.equals(displayedAvatarName)) {
+                avatar.setImage(image);
+            }
+        });
+    }
+
     @Subscribe
     private void handlePersonPanelSelectionChangedEvent(PersonPanelSelectionChangedEvent event) {
 
-        Image image = ImageStorage.getAvatar(event.getNewSelection().person.getAvatar().value);
-        avatar.setImage(image);
+        showAvatar(event.getNewSelection().getAvatar().value);
 
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        loadPersonDetails(event.getNewSelection().person);
+        loadPersonDetails(event.getNewSelection());
     }
 }
@@ -12,7 +12,10 @@ import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.logic.InternetConnectionChangedEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookSavedEvent;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
@@ -21,6 +24,11 @@ public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
     public static final String SYNC_STATUS_UPDATED = "Last Updated: %s";
+    public static final String SAVE_STATUS_INITIAL = "";
+    public static final String SAVE_STATUS_SAVED = "Last Saved: %s";
+    public static final String SAVE_STATUS_FAILED = "Saving failed: %s";
+    public static final String CONNECTION_STATUS_ONLINE = "";
+    public static final String CONNECTION_STATUS_OFFLINE = "Offline";
 
     /**
      * Used to generate time stamps.
@@ -40,12 +48,18 @@ public class StatusBarFooter extends UiPart<Region> {
     private StatusBar syncStatus;
     @FXML
     private StatusBar saveLocationStatus;
+    @FXML
+    private StatusBar saveStatus;
+    @FXML
+    private StatusBar connectionStatus;
 
 
     public StatusBarFooter(String saveLocation) {
         super(FXML);
         setSyncStatus(SYNC_STATUS_INITIAL);
+        setSaveStatus(SAVE_STATUS_INITIAL);
         setSaveLocation("./" + saveLocation);
+        setConnectionStatus(CONNECTION_STATUS_ONLINE);
         registerAsAnEventHandler(this);
     }
 
@@ -71,6 +85,14 @@ public class StatusBarFooter extends UiPart<Region> {
         Platform.runLater(() -> this.syncStatus.setText(status));
     }
 
+    private void setSaveStatus(String status) {
+        Platform.runLater(() -> this.saveStatus.setText(status));
+    }
+
+    private void setConnectionStatus(String status) {
+        Platform.runLater(() -> this.connectionStatus.setText(status));
+    }
+
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
         long now = clock.millis();
@@ -78,4 +100,24 @@ public class StatusBarFooter extends UiPart<Region> {
         logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
+
+    @Subscribe
+    public void handleAddressBookSavedEvent(AddressBookSavedEvent abse) {
+        long now = clock.millis();
+        String lastSaved = new Date(now).toString();
+        logger.info(LogsCenter.getEventHandlingLogMessage(abse, "Setting last saved status to " + lastSaved));
+        setSaveStatus(String.format(SAVE_STATUS_SAVED, lastSaved));
+    }
+
+    @Subscribe
+    public void handleDataSavingExceptionEvent(DataSavingExceptionEvent dsee) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(dsee, "Setting save status to failed"));
+        setSaveStatus(String.format(SAVE_STATUS_FAILED, dsee.exception.getMessage()));
+    }
+
+    @Subscribe
+    public void handleInternetConnectionChangedEvent(InternetConnectionChangedEvent icce) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(icce, "Setting connection status"));
+        setConnectionStatus(icce.isConnected ? CONNECTION_STATUS_ONLINE : CONNECTION_STATUS_OFFLINE);
+    }
 }
@@ -64,6 +64,14 @@ public class Tag extends UiPart<Label> {
         return value;
     }
 
+    /**
+     * Shows {@code tagValue} on this tag instead, so that the tag can be reused for another person.
+     */
+    void setText(String tagValue) {
+        tag.setText(tagValue);
+        value = tagValue;
+    }
+
     public Label getLabel() {
         return tag;
     }
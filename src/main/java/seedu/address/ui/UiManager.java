@@ -12,6 +12,7 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.util.StringUtil;
@@ -38,7 +39,7 @@ public class UiManager extends ComponentManager implements Ui {
     private MainWindow mainWindow;
 
     public UiManager(Logic logic, Config config, UserPrefs prefs) {
-        super();
+        super(EventsCenter.getInstance(), EventsCenter.Dispatch.FX_THREAD);
         this.logic = logic;
         this.config = config;
         this.prefs = prefs;
@@ -114,7 +115,13 @@ public class UiManager extends ComponentManager implements Ui {
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
-                event.exception);
+        // the address book may be saved on a background thread
+        if (Platform.isFxApplicationThread()) {
+            showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE,
+                    FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE, event.exception);
+        } else {
+            Platform.runLater(() -> showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE,
+                    FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE, event.exception));
+        }
     }
 }
@@ -64,10 +64,11 @@ public abstract class UiPart<T> {
 
     /**
      * Registers the object as an event handler at the {@link EventsCenter}
+     * Its events are delivered on the JavaFX application thread when events are dispatched asynchronously.
      * @param handler usually {@code this}
      */
     protected void registerAsAnEventHandler(Object handler) {
-        EventsCenter.getInstance().registerHandler(handler);
+        EventsCenter.getInstance().registerHandler(handler, EventsCenter.Dispatch.FX_THREAD);
     }
 
     /**
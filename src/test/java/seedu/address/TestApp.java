@@ -56,6 +56,9 @@ public class TestApp extends MainApp {
         Config config = super.initConfig(configFilePath);
         config.setAppTitle(APP_TITLE);
         config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
+        // each test starts with an empty command history
+        config.setCommandHistoryFilePath(null);
+        config.setMailOutboxFilePath(null);
         return config;
     }
 
@@ -71,9 +74,11 @@ public class TestApp extends MainApp {
     }
 
     /**
-     * Returns a defensive copy of the address book data stored inside the storage file.
+     * Returns a defensive copy of the address book data stored inside the storage file,
+     * after all pending changes have been saved.
      */
     public AddressBook readStorageAddressBook() {
+        storage.flushAddressBook();
         try {
             return new AddressBook(storage.readAddressBook().get());
         } catch (DataConversionException dce) {
@@ -0,0 +1,153 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class AsyncLogHandlerTest {
+
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler handler;
+
+    @After
+    public void tearDown() {
+        target.release();
+        if (handler != null) {
+            handler.close();
+        }
+    }
+
+    @Test
+    public void publish_manyRecords_deliveredInOrderInBatches() {
+        target.release();
+        handler = new AsyncLogHandler(1024, target);
+        for (int i = 0; i < 1000; i++) {
+            handler.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        handler.flush();
+
+        assertEquals(1000, target.records.size());
+        for (int i = 0; i < 1000; i++) {
+            assertEquals("record " + i, target.records.get(i).getMessage());
+        }
+        assertTrue(target.flushCount >= 1000 / AsyncLogHandler.MAX_BATCH_SIZE);
+        assertTrue(target.flushCount < 1000);
+    }
+
+    @Test
+    public void publish_recordWithParameters_sourceFoundOnLoggingThread() {
+        target.release();
+        handler = new AsyncLogHandler(16, target);
+        Logger logger = Logger.getAnonymousLogger();
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        logger.log(Level.INFO, "command {0}", "list");
+        handler.flush();
+
+        assertEquals(getClass().getName(), target.records.get(0).getSourceClassName());
+        assertEquals("command list", new SimpleFormatter().formatMessage(target.records.get(0)));
+    }
+
+    @Test
+    public void publish_bufferFull_recordsBelowWarningDroppedAndReported() throws Exception {
+        handler = new AsyncLogHandler(4, target);
+        fillBuffer();
+        handler.publish(new LogRecord(Level.INFO, "dropped"));
+        handler.publish(new LogRecord(Level.FINE, "dropped"));
+
+        target.release();
+        handler.close();
+        assertEquals(6, target.records.size());
+        assertEquals(Level.WARNING, target.records.get(1).getLevel());
+        assertTrue(target.records.get(1).getMessage().startsWith("2 log records were dropped"));
+        assertEquals(0, getMessages().stream().filter("dropped"::equals).count());
+    }
+
+    @Test
+    public void publish_bufferFullWarning_waitsForRoom() throws Exception {
+        handler = new AsyncLogHandler(4, target);
+        fillBuffer();
+        Thread warningThread = new Thread(() -> handler.publish(new LogRecord(Level.WARNING, "warning")));
+        warningThread.start();
+        warningThread.join(100);
+        assertTrue(warningThread.isAlive());
+
+        target.release();
+        warningThread.join();
+        handler.close();
+        assertEquals("warning", getMessages().get(getMessages().size() - 1));
+    }
+
+    @Test
+    public void close_recordsPending_recordsDeliveredThenIgnored() throws Exception {
+        handler = new AsyncLogHandler(4, target);
+        fillBuffer();
+
+        target.release();
+        handler.close();
+        handler.publish(new LogRecord(Level.SEVERE, "after close"));
+        assertEquals(5, target.records.size());
+    }
+
+    /**
+     * Blocks the background thread of {@code handler} on a first record and then fills its buffer of 4 records.
+     */
+    private void fillBuffer() throws InterruptedException {
+        handler.publish(new LogRecord(Level.INFO, "blocking"));
+        assertTrue(target.isPublishing.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 4; i++) {
+            handler.publish(new LogRecord(Level.INFO, "queued " + i));
+        }
+    }
+
+    private List<String> getMessages() {
+        return target.records.stream().map(LogRecord::getMessage).collect(Collectors.toList());
+    }
+
+    /**
+     * A handler that records what it is given, and holds up the first record until it is released.
+     */
+    private static class RecordingHandler extends Handler {
+        private final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        private final CountDownLatch isPublishing = new CountDownLatch(1);
+        private final CountDownLatch isReleased = new CountDownLatch(1);
+        private volatile int flushCount;
+
+        void release() {
+            isReleased.countDown();
+        }
+
+        @Override
+        public void publish(LogRecord record) {
+            isPublishing.countDown();
+            try {
+                isReleased.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.model.AddressBook;
+
+public class EventsCenterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    // runs the deliveries to FX thread handlers only when the test asks for it
+    private final List<Runnable> pendingFxThreadDeliveries = new ArrayList<>();
+    private final EventsCenter eventsCenter = new EventsCenter(pendingFxThreadDeliveries::add);
+    private final Handler directHandler = new Handler();
+    private final Handler fxThreadHandler = new Handler();
+    private final Handler backgroundHandler = new Handler();
+
+    @After
+    public void tearDown() {
+        eventsCenter.shutdown();
+    }
+
+    @Test
+    public void post_asyncDispatchDisabled_allHandlersCalledOnPostingThread() {
+        registerHandlers();
+        TestEvent event = new TestEvent(1);
+        eventsCenter.post(event);
+
+        assertEquals(Collections.singletonList(event), directHandler.events);
+        assertEquals(Collections.singletonList(event), fxThreadHandler.events);
+        assertEquals(Collections.singletonList(event), backgroundHandler.events);
+        assertSame(Thread.currentThread(), backgroundHandler.lastThread);
+        assertTrue(pendingFxThreadDeliveries.isEmpty());
+    }
+
+    @Test
+    public void post_asyncDispatchEnabled_handlersCalledOnTheirThreads() {
+        eventsCenter.setAsyncDispatchEnabled(true);
+        registerHandlers();
+        TestEvent event = new TestEvent(1);
+        eventsCenter.post(event);
+        eventsCenter.shutdown();
+
+        assertEquals(Collections.singletonList(event), directHandler.events);
+        assertSame(Thread.currentThread(), directHandler.lastThread);
+
+        assertEquals(Collections.singletonList(event), backgroundHandler.events);
+        assertNotSame(Thread.currentThread(), backgroundHandler.lastThread);
+
+        assertTrue(fxThreadHandler.events.isEmpty());
+        pendingFxThreadDeliveries.forEach(Runnable::run);
+        assertEquals(Collections.singletonList(event), fxThreadHandler.events);
+    }
+
+    @Test
+    public void post_asyncDispatchEnabled_eventsDeliveredInOrder() {
+        eventsCenter.setAsyncDispatchEnabled(true);
+        registerHandlers();
+        List<BaseEvent> events = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            TestEvent event = new TestEvent(i);
+            events.add(event);
+            eventsCenter.post(event);
+        }
+        eventsCenter.shutdown();
+        pendingFxThreadDeliveries.forEach(Runnable::run);
+
+        assertEquals(events, backgroundHandler.events);
+        assertEquals(events, fxThreadHandler.events);
+    }
+
+    @Test
+    public void post_asyncDispatchEnabled_backgroundHandlersReceiveSnapshot() {
+        eventsCenter.setAsyncDispatchEnabled(true);
+        registerHandlers();
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookChangedEvent event = new AddressBookChangedEvent(addressBook);
+        eventsCenter.post(event);
+        eventsCenter.shutdown();
+
+        AddressBookChangedEvent received = (AddressBookChangedEvent) backgroundHandler.events.get(0);
+        assertNotSame(addressBook, received.data);
+        assertEquals(addressBook.getPersonList(), received.data.getPersonList());
+        assertEquals(addressBook.getTagList(), received.data.getTagList());
+    }
+
+    @Test
+    public void setAsyncDispatchEnabled_handlersRegistered_throwsIllegalStateException() {
+        eventsCenter.registerHandler(directHandler);
+        thrown.expect(IllegalStateException.class);
+        eventsCenter.setAsyncDispatchEnabled(true);
+    }
+
+    private void registerHandlers() {
+        eventsCenter.registerHandler(directHandler);
+        eventsCenter.registerHandler(fxThreadHandler, EventsCenter.Dispatch.FX_THREAD);
+        eventsCenter.registerHandler(backgroundHandler, EventsCenter.Dispatch.BACKGROUND);
+    }
+
+    /**
+     * An event that is only equal to itself.
+     */
+    private static class TestEvent extends BaseEvent {
+        private final int number;
+
+        TestEvent(int number) {
+            this.number = number;
+        }
+
+        @Override
+        public String toString() {
+            return "test event " + number;
+        }
+    }
+
+    /**
+     * Records the events it receives and the thread it last received one on.
+     */
+    private static class Handler {
+        private final List<BaseEvent> events = new CopyOnWriteArrayList<>();
+        private volatile Thread lastThread;
+
+        @Subscribe
+        public void handleEvent(BaseEvent event) {
+            events.add(event);
+            lastThread = Thread.currentThread();
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class RingBufferTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_capacityNotPowerOfTwo_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new RingBuffer<Integer>(6);
+    }
+
+    @Test
+    public void offer_bufferFull_returnsFalse() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(2);
+        assertTrue(buffer.offer(1));
+        assertTrue(buffer.offer(2));
+        assertFalse(buffer.offer(3));
+
+        assertEquals(Integer.valueOf(1), buffer.poll());
+        assertTrue(buffer.offer(3));
+    }
+
+    @Test
+    public void poll_elementsWrapAround_returnsElementsInOrder() {
+        RingBuffer<Integer> buffer = new RingBuffer<>(4);
+        assertTrue(buffer.isEmpty());
+        assertNull(buffer.poll());
+
+        for (int i = 0; i < 10; i++) {
+            buffer.offer(i);
+            buffer.offer(i + 100);
+            assertEquals(Integer.valueOf(i), buffer.poll());
+            assertEquals(Integer.valueOf(i + 100), buffer.poll());
+        }
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    public void offer_concurrentProducers_allElementsPolledInOrderPerProducer() throws Exception {
+        int producerCount = 4;
+        int elementsPerProducer = 10000;
+        RingBuffer<int[]> buffer = new RingBuffer<>(64);
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < producerCount; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < elementsPerProducer; i++) {
+                    while (!buffer.offer(new int[] {producer, i})) {
+                        Thread.yield();
+                    }
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+
+        int[] nextExpected = new int[producerCount];
+        int polledCount = 0;
+        while (polledCount < producerCount * elementsPerProducer) {
+            int[] element = buffer.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(nextExpected[element[0]]++, element[1]);
+            polledCount++;
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        assertTrue(buffer.isEmpty());
+    }
+}
@@ -5,9 +5,11 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static seedu.address.commons.util.HintUtil.findPrefixCompletionHint;
 import static seedu.address.commons.util.HintUtil.findPrefixOfCompletionHint;
+import static seedu.address.commons.util.HintUtil.findPrefixOfValueBeingTyped;
 import static seedu.address.commons.util.HintUtil.getIndex;
 import static seedu.address.commons.util.HintUtil.getPreambleIndex;
 import static seedu.address.commons.util.HintUtil.getUncompletedPrefixes;
+import static seedu.address.commons.util.HintUtil.getValueBeingTyped;
 import static seedu.address.commons.util.HintUtil.hasIndex;
 import static seedu.address.commons.util.HintUtil.hasPreambleIndex;
 import static seedu.address.commons.util.HintUtil.offerHint;
@@ -70,6 +72,28 @@ public class HintUtilTest {
         assertEquals(CliSyntax.PREFIX_EMPTY, findPrefixOfCompletionHint(" fdafa e/", prefixListStub));
     }
 
+    @Test
+    public void findPrefixOfValueBeingTypedTest() {
+        List<Prefix> prefixListStub =
+                Arrays.asList(CliSyntax.PREFIX_NAME, CliSyntax.PREFIX_PHONE, CliSyntax.PREFIX_EMAIL);
+        assertEquals(Optional.of(CliSyntax.PREFIX_NAME), findPrefixOfValueBeingTyped(" n/Ali", prefixListStub));
+        assertEquals(Optional.of(CliSyntax.PREFIX_NAME), findPrefixOfValueBeingTyped(" n/Alice P", prefixListStub));
+        assertEquals(Optional.of(CliSyntax.PREFIX_EMAIL),
+                findPrefixOfValueBeingTyped(" n/Alice e/ali", prefixListStub));
+
+        assertEquals(Optional.empty(), findPrefixOfValueBeingTyped(" n/", prefixListStub));
+        assertEquals(Optional.empty(), findPrefixOfValueBeingTyped(" n/Alice ", prefixListStub));
+        assertEquals(Optional.empty(), findPrefixOfValueBeingTyped(" a/street", prefixListStub));
+        assertEquals(Optional.empty(), findPrefixOfValueBeingTyped("", prefixListStub));
+    }
+
+    @Test
+    public void getValueBeingTypedTest() {
+        assertEquals("Alice P", getValueBeingTyped(" n/Alice P", CliSyntax.PREFIX_NAME));
+        assertEquals("ali", getValueBeingTyped(" n/Alice e/ali", CliSyntax.PREFIX_EMAIL));
+        assertEquals("Bob", getValueBeingTyped(" n/Alice n/Bob", CliSyntax.PREFIX_NAME));
+    }
+
     @Test
     public void offerHintTest() {
         List<Prefix> prefixListStub =
@@ -0,0 +1,105 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PrefixTrieTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final PrefixTrie trie = new PrefixTrie(true);
+
+    @Test
+    public void add_nonPositiveWeight_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        trie.add("add", 0);
+    }
+
+    @Test
+    public void complete_equalWeights_returnsAlphabeticallyFirst() {
+        trie.add("remark");
+        trie.add("redo");
+        trie.add("radio");
+
+        assertEquals(Optional.of("radio"), trie.complete("r"));
+        assertEquals(Optional.of("redo"), trie.complete("re"));
+        assertEquals(Optional.of("remark"), trie.complete("rem"));
+        assertEquals(Optional.of("redo"), trie.complete("redo"));
+        assertEquals(Optional.empty(), trie.complete("redox"));
+        assertEquals(Optional.empty(), trie.complete("x"));
+    }
+
+    @Test
+    public void complete_differentWeights_returnsHeaviestFirst() {
+        trie.add("friends", 1);
+        trie.add("family", 3);
+        trie.add("fans", 2);
+        trie.add("f", 1);
+
+        assertEquals(Optional.of("family"), trie.complete("f"));
+        assertEquals(Arrays.asList("family", "fans", "f", "friends"), trie.complete("", 10));
+        assertEquals(Arrays.asList("family", "fans"), trie.complete("f", 2));
+        assertEquals(Collections.singletonList("friends"), trie.complete("fr", 5));
+        assertEquals(Collections.emptyList(), trie.complete("g", 5));
+    }
+
+    @Test
+    public void remove_weightDropsToZero_wordRemoved() {
+        trie.add("family", 2);
+        trie.add("fans");
+        assertEquals(2, trie.size());
+
+        trie.remove("family");
+        assertEquals(Optional.of("family"), trie.complete("f"));
+        trie.remove("family");
+        assertFalse(trie.contains("family"));
+        assertEquals(Optional.of("fans"), trie.complete("f"));
+        assertEquals(1, trie.size());
+
+        trie.remove("fans");
+        trie.remove("unknown");
+        assertEquals(Optional.empty(), trie.complete(""));
+        assertEquals(0, trie.size());
+    }
+
+    @Test
+    public void remove_wordIsPrefixOfOtherWord_otherWordKept() {
+        trie.add("fan");
+        trie.add("fans");
+        trie.remove("fan");
+
+        assertFalse(trie.contains("fan"));
+        assertTrue(trie.contains("fans"));
+        assertEquals(Optional.of("fans"), trie.complete("fa"));
+    }
+
+    @Test
+    public void complete_caseInsensitive_returnsWordAsFirstAdded() {
+        PrefixTrie caseInsensitiveTrie = new PrefixTrie(false);
+        caseInsensitiveTrie.add("Alice Pauline");
+        caseInsensitiveTrie.add("alice pauline");
+
+        assertEquals(Optional.of("Alice Pauline"), caseInsensitiveTrie.complete("ali"));
+        assertEquals(1, caseInsensitiveTrie.size());
+        assertEquals(Optional.empty(), trie.complete("ALI"));
+    }
+
+    @Test
+    public void clear_wordsAdded_trieEmpty() {
+        trie.add("add");
+        trie.clear();
+
+        assertEquals(0, trie.size());
+        assertEquals(Optional.empty(), trie.complete(""));
+    }
+}
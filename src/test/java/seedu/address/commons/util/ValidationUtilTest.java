@@ -0,0 +1,71 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.tag.Tag;
+
+public class ValidationUtilTest {
+
+    // characters at the edges of the regex classes used by the fields
+    private static final char[] ALPHABET = {'a', 'Z', '0', '9', '_', '.', '@', ' ', '\t', '\n', '\u2028',
+        '\u00e9', '-'};
+    private static final int MAX_LENGTH = 4;
+
+    @Test
+    public void isAlphanumeric() {
+        assertTrue(ValidationUtil.isAlphanumeric("abcXYZ019"));
+        assertFalse(ValidationUtil.isAlphanumeric(""));
+        assertFalse(ValidationUtil.isAlphanumeric("ab_c"));
+        assertFalse(ValidationUtil.isAlphanumeric("caf\u00e9"));
+    }
+
+    @Test
+    public void fieldValidators_sameAsRegex() {
+        List<String> values = generateValues();
+        assertSameAsRegex(Name::isValidName, Name.NAME_VALIDATION_REGEX, values);
+        assertSameAsRegex(Phone::isValidPhone, Phone.PHONE_VALIDATION_REGEX, values);
+        assertSameAsRegex(Email::isValidEmail, Email.EMAIL_VALIDATION_REGEX, values);
+        assertSameAsRegex(Address::isValidAddress, Address.ADDRESS_VALIDATION_REGEX, values);
+        assertSameAsRegex(Tag::isValidTagName, Tag.TAG_VALIDATION_REGEX, values);
+    }
+
+    /**
+     * Asserts that {@code validator} accepts exactly the {@code values} that match {@code regex}.
+     */
+    private void assertSameAsRegex(Predicate<String> validator, String regex, List<String> values) {
+        for (String value : values) {
+            assertEquals("Validating \"" + value + "\" against " + regex, value.matches(regex),
+                    validator.test(value));
+        }
+    }
+
+    /**
+     * Returns all the strings of up to {@code MAX_LENGTH} characters from {@code ALPHABET}.
+     */
+    private List<String> generateValues() {
+        List<String> values = new ArrayList<>();
+        values.add("");
+        for (int i = 0; i < values.size(); i++) {
+            String value = values.get(i);
+            if (value.length() == MAX_LENGTH) {
+                break;
+            }
+            for (char c : ALPHABET) {
+                values.add(value + c);
+            }
+        }
+        return values;
+    }
+}
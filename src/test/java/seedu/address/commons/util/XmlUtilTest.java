@@ -1,6 +1,7 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 
 import java.io.File;
 import java.io.FileNotFoundException;
@@ -28,6 +29,12 @@ public class XmlUtilTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Test
+    public void getContext_sameClass_contextReused() throws Exception {
+        assertSame(XmlUtil.getContext(XmlSerializableAddressBook.class),
+                XmlUtil.getContext(XmlSerializableAddressBook.class));
+    }
+
     @Test
     public void getDataFromFile_nullFile_throwsNullPointerException() throws Exception {
         thrown.expect(NullPointerException.class);
@@ -0,0 +1,53 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+public class AudioClipTest {
+
+    private static final String TYPING_SOUND = "audio/typing.mp3";
+
+    @Test
+    public void getClip_mp3Resource_decodedOnce() {
+        AudioClip clip = AudioClip.getClip(TYPING_SOUND).get();
+        // typing.mp3 is a third of a second long
+        assertTrue(clip.getFrameCount() > AudioMixer.SAMPLE_RATE / 4);
+        assertTrue(clip.getFrameCount() < AudioMixer.SAMPLE_RATE / 2);
+        assertSame(clip, AudioClip.getClip(TYPING_SOUND).get());
+    }
+
+    @Test
+    public void prepare_mp3Resource_decodedInBackground() throws Exception {
+        CompletableFuture<Optional<AudioClip>> prepared = AudioClip.prepare(TYPING_SOUND);
+
+        assertSame(prepared, AudioClip.prepare(TYPING_SOUND));
+        assertSame(prepared.get(5, TimeUnit.SECONDS).get(), AudioClip.getClip(TYPING_SOUND).get());
+    }
+
+    @Test
+    public void getClip_missingResource_returnsEmpty() {
+        assertFalse(AudioClip.getClip("audio/missing.mp3").isPresent());
+    }
+
+    @Test
+    public void decode_notMp3_returnsEmptyClip() throws Exception {
+        assertEquals(0, AudioClip.decode(new ByteArrayInputStream(new byte[0])).getFrameCount());
+    }
+
+    @Test
+    public void toMixerFormat_monoAtHalfRate_interpolatedIntoStereo() {
+        short[] mono = {0, 100};
+        assertArrayEquals(new short[] {0, 0, 50, 50, 100, 100, 100, 100},
+                AudioClip.toMixerFormat(mono, 1, AudioMixer.SAMPLE_RATE / 2));
+    }
+}
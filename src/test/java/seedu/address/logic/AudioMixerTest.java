@@ -0,0 +1,126 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class AudioMixerTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final CountDownLatch outputReleased = new CountDownLatch(1);
+    private AudioMixer mixer;
+
+    @After
+    public void tearDown() {
+        outputReleased.countDown();
+        if (mixer != null) {
+            mixer.shutdown();
+        }
+    }
+
+    @Test
+    public void play_clipAlreadyPlaying_dropped() {
+        mixer = new AudioMixer(this::awaitOutputReleased);
+        AudioClip clip = clip(1, 2, 3, 4);
+
+        assertTrue(mixer.play(clip));
+        assertFalse(mixer.play(clip));
+        assertTrue(mixer.play(clip(1, 2)));
+    }
+
+    @Test
+    public void play_tooManyClips_dropped() {
+        mixer = new AudioMixer(this::awaitOutputReleased);
+        for (int i = 0; i < AudioMixer.MAX_VOICES; i++) {
+            assertTrue(mixer.play(clip(1, 2)));
+        }
+        assertFalse(mixer.play(clip(1, 2)));
+    }
+
+    @Test
+    public void mix_overlappingClips_samplesAddedAndClamped() {
+        mixer = new AudioMixer(this::awaitOutputReleased);
+        mixer.play(clip(100, -100, Short.MAX_VALUE, Short.MIN_VALUE));
+        mixer.play(clip(1, 2));
+
+        short[] buffer = new short[8];
+        assertEquals(2, mixer.mix(buffer));
+        assertArrayEquals(new short[] {101, -98, Short.MAX_VALUE, Short.MIN_VALUE}, copyOf(buffer, 4));
+
+        // both clips have been played to the end, so the first clip can be played again
+        assertEquals(0, mixer.mix(buffer));
+        assertTrue(mixer.play(clip(1, 2)));
+    }
+
+    @Test
+    public void play_clips_writtenToOutput() throws Exception {
+        ByteArrayOutputStream written = new ByteArrayOutputStream();
+        CountDownLatch clipWritten = new CountDownLatch(1);
+        mixer = new AudioMixer(() -> new AudioMixer.Output() {
+            @Override
+            public void write(byte[] bytes, int length) {
+                written.write(bytes, 0, length);
+                clipWritten.countDown();
+            }
+
+            @Override
+            public void close() {}
+        });
+
+        mixer.play(clip(0x0102, -2));
+        assertTrue(clipWritten.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        assertArrayEquals(new byte[] {0x02, 0x01, (byte) 0xfe, (byte) 0xff}, written.toByteArray());
+    }
+
+    @Test
+    public void play_outputUnavailable_audioDisabled() throws Exception {
+        mixer = new AudioMixer(() -> {
+            throw new IllegalStateException("no audio line");
+        });
+        assertTrue(mixer.play(clip(1, 2)));
+
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (mixer.play(clip(3, 4))) {
+            assertTrue(System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Returns an output once the test is over, so that only the test mixes the clips.
+     */
+    private AudioMixer.Output awaitOutputReleased() {
+        try {
+            outputReleased.await();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        throw new IllegalStateException("test is over");
+    }
+
+    /**
+     * Returns a clip with the given interleaved left and right samples.
+     */
+    private static AudioClip clip(int... samples) {
+        short[] clipSamples = new short[samples.length];
+        for (int i = 0; i < samples.length; i++) {
+            clipSamples[i] = (short) samples[i];
+        }
+        return new AudioClip(clipSamples);
+    }
+
+    private static short[] copyOf(short[] samples, int length) {
+        short[] copy = new short[length];
+        System.arraycopy(samples, 0, copy, 0, length);
+        return copy;
+    }
+}
@@ -1,7 +1,9 @@
 package seedu.address.logic;
 
 import static junit.framework.TestCase.assertEquals;
+import static junit.framework.TestCase.assertNull;
 import static seedu.address.logic.Autocomplete.autocomplete;
+import static seedu.address.logic.Autocomplete.autocompleteCommand;
 
 import org.junit.Test;
 
@@ -35,6 +37,16 @@ public class AutocompleteTest {
                 autocomplete(ListCommand.COMMAND_WORD.substring(0, ListCommand.COMMAND_WORD.length() - 1)));
     }
 
+    @Test
+    public void autocompleteCommand_commandWordsAndAliases_commandWordsCompletedFirst() {
+        assertEquals("add", autocompleteCommand(""));
+        assertEquals("redo", autocompleteCommand("r"));
+        assertEquals("remark", autocompleteCommand("rem"));
+        assertEquals("list", autocompleteCommand("l"));
+        assertEquals("ls", autocompleteCommand("ls"));
+        assertNull(autocompleteCommand("should-not-match"));
+    }
+
     @Test
     public void autocomplete_validCommands_returnsParameters() {
         assertEquals(AddCommand.COMMAND_WORD + " n/", autocomplete(AddCommand.COMMAND_WORD));
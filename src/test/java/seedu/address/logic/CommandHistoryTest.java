@@ -1,13 +1,28 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
 
 public class CommandHistoryTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
     private CommandHistory history;
 
     @Before
@@ -24,4 +39,102 @@ public class CommandHistoryTest {
         history.add(invalidCommand);
         assertEquals(Arrays.asList(validCommand, invalidCommand), history.getHistory());
     }
+
+    @Test
+    public void constructor_nonPositiveMaxSize_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new CommandHistory(0);
+    }
+
+    @Test
+    public void add_beyondMaxSize_forgetsEarliestCommands() {
+        history = new CommandHistory(2);
+        history.add("list");
+        history.add("clear");
+        history.add("undo");
+
+        assertEquals(Arrays.asList("clear", "undo"), history.getHistory());
+        assertEquals(2, history.size());
+    }
+
+    @Test
+    public void getSnapshot_laterCommands_notInSnapshot() {
+        history.add("list");
+        List<String> snapshot = history.getSnapshot();
+        history.add("clear");
+
+        assertEquals(Arrays.asList("list"), snapshot);
+    }
+
+    @Test
+    public void getSnapshot_commandForgotten_droppedFromSnapshot() {
+        history = new CommandHistory(2);
+        history.add("list");
+        history.add("clear");
+        List<String> snapshot = history.getSnapshot();
+        history.add("undo");
+
+        assertEquals(Arrays.asList("clear"), snapshot);
+        history.add("redo");
+        assertEquals(Collections.emptyList(), snapshot);
+    }
+
+    @Test
+    public void getSnapshot_commandForgottenWhilePointedTo_pointerDoesNotThrow() {
+        history = new CommandHistory(3);
+        history.add("list");
+        history.add("find alice");
+        history.add("clear");
+        ListElementPointer pointer = new ListElementPointer(history.getSnapshot());
+        pointer.add("");
+        history.add("find bob");
+
+        assertEquals("find alice", pointer.previousContaining("find"));
+        assertFalse(pointer.hasPreviousContaining("find"));
+        assertFalse(pointer.hasPrevious());
+        assertEquals("clear", pointer.next());
+        assertEquals("find alice", pointer.previous());
+
+        history.add("undo");
+        assertFalse(pointer.hasCurrent());
+        assertEquals("clear", pointer.next());
+    }
+
+    @Test
+    public void constructor_existingFile_restoresCommands() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + File.separator + "history.txt";
+        CommandHistory savedHistory = new CommandHistory(3, filePath);
+        savedHistory.add("list");
+        savedHistory.add("find \\ Alice\nBob");
+        savedHistory.add("clear");
+        savedHistory.add("undo");
+
+        history = new CommandHistory(3, filePath);
+        assertEquals(Arrays.asList("find \\ Alice\nBob", "clear", "undo"), history.getHistory());
+
+        history.add("redo");
+        assertEquals(Arrays.asList("clear", "undo", "redo"), new CommandHistory(3, filePath).getHistory());
+    }
+
+    @Test
+    public void add_fileHoldsTwiceMaxSize_rewritesFile() throws Exception {
+        File file = testFolder.newFile("history.txt");
+        history = new CommandHistory(2, file.getPath());
+        history.add("list");
+        history.add("clear");
+        history.add("undo");
+        assertEquals(3, Files.readAllLines(file.toPath(), StandardCharsets.UTF_8).size());
+
+        history.add("redo");
+        assertEquals(Arrays.asList("undo", "redo"), Files.readAllLines(file.toPath(), StandardCharsets.UTF_8));
+        assertEquals(Arrays.asList("undo", "redo"), new CommandHistory(2, file.getPath()).getHistory());
+    }
+
+    @Test
+    public void constructor_unusableFile_keepsHistoryInMemory() throws Exception {
+        history = new CommandHistory(2, testFolder.newFolder().getPath());
+        history.add("list");
+
+        assertEquals(Arrays.asList("list"), history.getHistory());
+    }
 }
@@ -0,0 +1,36 @@
+package seedu.address.logic;
+
+/**
+ * A {@code ConnectivityMonitor} that reports the connection it is given, whatever its probe finds.
+ */
+public class ConnectivityMonitorStub extends ConnectivityMonitor {
+
+    private volatile Status status;
+    private int refreshCount;
+
+    public ConnectivityMonitorStub(Status status) {
+        super(() -> true, Long.MAX_VALUE, Long.MAX_VALUE, unused -> { });
+        this.status = status;
+    }
+
+    public void setStatus(Status status) {
+        this.status = status;
+    }
+
+    @Override
+    public Status getStatus() {
+        return status;
+    }
+
+    @Override
+    public void refresh() {
+        refreshCount++;
+    }
+
+    /**
+     * Returns the number of probes requested through {@code #refresh()}.
+     */
+    public int getRefreshCount() {
+        return refreshCount;
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.logic.ConnectivityMonitor.Status;
+
+public class ConnectivityMonitorTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+    private static final long NEVER_MILLIS = TimeUnit.HOURS.toMillis(1);
+
+    private final AtomicBoolean isConnected = new AtomicBoolean(true);
+    private final AtomicInteger probeCount = new AtomicInteger();
+    private final List<Boolean> changes = new CopyOnWriteArrayList<>();
+    private ConnectivityMonitor monitor;
+
+    @After
+    public void tearDown() {
+        if (monitor != null) {
+            monitor.shutdown();
+        }
+    }
+
+    @Test
+    public void getStatus_probeInProgress_returnsUnknownWithoutWaiting() throws Exception {
+        CountDownLatch probeReleased = new CountDownLatch(1);
+        monitor = new ConnectivityMonitor(() -> {
+            probeCount.incrementAndGet();
+            awaitQuietly(probeReleased);
+            return true;
+        }, NEVER_MILLIS, NEVER_MILLIS, changes::add);
+        waitUntil(() -> probeCount.get() == 1);
+
+        assertEquals(Status.UNKNOWN, monitor.getStatus());
+        assertFalse(monitor.isDisconnected());
+
+        probeReleased.countDown();
+        waitUntil(() -> changes.equals(Collections.singletonList(true)));
+        assertEquals(Status.CONNECTED, monitor.getStatus());
+    }
+
+    @Test
+    public void refresh_connectionChanged_changesReported() throws Exception {
+        monitor = createMonitor(NEVER_MILLIS);
+        waitUntil(() -> monitor.getStatus() == Status.CONNECTED);
+
+        isConnected.set(false);
+        monitor.refresh();
+        waitUntil(monitor::isDisconnected);
+
+        // unchanged -> not reported again
+        monitor.refresh();
+        waitUntil(() -> probeCount.get() == 3);
+
+        assertEquals(Arrays.asList(true, false), changes);
+    }
+
+    @Test
+    public void getStatus_resultExpired_returnsUnknownAndProbesAgain() throws Exception {
+        monitor = createMonitor(50);
+        waitUntil(() -> monitor.getStatus() == Status.CONNECTED);
+
+        Thread.sleep(100);
+        assertEquals(Status.UNKNOWN, monitor.getStatus());
+        waitUntil(() -> monitor.getStatus() == Status.CONNECTED);
+        assertEquals(2, probeCount.get());
+    }
+
+    /**
+     * Returns a monitor that probes {@code isConnected} once right away, and trusts each result for
+     * {@code resultTtlMillis}.
+     */
+    private ConnectivityMonitor createMonitor(long resultTtlMillis) {
+        return new ConnectivityMonitor(() -> {
+            probeCount.incrementAndGet();
+            return isConnected.get();
+        }, NEVER_MILLIS, resultTtlMillis, changes::add);
+    }
+
+    /**
+     * Waits for {@code latch} to be released, or until the test times out.
+     */
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until {@code condition} holds, failing the test if it does not hold in time.
+     */
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timed out waiting for condition", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+}
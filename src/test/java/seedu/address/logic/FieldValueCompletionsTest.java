@@ -0,0 +1,82 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Optional;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+
+public class FieldValueCompletionsTest {
+
+    private final FieldValueCompletions completions = new FieldValueCompletions();
+    private AddressBook addressBook;
+
+    @Before
+    public void setUp() {
+        addressBook = getTypicalAddressBook();
+        completions.setAddressBook(addressBook);
+    }
+
+    @Test
+    public void complete_typicalAddressBook_completesNamesEmailsAndTags() {
+        assertEquals(Optional.of(ALICE.getName().fullName), completions.complete(PREFIX_NAME, "ali"));
+        assertEquals(Optional.of("johnd@example.com"), completions.complete(PREFIX_EMAIL, "john"));
+        assertEquals(Optional.of("owesMoney"), completions.complete(PREFIX_TAG, "owes"));
+        assertEquals(Optional.empty(), completions.complete(PREFIX_NAME, "zz"));
+        assertEquals(Optional.empty(), completions.complete(PREFIX_ADDRESS, "123"));
+    }
+
+    @Test
+    public void complete_valueOfMorePersons_completedFirst() throws Exception {
+        // both ALICE and BENSON are friends
+        assertEquals(Optional.of("friends"), completions.complete(PREFIX_TAG, "f"));
+        addAndNotify(new PersonBuilder().withName("Zed").withTags("family").build());
+        assertEquals(Optional.of("friends"), completions.complete(PREFIX_TAG, "f"));
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_personsChanged_valuesUpdated() throws Exception {
+        ReadOnlyPerson zed = new PersonBuilder().withName("Zed").withEmail("zed@example.com").build();
+        addAndNotify(zed);
+        assertEquals(Optional.of("Zed"), completions.complete(PREFIX_NAME, "z"));
+
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withName("Bernard").withTags().build();
+        addressBook.updatePerson(BENSON, editedBenson);
+        completions.handleAddressBookChangedEvent(
+                new AddressBookChangedEvent(addressBook, AddressBookChange.update(BENSON, editedBenson)));
+        assertEquals(Optional.of("Bernard"), completions.complete(PREFIX_NAME, "be"));
+        assertEquals(Optional.empty(), completions.complete(PREFIX_TAG, "owes"));
+
+        addressBook.removePerson(zed);
+        completions.handleAddressBookChangedEvent(
+                new AddressBookChangedEvent(addressBook, AddressBookChange.delete(zed)));
+        assertEquals(Optional.empty(), completions.complete(PREFIX_EMAIL, "zed"));
+
+        addressBook.resetData(new AddressBook());
+        completions.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        assertEquals(Optional.empty(), completions.complete(PREFIX_NAME, "a"));
+    }
+
+    /**
+     * Adds {@code person} to {@code addressBook} and notifies {@code completions} of the change.
+     */
+    private void addAndNotify(ReadOnlyPerson person) throws Exception {
+        addressBook.addPerson(person);
+        completions.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook,
+                AddressBookChange.add(addressBook.getPersonList().size() - 1, person)));
+    }
+}
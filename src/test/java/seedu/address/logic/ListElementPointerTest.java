@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -69,6 +70,38 @@ public class ListElementPointerTest {
         assertPreviousFailure();
     }
 
+    @Test
+    public void add_doesNotModifyBackingList() {
+        pointer = new ListElementPointer(pointerElements);
+        pointer.add("third");
+
+        assertEquals(Arrays.asList(FIRST_ELEMENT, SECOND_ELEMENT), pointerElements);
+        assertNextSuccess("third");
+    }
+
+    @Test
+    public void previousContaining() {
+        pointer = new ListElementPointer(Arrays.asList("list", "find Alice", "clear", "find Bob"));
+        pointer.add("");
+        pointer.next();
+
+        assertTrue(pointer.hasPreviousContaining("find"));
+        assertEquals("find Bob", pointer.previousContaining("find"));
+        assertEquals("find Alice", pointer.previousContaining("find"));
+        assertFalse(pointer.hasPreviousContaining("find"));
+        assertCurrentSuccess("find Alice");
+
+        // empty query -> matches the previous element
+        assertEquals("list", pointer.previousContaining(""));
+
+        try {
+            pointer.previousContaining("find");
+            fail("The expected NoSuchElementException was not thrown");
+        } catch (NoSuchElementException e) {
+            // expected exception thrown
+        }
+    }
+
     @Test
     public void equals() {
         ListElementPointer firstPointer = new ListElementPointer(pointerElements);
@@ -0,0 +1,189 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.logic.ConnectivityMonitor.Status;
+import seedu.address.testutil.LocalSmtpServer;
+
+public class MailDeliveryServiceTest {
+
+    private static final long TIMEOUT_MILLIS = 10000;
+    private static final long RETRY_DELAY_MILLIS = 10;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<String> statuses = new CopyOnWriteArrayList<>();
+    private final ConnectivityMonitorStub connectivityMonitor = new ConnectivityMonitorStub(Status.CONNECTED);
+    private LocalSmtpServer smtpServer;
+    private MailDeliveryService mailDeliveryService;
+
+    @Before
+    public void setUp() throws Exception {
+        smtpServer = new LocalSmtpServer();
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        if (mailDeliveryService != null) {
+            mailDeliveryService.shutdown();
+        }
+        smtpServer.close();
+        connectivityMonitor.shutdown();
+    }
+
+    @Test
+    public void send_manyMails_connectsOnce() throws Exception {
+        mailDeliveryService = createService(smtpServer.getPort(), null, 1);
+        List<OutgoingMail> mails = createMails(20);
+
+        mailDeliveryService.send(mails);
+        waitUntil(() -> !statuses.isEmpty());
+
+        assertEquals(Arrays.asList(String.format(MailDeliveryService.MESSAGE_DELIVERED, 20)), statuses);
+        assertEquals(getRecipients(mails), smtpServer.getRecipients());
+        assertEquals(1, smtpServer.getConnectionCount());
+        assertTrue(mailDeliveryService.getUnsentMails().isEmpty());
+    }
+
+    @Test
+    public void send_severalWorkers_allMailsSent() throws Exception {
+        mailDeliveryService = createService(smtpServer.getPort(), null, 3);
+        List<OutgoingMail> mails = createMails(30);
+
+        mailDeliveryService.send(mails);
+        waitUntil(() -> !statuses.isEmpty());
+
+        assertEquals(Arrays.asList(String.format(MailDeliveryService.MESSAGE_DELIVERED, 30)), statuses);
+        assertEquals(30, smtpServer.getRecipients().size());
+        assertTrue(smtpServer.getConnectionCount() <= 3);
+    }
+
+    @Test
+    public void send_temporaryFailures_retried() throws Exception {
+        mailDeliveryService = createService(smtpServer.getPort(), null, 1);
+        smtpServer.failNext(MailDeliveryService.MAX_ATTEMPTS - 1);
+
+        mailDeliveryService.send(createMails(1));
+        waitUntil(() -> !statuses.isEmpty());
+
+        assertEquals(Arrays.asList(String.format(MailDeliveryService.MESSAGE_DELIVERED, 1)), statuses);
+        assertEquals(Arrays.asList("recipient0@example.com"), smtpServer.getRecipients());
+    }
+
+    @Test
+    public void send_failsEveryAttempt_failureReported() throws Exception {
+        mailDeliveryService = createService(smtpServer.getPort(), null, 1);
+        smtpServer.failNext(MailDeliveryService.MAX_ATTEMPTS);
+
+        mailDeliveryService.send(createMails(1));
+        waitUntil(() -> !statuses.isEmpty());
+
+        assertEquals(Arrays.asList(String.format(MailDeliveryService.MESSAGE_NOT_DELIVERED,
+                "recipient0@example.com")), statuses);
+        assertTrue(smtpServer.getRecipients().isEmpty());
+        assertTrue(mailDeliveryService.getUnsentMails().isEmpty());
+    }
+
+    @Test
+    public void send_serverUnavailable_mailsSentFromOutboxLater() throws Exception {
+        File outboxFile = new File(testFolder.getRoot(), "outbox.json");
+        LocalSmtpServer unavailableServer = new LocalSmtpServer();
+        unavailableServer.close();
+        MailServer server = new MailServer("127.0.0.1", unavailableServer.getPort(), "sender@example.com", null,
+                false);
+        // retried long after the service is shut down
+        mailDeliveryService = new MailDeliveryService(server, outboxFile, 1, TIMEOUT_MILLIS, connectivityMonitor,
+                statuses::add);
+        List<OutgoingMail> mails = createMails(3);
+
+        mailDeliveryService.send(mails);
+        mailDeliveryService.shutdown();
+        assertEquals(3, mailDeliveryService.getUnsentMails().size());
+        assertTrue(outboxFile.exists());
+
+        mailDeliveryService = createService(smtpServer.getPort(), outboxFile, 1);
+        waitUntil(() -> !statuses.isEmpty());
+
+        assertEquals(Arrays.asList(String.format(MailDeliveryService.MESSAGE_DELIVERED, 3)), statuses);
+        assertEquals(getRecipients(mails), smtpServer.getRecipients());
+        waitUntil(() -> mailDeliveryService.getUnsentMails().isEmpty());
+    }
+
+    @Test
+    public void send_disconnected_mailsKeptUntilConnected() throws Exception {
+        File outboxFile = new File(testFolder.getRoot(), "outbox.json");
+        connectivityMonitor.setStatus(Status.DISCONNECTED);
+        mailDeliveryService = createService(smtpServer.getPort(), outboxFile, 1);
+        List<OutgoingMail> mails = createMails(3);
+
+        mailDeliveryService.send(mails);
+        // held back for many more retry delays than it takes to use up the attempts
+        Thread.sleep(RETRY_DELAY_MILLIS << MailDeliveryService.MAX_ATTEMPTS);
+
+        assertTrue(statuses.isEmpty());
+        assertEquals(0, smtpServer.getConnectionCount());
+        assertEquals(3, mailDeliveryService.getUnsentMails().size());
+        assertTrue(outboxFile.exists());
+
+        connectivityMonitor.setStatus(Status.CONNECTED);
+        waitUntil(() -> !statuses.isEmpty());
+
+        assertEquals(Arrays.asList(String.format(MailDeliveryService.MESSAGE_DELIVERED, 3)), statuses);
+        assertEquals(getRecipients(mails), smtpServer.getRecipients());
+        assertTrue(mailDeliveryService.getUnsentMails().isEmpty());
+    }
+
+    /**
+     * Returns a service that sends emails through the server at {@code port} on {@code workerCount} threads.
+     */
+    private MailDeliveryService createService(int port, File outboxFile, int workerCount) {
+        MailServer server = new MailServer("127.0.0.1", port, "sender@example.com", null, false);
+        return new MailDeliveryService(server, outboxFile, workerCount, RETRY_DELAY_MILLIS, connectivityMonitor,
+                statuses::add);
+    }
+
+    /**
+     * Returns {@code count} emails to different recipients.
+     */
+    private static List<OutgoingMail> createMails(int count) {
+        List<OutgoingMail> mails = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            mails.add(new OutgoingMail("recipient" + i + "@example.com", "Subject " + i, "<b>Content</b>"));
+        }
+        return mails;
+    }
+
+    private static List<String> getRecipients(List<OutgoingMail> mails) {
+        List<String> recipients = new ArrayList<>();
+        for (OutgoingMail mail : mails) {
+            recipients.add(mail.getRecipient());
+        }
+        return recipients;
+    }
+
+    /**
+     * Waits until {@code condition} holds, failing the test if it does not hold in time.
+     */
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timed out waiting for condition", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package seedu.address.logic;
+
+import java.util.function.Consumer;
+
+import seedu.address.testutil.LocalSmtpServer;
+
+/**
+ * Contains helper methods for testing code that sends emails through a {@code MailDeliveryService}.
+ */
+public class MailDeliveryServiceUtil {
+
+    private static final long RETRY_DELAY_MILLIS = 50;
+
+    /**
+     * Returns a service that sends emails through {@code smtpServer} on a single thread while
+     * {@code connectivityMonitor} does not find the app disconnected, keeps the emails that are not sent yet
+     * only in memory, and reports the outcome of each send to {@code statusReporter}.
+     */
+    public static MailDeliveryService createLocalService(LocalSmtpServer smtpServer,
+            ConnectivityMonitor connectivityMonitor, Consumer<String> statusReporter) {
+        MailServer server = new MailServer("127.0.0.1", smtpServer.getPort(), "sender@example.com", null, false);
+        return new MailDeliveryService(server, null, 1, RETRY_DELAY_MILLIS, connectivityMonitor, statusReporter);
+    }
+}
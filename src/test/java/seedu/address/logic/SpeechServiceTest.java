@@ -0,0 +1,120 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class SpeechServiceTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final List<String> spoken = new CopyOnWriteArrayList<>();
+    private final AtomicInteger speakersCreated = new AtomicInteger();
+    private final CountDownLatch firstUtteranceStarted = new CountDownLatch(1);
+    private final CountDownLatch firstUtteranceReleased = new CountDownLatch(1);
+    private SpeechService speechService;
+
+    @After
+    public void tearDown() {
+        if (speechService != null) {
+            speechService.shutdown();
+        }
+    }
+
+    @Test
+    public void speak_multipleUtterances_speakerCreatedOnce() throws Exception {
+        speechService = new SpeechService(SpeakerStub::new);
+        firstUtteranceReleased.countDown();
+
+        speechService.speak("one");
+        waitUntil(() -> spoken.size() == 1);
+        speechService.speak("two");
+        waitUntil(() -> spoken.size() == 2);
+
+        assertEquals(Arrays.asList("one", "two"), spoken);
+        assertEquals(1, speakersCreated.get());
+    }
+
+    @Test
+    public void speak_manyUtterancesWhileSpeaking_staleUtterancesDropped() throws Exception {
+        speechService = new SpeechService(SpeakerStub::new);
+
+        speechService.speak("first");
+        assertTrue(firstUtteranceStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        for (int i = 1; i <= 5; i++) {
+            speechService.speak("utterance " + i);
+        }
+        firstUtteranceReleased.countDown();
+        waitUntil(() -> spoken.size() == 3);
+
+        assertEquals(Arrays.asList("first", "utterance 4", "utterance 5"), spoken);
+    }
+
+    @Test
+    public void speak_disabled_nothingSpoken() throws Exception {
+        speechService = new SpeechService(SpeakerStub::new);
+        speechService.setEnabled(false);
+
+        speechService.speak("one");
+        speechService.prepare();
+        assertEquals(Collections.emptyList(), spoken);
+        assertEquals(0, speakersCreated.get());
+    }
+
+    @Test
+    public void speak_speakerUnavailable_disablesSpeech() throws Exception {
+        speechService = new SpeechService(() -> {
+            throw new IllegalStateException("no voice");
+        });
+
+        speechService.speak("one");
+        waitUntil(() -> !speechService.isEnabled());
+        assertFalse(speechService.isEnabled());
+    }
+
+    /**
+     * Waits until {@code condition} holds, failing the test if it does not hold in time.
+     */
+    private void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timed out waiting for the speech service", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * A speaker that records the utterances, and waits to be released before finishing the first one.
+     */
+    private class SpeakerStub implements SpeechService.Speaker {
+        SpeakerStub() {
+            speakersCreated.incrementAndGet();
+        }
+
+        @Override
+        public void speak(String utterance) {
+            spoken.add(utterance);
+            firstUtteranceStarted.countDown();
+            try {
+                firstUtteranceReleased.await();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void close() {}
+    }
+}
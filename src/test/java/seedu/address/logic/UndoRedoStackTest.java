@@ -84,6 +84,35 @@ public class UndoRedoStackTest {
         assertStackStatus(Collections.singletonList(dummyUndoableCommandOne), Collections.emptyList());
     }
 
+    @Test
+    public void push_exceedsMaxDepth_oldestCommandsDiscarded() {
+        undoRedoStack = new UndoRedoStack(2, Integer.MAX_VALUE);
+        DummyUndoableCommand dummyUndoableCommandThree = new DummyUndoableCommand();
+        undoRedoStack.push(dummyUndoableCommandOne);
+        undoRedoStack.push(dummyUndoableCommandTwo);
+        undoRedoStack.push(dummyUndoableCommandThree);
+
+        assertEquals(dummyUndoableCommandThree, undoRedoStack.popUndo());
+        assertEquals(dummyUndoableCommandTwo, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+    }
+
+    @Test
+    public void push_exceedsMaxUndoDataSize_oldestCommandsDiscarded() {
+        // each dummy command holds one person
+        undoRedoStack = new UndoRedoStack(Integer.MAX_VALUE, 1);
+        undoRedoStack.push(dummyUndoableCommandOne);
+        undoRedoStack.push(dummyUndoableCommandTwo);
+
+        assertEquals(dummyUndoableCommandTwo, undoRedoStack.popUndo());
+        assertFalse(undoRedoStack.canUndo());
+
+        // commands cleared from the redo-stack no longer count towards the limit
+        undoRedoStack.push(dummyUndoableCommandOne);
+        assertTrue(undoRedoStack.canUndo());
+        assertFalse(undoRedoStack.canRedo());
+    }
+
     @Test
     public void canUndo() {
         // empty undo stack
@@ -245,5 +274,9 @@ public class UndoRedoStackTest {
             return new CommandResult("");
         }
 
+        @Override
+        protected void revertUndoableCommand() {
+        }
+
     }
 }
@@ -101,6 +101,11 @@ public class AddCommandTest {
             fail("This method should not be called.");
         }
 
+        @Override
+        public void addPerson(int index, ReadOnlyPerson person) throws DuplicatePersonException {
+            fail("This method should not be called.");
+        }
+
         @Override
         public void resetData(ReadOnlyAddressBook newData) {
             fail("This method should not be called.");
@@ -39,7 +39,7 @@ public class FindCommandTest {
     @Test
     public void equals() {
 
-        List<Predicate> firstPredicateList =
+        List<Predicate<ReadOnlyPerson>> firstPredicateList =
                 Arrays.asList(
                         new NameContainsKeywordPredicate("name_first"),
                         new EmailContainsKeywordPredicate("email_first"),
@@ -48,7 +48,7 @@ public class FindCommandTest {
                         new AddressContainsKeywordPredicate("address_first")
                 );
 
-        List<Predicate> secondPredicateList =
+        List<Predicate<ReadOnlyPerson>> secondPredicateList =
                 Arrays.asList(
                         new NameContainsKeywordPredicate("name_second"),
                         new EmailContainsKeywordPredicate("email_second"),
@@ -8,7 +8,8 @@ import static seedu.address.logic.commands.RadioCommand.MESSAGE_NO_RADIO_PLAYING
 
 import org.junit.Test;
 
-import seedu.address.logic.InternetConnectionCheck;
+import seedu.address.logic.ConnectivityMonitor.Status;
+import seedu.address.logic.ConnectivityMonitorStub;
 
 //@@author hanselblack
 public class RadioCommandTest {
@@ -52,59 +53,45 @@ public class RadioCommandTest {
 
     @Test
     public void execute_radio_successCommand() {
-        String genre = "";
-        RadioCommand radioCommand = new RadioCommand("play");
-        CommandResult commandResult = radioCommand.execute();
-        if (InternetConnectionCheck.isConnectedToInternet()) {
-            assertEquals("POP " + RadioCommand.MESSAGE_SUCCESS, commandResult.feedbackToUser);
-            radioCommand = new RadioCommand("stop");
-            radioCommand.execute();
-        } else {
-            assertEquals(RadioCommand.MESSAGE_NO_INTERNET, commandResult.feedbackToUser);
-        }
-
-        genre = "pop";
-        radioCommand = new RadioCommand("play", genre);
-        commandResult = radioCommand.execute();
-        if (InternetConnectionCheck.isConnectedToInternet()) {
-            assertEquals(genre.toUpperCase() + " " + RadioCommand.MESSAGE_SUCCESS, commandResult.feedbackToUser);
-            radioCommand = new RadioCommand("stop");
-            radioCommand.execute();
-        } else {
-            assertEquals(RadioCommand.MESSAGE_NO_INTERNET, commandResult.feedbackToUser);
-        }
-
-        genre = "chinese";
-        radioCommand = new RadioCommand("play", genre);
-        commandResult = radioCommand.execute();
-        if (InternetConnectionCheck.isConnectedToInternet()) {
-            assertEquals(genre.toUpperCase() + " " + RadioCommand.MESSAGE_SUCCESS, commandResult.feedbackToUser);
-            radioCommand = new RadioCommand("stop");
-            radioCommand.execute();
-        } else {
-            assertEquals(RadioCommand.MESSAGE_NO_INTERNET, commandResult.feedbackToUser);
+        ConnectivityMonitorStub connectivityMonitor = new ConnectivityMonitorStub(Status.CONNECTED);
+        try {
+            for (String genre : RadioCommand.GENRE_LIST) {
+                CommandResult commandResult = new RadioCommand("play", genre, connectivityMonitor).execute();
+                assertEquals(genre.toUpperCase() + " " + RadioCommand.MESSAGE_SUCCESS,
+                        commandResult.feedbackToUser);
+                assertTrue(RadioCommand.getIsRadioPlaying());
+
+                commandResult = new RadioCommand("stop").execute();
+                assertEquals(RadioCommand.MESSAGE_STOP, commandResult.feedbackToUser);
+                assertFalse(RadioCommand.getIsRadioPlaying());
+            }
+        } finally {
+            connectivityMonitor.shutdown();
         }
+    }
 
-        genre = "news";
-        radioCommand = new RadioCommand("play", genre);
-        commandResult = radioCommand.execute();
-        if (InternetConnectionCheck.isConnectedToInternet()) {
-            assertEquals(genre.toUpperCase() + " " + RadioCommand.MESSAGE_SUCCESS, commandResult.feedbackToUser);
-            radioCommand = new RadioCommand("stop");
-            radioCommand.execute();
-        } else {
+    @Test
+    public void execute_playWhileDisconnected_noInternet() {
+        ConnectivityMonitorStub connectivityMonitor = new ConnectivityMonitorStub(Status.DISCONNECTED);
+        try {
+            CommandResult commandResult = new RadioCommand("play", "pop", connectivityMonitor).execute();
             assertEquals(RadioCommand.MESSAGE_NO_INTERNET, commandResult.feedbackToUser);
+            assertFalse(RadioCommand.getIsRadioPlaying());
+        } finally {
+            connectivityMonitor.shutdown();
         }
+    }
 
-        genre = "classic";
-        radioCommand = new RadioCommand("play", genre);
-        commandResult = radioCommand.execute();
-        if (InternetConnectionCheck.isConnectedToInternet()) {
-            assertEquals(genre.toUpperCase() + " " + RadioCommand.MESSAGE_SUCCESS, commandResult.feedbackToUser);
-            radioCommand = new RadioCommand("stop");
-            radioCommand.execute();
-        } else {
-            assertEquals(RadioCommand.MESSAGE_NO_INTERNET, commandResult.feedbackToUser);
+    @Test
+    public void execute_playWhileConnectionUnknown_connectionChecked() {
+        ConnectivityMonitorStub connectivityMonitor = new ConnectivityMonitorStub(Status.UNKNOWN);
+        try {
+            CommandResult commandResult = new RadioCommand("play", "pop", connectivityMonitor).execute();
+            assertEquals(RadioCommand.MESSAGE_CHECKING_INTERNET, commandResult.feedbackToUser);
+            assertFalse(RadioCommand.getIsRadioPlaying());
+            assertEquals(1, connectivityMonitor.getRefreshCount());
+        } finally {
+            connectivityMonitor.shutdown();
         }
     }
 
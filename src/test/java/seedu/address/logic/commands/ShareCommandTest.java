@@ -6,19 +6,30 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.junit.After;
+import org.junit.Before;
 import org.junit.Test;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
-import seedu.address.logic.InternetConnectionCheck;
+import seedu.address.logic.ConnectivityMonitor.Status;
+import seedu.address.logic.ConnectivityMonitorStub;
+import seedu.address.logic.MailDeliveryService;
+import seedu.address.logic.MailDeliveryServiceUtil;
 import seedu.address.logic.UndoRedoStack;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.LocalSmtpServer;
 
 //@@author hanselblack
 /**
@@ -26,8 +37,28 @@ import seedu.address.model.UserPrefs;
  */
 public class ShareCommandTest {
 
+    private static final long TIMEOUT_MILLIS = 5000;
+
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
     private String[] shareEmailArray = {"unifycs2103@gmail.com"};
+    private ConnectivityMonitorStub connectivityMonitor = new ConnectivityMonitorStub(Status.CONNECTED);
+    private List<String> statuses = new CopyOnWriteArrayList<>();
+    private LocalSmtpServer smtpServer;
+    private MailDeliveryService mailDeliveryService;
+
+    @Before
+    public void setUp() throws Exception {
+        smtpServer = new LocalSmtpServer();
+        mailDeliveryService = MailDeliveryServiceUtil.createLocalService(smtpServer, connectivityMonitor,
+                statuses::add);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        mailDeliveryService.shutdown();
+        smtpServer.close();
+        connectivityMonitor.shutdown();
+    }
 
     @Test
     public void execute_invalidIndexUnfilteredList_throwsCommandException() throws Exception {
@@ -43,55 +74,35 @@ public class ShareCommandTest {
         ShareCommand shareCommand = prepareCommand(INDEX_FIRST_PERSON, shareEmailArray);
         try {
             CommandResult commandResult = shareCommand.execute();
-            if (InternetConnectionCheck.isConnectedToInternet()) {
-                assertEquals(ShareCommand.MESSAGE_FAILURE, commandResult.feedbackToUser);
-            } else {
-                assertEquals(ShareCommand.MESSAGE_NO_INTERNET, commandResult.feedbackToUser);
-            }
+            assertEquals(ShareCommand.MESSAGE_FAILURE, commandResult.feedbackToUser);
         } catch (CommandException ce) {
             throw new IllegalArgumentException("Execution of command should not fail.", ce);
         }
     }
 
     @Test
-    public void execute_share_success() {
-
+    public void execute_share_success() throws Exception {
         ShareCommand shareCommand = prepareCommand(INDEX_FIRST_PERSON, shareEmailArray);
-        try {
-            CommandResult commandResult = shareCommand.execute();
-            if (InternetConnectionCheck.isConnectedToInternet()) {
-                assertEquals(ShareCommand.MESSAGE_SUCCESS, commandResult.feedbackToUser);
-            } else {
-                assertEquals(ShareCommand.MESSAGE_NO_INTERNET, commandResult.feedbackToUser);
-            }
-        } catch (CommandException ce) {
-            throw new IllegalArgumentException("Execution of command should not fail.", ce);
-        }
+        assertEquals(ShareCommand.MESSAGE_SUCCESS, shareCommand.execute().feedbackToUser);
 
         shareCommand = prepareCommand(INDEX_SECOND_PERSON, shareEmailArray);
-        try {
-            CommandResult commandResult = shareCommand.execute();
-            if (InternetConnectionCheck.isConnectedToInternet()) {
-                assertEquals(ShareCommand.MESSAGE_SUCCESS, commandResult.feedbackToUser);
-            } else {
-                assertEquals(ShareCommand.MESSAGE_NO_INTERNET, commandResult.feedbackToUser);
-            }
-        } catch (CommandException ce) {
-            throw new IllegalArgumentException("Execution of command should not fail.", ce);
-        }
+        assertEquals(ShareCommand.MESSAGE_SUCCESS, shareCommand.execute().feedbackToUser);
 
         shareEmailArray = new String[]{"unifycs2103@gmail.com", "1"};
         shareCommand = prepareCommand(INDEX_FIRST_PERSON, shareEmailArray);
-        try {
-            CommandResult commandResult = shareCommand.execute();
-            if (InternetConnectionCheck.isConnectedToInternet()) {
-                assertEquals(ShareCommand.MESSAGE_SUCCESS, commandResult.feedbackToUser);
-            } else {
-                assertEquals(ShareCommand.MESSAGE_NO_INTERNET, commandResult.feedbackToUser);
-            }
-        } catch (CommandException ce) {
-            throw new IllegalArgumentException("Execution of command should not fail.", ce);
-        }
+        assertEquals(ShareCommand.MESSAGE_SUCCESS, shareCommand.execute().feedbackToUser);
+
+        waitUntil(() -> statuses.size() == 3);
+        assertEquals(4, smtpServer.getRecipients().size());
+        assertTrue(smtpServer.getRecipients().contains(ALICE.getEmail().toString()));
+    }
+
+    @Test
+    public void execute_shareWhileDisconnected_noInternetReported() throws Exception {
+        connectivityMonitor.setStatus(Status.DISCONNECTED);
+        ShareCommand shareCommand = prepareCommand(INDEX_FIRST_PERSON, shareEmailArray);
+        assertEquals(ShareCommand.MESSAGE_NO_INTERNET, shareCommand.execute().feedbackToUser);
+        assertEquals(1, mailDeliveryService.getUnsentMails().size());
     }
 
     @Test
@@ -102,11 +113,7 @@ public class ShareCommandTest {
 
         try {
             CommandResult commandResult = shareCommand.execute();
-            if (InternetConnectionCheck.isConnectedToInternet()) {
-                assertEquals(ShareCommand.MESSAGE_EMAIL_NOT_VALID, commandResult.feedbackToUser);
-            } else {
-                assertEquals(ShareCommand.MESSAGE_NO_INTERNET, commandResult.feedbackToUser);
-            }
+            assertEquals(ShareCommand.MESSAGE_EMAIL_NOT_VALID, commandResult.feedbackToUser);
         } catch (CommandException ce) {
             throw new IllegalArgumentException("Execution of command should not fail.", ce);
         }
@@ -116,11 +123,7 @@ public class ShareCommandTest {
 
         try {
             CommandResult commandResult = shareCommand.execute();
-            if (InternetConnectionCheck.isConnectedToInternet()) {
-                assertEquals(ShareCommand.MESSAGE_EMAIL_NOT_VALID, commandResult.feedbackToUser);
-            } else {
-                assertEquals(ShareCommand.MESSAGE_NO_INTERNET, commandResult.feedbackToUser);
-            }
+            assertEquals(ShareCommand.MESSAGE_EMAIL_NOT_VALID, commandResult.feedbackToUser);
         } catch (CommandException ce) {
             throw new IllegalArgumentException("Execution of command should not fail.", ce);
         }
@@ -129,14 +132,14 @@ public class ShareCommandTest {
     @Test
     public void equals() {
 
-        ShareCommand shareFirstCommand = new ShareCommand(INDEX_FIRST_PERSON, shareEmailArray);
-        ShareCommand shareSecondCommand = new ShareCommand(INDEX_SECOND_PERSON, shareEmailArray);
+        ShareCommand shareFirstCommand = prepareCommand(INDEX_FIRST_PERSON, shareEmailArray);
+        ShareCommand shareSecondCommand = prepareCommand(INDEX_SECOND_PERSON, shareEmailArray);
 
         // same object -> returns true
         assertTrue(shareFirstCommand.equals(shareFirstCommand));
 
         // same values -> returns true
-        ShareCommand emailFirstCommandCopy = new ShareCommand(INDEX_FIRST_PERSON, shareEmailArray);
+        ShareCommand emailFirstCommandCopy = prepareCommand(INDEX_FIRST_PERSON, shareEmailArray);
         assertTrue(shareFirstCommand.equals(emailFirstCommandCopy));
 
         // different types -> returns false
@@ -154,8 +157,20 @@ public class ShareCommandTest {
      * Returns a {@code ShareCommand} with the parameter {@code index}.
      */
     private ShareCommand prepareCommand(Index index, String[] shareEmailArray) {
-        ShareCommand shareCommand = new ShareCommand(index, shareEmailArray);
+        ShareCommand shareCommand = new ShareCommand(index, shareEmailArray, connectivityMonitor,
+                mailDeliveryService);
         shareCommand.setData(model, new CommandHistory(), new UndoRedoStack());
         return shareCommand;
     }
+
+    /**
+     * Waits until {@code condition} holds, failing the test if it does not hold in time.
+     */
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timed out waiting for condition", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
 }
@@ -1,23 +1,30 @@
 package seedu.address.logic.commands;
 
+import static org.junit.Assert.assertEquals;
 import static seedu.address.logic.UndoRedoStackUtil.prepareStack;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static seedu.address.logic.commands.CommandTestUtil.deleteFirstPerson;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.UndoRedoStack;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.EditPersonDescriptorBuilder;
 
 public class UndoCommandTest {
     private static final CommandHistory EMPTY_COMMAND_HISTORY = new CommandHistory();
@@ -54,4 +61,30 @@ public class UndoCommandTest {
         // no command in undoStack
         assertCommandFailure(undoCommand, model, UndoCommand.MESSAGE_FAILURE);
     }
+
+    @Test
+    public void execute_addEditClear_revertsEachCommand() throws Exception {
+        UndoRedoStack undoRedoStack = new UndoRedoStack();
+        UndoCommand undoCommand = new UndoCommand();
+        undoCommand.setData(model, EMPTY_COMMAND_HISTORY, undoRedoStack);
+
+        List<UndoableCommand> commands = Arrays.asList(new AddCommand(AMY),
+                new EditCommand(INDEX_FIRST_PERSON, new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build()),
+                new ClearCommand());
+        List<AddressBook> statesBeforeCommands = new ArrayList<>();
+        for (UndoableCommand command : commands) {
+            statesBeforeCommands.add(new AddressBook(model.getAddressBook()));
+            command.setData(model, EMPTY_COMMAND_HISTORY, undoRedoStack);
+            command.execute();
+            undoRedoStack.push(command);
+        }
+
+        Collections.reverse(statesBeforeCommands);
+        for (AddressBook expectedAddressBook : statesBeforeCommands) {
+            CommandResult result = undoCommand.execute();
+            assertEquals(UndoCommand.MESSAGE_SUCCESS, result.feedbackToUser);
+            assertEquals(expectedAddressBook.getPersonList(), model.getAddressBook().getPersonList());
+            assertEquals(expectedAddressBook.getPersonList(), model.getFilteredPersonList());
+        }
+    }
 }
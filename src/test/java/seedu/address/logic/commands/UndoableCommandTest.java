@@ -13,6 +13,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
 public class UndoableCommandTest {
@@ -49,6 +50,8 @@ public class UndoableCommandTest {
      * Deletes the first person in the model's filtered list.
      */
     class DummyCommand extends UndoableCommand {
+        private ReadOnlyPerson deletedPerson;
+
         DummyCommand(Model model) {
             this.model = model;
         }
@@ -61,8 +64,18 @@ public class UndoableCommandTest {
             } catch (PersonNotFoundException pnfe) {
                 fail("Impossible: personToDelete was retrieved from model.");
             }
+            deletedPerson = personToDelete;
             return new CommandResult("");
         }
 
+        @Override
+        protected void revertUndoableCommand() {
+            try {
+                model.addPerson(0, deletedPerson);
+            } catch (DuplicatePersonException dpe) {
+                fail("Impossible: deletedPerson was removed from model.");
+            }
+        }
+
     }
 }
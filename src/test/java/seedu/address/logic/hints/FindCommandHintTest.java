@@ -1,9 +1,11 @@
 package seedu.address.logic.hints;
 
 import static seedu.address.logic.hints.AddCommandHintTest.assertHintContent;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.Test;
 
+import seedu.address.logic.FieldValueCompletions;
 import seedu.address.logic.commands.hints.FindCommandHint;
 
 //@@author nicholaschuayunzhi
@@ -40,4 +42,20 @@ public class FindCommandHintTest {
                 " n/nicholas p/321 e/email@e.com a/address t/tag r/remark");
         assertHintContent(findCommandHint, " ", "", "find n/nicholas p/321 e/email@e.com a/address t/tag r/remark ");
     }
+
+    @Test
+    public void parse_valueBeingTyped_completesValue() {
+        FieldValueCompletions.getInstance().setAddressBook(getTypicalAddressBook());
+
+        FindCommandHint findCommandHint = new FindCommandHint("find n/ali", " n/ali");
+        assertHintContent(findCommandHint, "ce Pauline", "name", "find n/Alice Pauline");
+        findCommandHint = new FindCommandHint("find n/Alice t/owe", " n/Alice t/owe");
+        assertHintContent(findCommandHint, "sMoney", "tag", "find n/Alice t/owesMoney");
+
+        // values that are already complete or cannot be completed are followed by the next prefix
+        findCommandHint = new FindCommandHint("find n/Alice Pauline", " n/Alice Pauline");
+        assertHintContent(findCommandHint, " p/", "phone", "find n/Alice Pauline p/");
+        findCommandHint = new FindCommandHint("find n/zzz", " n/zzz");
+        assertHintContent(findCommandHint, " p/", "phone", "find n/zzz p/");
+    }
 }
@@ -1,7 +1,10 @@
 package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.ArrayList;
@@ -18,7 +21,9 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.tag.Tag;
+import seedu.address.testutil.PersonBuilder;
 
 public class AddressBookTest {
 
@@ -69,6 +74,50 @@ public class AddressBookTest {
         addressBook.getTagList().remove(0);
     }
 
+    @Test
+    public void removePerson_lastPersonWithTag_removesTag() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+
+        addressBook.removePerson(BENSON);
+        assertEquals(Collections.singletonList(new Tag("friends")), addressBook.getTagList());
+        addressBook.removePerson(ALICE);
+        assertEquals(Collections.emptyList(), addressBook.getTagList());
+    }
+
+    @Test
+    public void updatePerson_tagNoLongerUsed_removesTag() throws Exception {
+        addressBook.addPerson(BENSON);
+        addressBook.updatePerson(BENSON, new PersonBuilder(BENSON).withTags("colleagues").build());
+        assertEquals(Collections.singletonList(new Tag("colleagues")), addressBook.getTagList());
+    }
+
+    @Test
+    public void addPerson_duplicatePerson_tagsNotAdded() throws Exception {
+        addressBook.addPerson(ALICE);
+        try {
+            addressBook.addPerson(new PersonBuilder(ALICE).withTags("colleagues").build());
+        } catch (DuplicatePersonException dpe) {
+            assertEquals(Collections.singletonList(new Tag("friends")), addressBook.getTagList());
+            return;
+        }
+        fail("Expected a DuplicatePersonException");
+    }
+
+    @Test
+    public void addPerson_existingTag_sharesTagObject() throws Exception {
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(BENSON);
+        Tag aliceTag = addressBook.getPersonList().get(0).getTags().iterator().next();
+        assertTrue(addressBook.getPersonList().get(1).getTags().stream().anyMatch(tag -> tag == aliceTag));
+    }
+
+    @Test
+    public void getPersonsWithTagContaining_keyword_returnsPersonsWithTag() throws Exception {
+        addressBook.resetData(getTypicalAddressBook());
+        assertEquals(Collections.singleton(BENSON), addressBook.getPersonsWithTagContaining("OWES"));
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons and tags lists can violate interface constraints.
      */
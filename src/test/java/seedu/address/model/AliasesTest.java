@@ -7,6 +7,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.HashSet;
 import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.Set;
 
 import org.junit.Before;
@@ -81,6 +82,20 @@ public class AliasesTest {
         aliases.removeAlias(LIST_COMMAND_ALIAS);
     }
 
+    @Test
+    public void completeAlias_aliasesChanged_completesCurrentAliases() {
+        assertEquals(Optional.of("show"), aliases.completeAlias("sh"));
+        assertEquals(Optional.empty(), aliases.completeAlias("every"));
+
+        aliases.addAlias(LIST_COMMAND_ALIAS, ListCommand.COMMAND_WORD);
+        aliases.addAlias("shelf", ListCommand.COMMAND_WORD);
+        assertEquals(Optional.of(LIST_COMMAND_ALIAS), aliases.completeAlias("every"));
+        assertEquals(Optional.of("shelf"), aliases.completeAlias("sh"));
+
+        aliases.removeAlias("shelf");
+        assertEquals(Optional.of("show"), aliases.completeAlias("sh"));
+    }
+
     @Test
     public void toString_withAliases_returnsCorrectString() {
         aliases.addAlias(LIST_COMMAND_ALIAS, ListCommand.COMMAND_WORD);
@@ -0,0 +1,131 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.ReadOnlyPerson;
+
+public class FilteredPersonListTest {
+
+    private static final Predicate<ReadOnlyPerson> NAME_WITH_MEIER = person ->
+            person.getName().fullName.contains("Meier");
+
+    private ObservableList<ReadOnlyPerson> source;
+    private FilteredPersonList filteredPersons;
+    // the persons shown, as reported to the listeners of filteredPersons
+    private List<ReadOnlyPerson> reportedPersons;
+
+    @Before
+    public void setUp() {
+        source = FXCollections.observableArrayList(getTypicalPersons());
+        filteredPersons = new FilteredPersonList(source);
+        reportedPersons = new ArrayList<>(filteredPersons);
+        filteredPersons.addListener(this::applyChange);
+    }
+
+    @Test
+    public void showAll_sourceChanged_changesReported() {
+        source.remove(ALICE);
+        source.add(1, HOON);
+        source.set(0, IDA);
+        FXCollections.sort(source, Comparator.comparing(person -> person.getName().fullName));
+
+        assertEquals(source, filteredPersons);
+        assertEquals(source, reportedPersons);
+    }
+
+    @Test
+    public void setPredicate_matchingPersonsShown() {
+        filteredPersons.setPredicate(NAME_WITH_MEIER);
+        assertShown(NAME_WITH_MEIER);
+
+        filteredPersons.showAll();
+        assertEquals(source, filteredPersons);
+        assertEquals(source, reportedPersons);
+    }
+
+    @Test
+    public void setPredicate_sourceChanged_matchingPersonsShown() {
+        filteredPersons.setPredicate(NAME_WITH_MEIER);
+
+        // removes a person that is shown and a person that is not
+        source.removeAll(BENSON, ALICE);
+        assertShown(NAME_WITH_MEIER);
+
+        source.addAll(1, Arrays.asList(HOON, IDA));
+        assertShown(NAME_WITH_MEIER);
+
+        // replaces a person that is not shown with one that is
+        source.set(source.indexOf(CARL), BENSON);
+        assertShown(NAME_WITH_MEIER);
+
+        FXCollections.sort(source, Comparator.comparing(person -> person.getName().fullName));
+        assertShown(NAME_WITH_MEIER);
+
+        source.clear();
+        assertShown(NAME_WITH_MEIER);
+    }
+
+    @Test
+    public void setPredicate_candidates_onlyCandidatesTested() {
+        List<ReadOnlyPerson> testedPersons = new ArrayList<>();
+        Predicate<ReadOnlyPerson> predicate = person -> testedPersons.add(person) && NAME_WITH_MEIER.test(person);
+
+        // not in source order, and including persons that do not match or are not in the source
+        filteredPersons.setPredicate(predicate, Arrays.asList(DANIEL, CARL, HOON, BENSON));
+
+        assertEquals(Arrays.asList(BENSON, DANIEL), filteredPersons);
+        assertEquals(Arrays.asList(BENSON, DANIEL), reportedPersons);
+        assertEquals(3, testedPersons.size());
+
+        source.remove(BENSON);
+        source.add(HOON);
+        assertShown(NAME_WITH_MEIER);
+    }
+
+    /**
+     * Asserts that the persons in the source that match {@code predicate} are shown, and were reported as shown.
+     */
+    private void assertShown(Predicate<ReadOnlyPerson> predicate) {
+        List<ReadOnlyPerson> expectedPersons = source.stream().filter(predicate).collect(Collectors.toList());
+        assertEquals(expectedPersons, filteredPersons);
+        assertEquals(expectedPersons, reportedPersons);
+    }
+
+    /**
+     * Applies {@code change} to {@code reportedPersons}.
+     */
+    private void applyChange(ListChangeListener.Change<? extends ReadOnlyPerson> change) {
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                List<ReadOnlyPerson> permuted = new ArrayList<>(reportedPersons);
+                for (int i = change.getFrom(); i < change.getTo(); i++) {
+                    permuted.set(change.getPermutation(i), reportedPersons.get(i));
+                }
+                reportedPersons = permuted;
+            } else {
+                reportedPersons.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()).clear();
+                reportedPersons.addAll(change.getFrom(), change.getAddedSubList());
+            }
+        }
+    }
+}
@@ -1,20 +1,31 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ObservableList;
+import seedu.address.model.person.LazyPersonList;
 import seedu.address.model.person.NameContainsKeywordPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsFieldsPredicate;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
 
 public class ModelManagerTest {
@@ -67,4 +78,60 @@ public class ModelManagerTest {
         differentUserPrefs.setAddressBookName("differentName");
         assertTrue(modelManager.equals(new ModelManager(addressBook, differentUserPrefs)));
     }
+
+    @Test
+    public void constructor_lazyAddressBook_noPersonRead() {
+        List<ReadOnlyPerson> persons = getTypicalPersons();
+        List<Integer> loadedIndices = new ArrayList<>();
+        ReadOnlyAddressBook lazyAddressBook = createLazyAddressBook(persons, loadedIndices);
+
+        ModelManager modelManager = new ModelManager(lazyAddressBook, new UserPrefs());
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+
+        assertEquals(persons.size(), modelManager.getFilteredPersonList().size());
+        assertTrue(loadedIndices.isEmpty());
+    }
+
+    @Test
+    public void getFilteredPersonList_lazyAddressBook_personsReadWhenAccessed() throws Exception {
+        List<ReadOnlyPerson> persons = getTypicalPersons();
+        List<Integer> loadedIndices = new ArrayList<>();
+        ReadOnlyAddressBook lazyAddressBook = createLazyAddressBook(persons, loadedIndices);
+
+        ModelManager modelManager = new ModelManager(lazyAddressBook, new UserPrefs());
+        assertEquals(persons.size(), modelManager.getFilteredPersonList().size());
+        assertEquals(BENSON, modelManager.getFilteredPersonList().get(1));
+        assertEquals(Collections.singletonList(1), loadedIndices);
+
+        modelManager.updateFilteredPersonList(new PersonContainsFieldsPredicate(
+                Collections.singletonList(new NameContainsKeywordPredicate("Alice"))));
+        assertEquals(Collections.singletonList(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.deletePerson(ALICE);
+        modelManager.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        assertEquals(persons.subList(1, persons.size()), modelManager.getFilteredPersonList());
+    }
+
+    /**
+     * Returns an address book that reads {@code persons} lazily, adding the index of each person read to
+     * {@code loadedIndices}.
+     */
+    private static ReadOnlyAddressBook createLazyAddressBook(List<ReadOnlyPerson> persons,
+                                                             List<Integer> loadedIndices) {
+        LazyPersonList lazyPersons = new LazyPersonList(persons.size(), index -> {
+            loadedIndices.add(index);
+            return new Person(persons.get(index));
+        }, persons.size());
+        return new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<ReadOnlyPerson> getPersonList() {
+                return lazyPersons;
+            }
+
+            @Override
+            public ObservableList<Tag> getTagList() {
+                return getTypicalAddressBook().getTagList();
+            }
+        };
+    }
 }
@@ -0,0 +1,85 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.TagRegistry;
+import seedu.address.model.tag.UniqueTagList;
+
+public class TagRegistryTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final TagRegistry tagRegistry = new TagRegistry();
+
+    @Test
+    public void asObservableList_modifyList_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        tagRegistry.asObservableList().remove(0);
+    }
+
+    @Test
+    public void intern_registeredTag_returnsRegisteredTagObject() throws Exception {
+        Tag friends = new Tag("friends");
+        tagRegistry.add(friends);
+
+        Tag equalTag = new Tag("friends");
+        Tag unknownTag = new Tag("colleagues");
+        assertSame(friends, tagRegistry.intern(Collections.singleton(equalTag)).iterator().next());
+        assertSame(unknownTag, tagRegistry.intern(Collections.singleton(unknownTag)).iterator().next());
+        // interning does not add tags
+        assertFalse(tagRegistry.contains(unknownTag));
+    }
+
+    @Test
+    public void unregister_lastPersonWithTag_removesTag() throws Exception {
+        tagRegistry.register(ALICE);
+        tagRegistry.register(BENSON);
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)),
+                tagRegistry.getPersonsWithTag(new Tag("friends")));
+
+        tagRegistry.unregister(BENSON);
+        assertFalse(tagRegistry.contains(new Tag("owesMoney")));
+        assertEquals(Collections.singleton(ALICE), tagRegistry.getPersonsWithTag(new Tag("friends")));
+
+        tagRegistry.unregister(ALICE);
+        assertTrue(tagRegistry.asObservableList().isEmpty());
+    }
+
+    @Test
+    public void unregister_addedTag_keepsTag() throws Exception {
+        tagRegistry.add(new Tag("friends"));
+        tagRegistry.register(ALICE);
+        tagRegistry.unregister(ALICE);
+        assertEquals(Collections.singletonList(new Tag("friends")), tagRegistry.asObservableList());
+    }
+
+    @Test
+    public void add_duplicateTag_throwsDuplicateTagException() throws Exception {
+        tagRegistry.register(ALICE);
+        thrown.expect(UniqueTagList.DuplicateTagException.class);
+        tagRegistry.add(new Tag("friends"));
+    }
+
+    @Test
+    public void getPersonsWithTagContaining_keyword_matchesIgnoringCase() {
+        tagRegistry.register(ALICE);
+        tagRegistry.register(BENSON);
+        assertEquals(Collections.singleton(BENSON), tagRegistry.getPersonsWithTagContaining("MONEY"));
+        assertEquals(new HashSet<>(Arrays.asList(ALICE, BENSON)), tagRegistry.getPersonsWithTagContaining("i"));
+        assertTrue(tagRegistry.getPersonsWithTagContaining("enemies").isEmpty());
+    }
+}
@@ -1,10 +1,28 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.model.person.LazyPersonList;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
 import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.testutil.PersonBuilder;
 
 public class UniquePersonListTest {
     @Rule
@@ -16,4 +34,103 @@ public class UniquePersonListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asObservableList().remove(0);
     }
+
+    @Test
+    public void contains_equivalentPerson_returnsTrue() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(new Person(ALICE)));
+        assertFalse(uniquePersonList.contains(BENSON));
+    }
+
+    @Test
+    public void add_duplicatePerson_throwsDuplicatePersonException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.add(new PersonBuilder(ALICE).withRemark("different remark").build());
+    }
+
+    @Test
+    public void remove_existingPerson_removesFromListAndIndex() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        uniquePersonList.remove(new Person(BENSON));
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asObservableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+
+        // removed person can be added back
+        uniquePersonList.add(BENSON);
+        assertEquals(Arrays.asList(ALICE, CARL, BENSON), uniquePersonList.asObservableList());
+    }
+
+    @Test
+    public void remove_missingPerson_throwsPersonNotFoundException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.add(ALICE);
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.remove(BENSON);
+    }
+
+    @Test
+    public void setPerson_editedPerson_replacesInPlace() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON, CARL));
+        Person editedBenson = new PersonBuilder(BENSON).withPhone("12345678").build();
+        uniquePersonList.setPerson(BENSON, editedBenson);
+        assertEquals(Arrays.asList(ALICE, editedBenson, CARL), uniquePersonList.asObservableList());
+        assertFalse(uniquePersonList.contains(BENSON));
+        assertTrue(uniquePersonList.contains(editedBenson));
+    }
+
+    @Test
+    public void setPerson_editedPersonIsDuplicate_throwsDuplicatePersonException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BENSON));
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPerson(BENSON, ALICE);
+    }
+
+    @Test
+    public void setPersons_duplicatePersons_throwsDuplicatePersonException() throws Exception {
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        thrown.expect(DuplicatePersonException.class);
+        uniquePersonList.setPersons(Arrays.asList(ALICE, new Person(ALICE)));
+    }
+
+    @Test
+    public void setPersons_lazyPersons_personsReadWhenAccessed() throws Exception {
+        List<Integer> loadedIndices = new ArrayList<>();
+        List<ReadOnlyPerson> persons = Arrays.asList(ALICE, BENSON, CARL);
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(new LazyPersonList(persons.size(), index -> {
+            loadedIndices.add(index);
+            return persons.get(index);
+        }, persons.size()));
+
+        assertTrue(uniquePersonList.isLazy());
+        assertEquals(3, uniquePersonList.asObservableList().size());
+        assertEquals(BENSON, uniquePersonList.asObservableList().get(1));
+        assertEquals(Collections.singletonList(1), loadedIndices);
+
+        // modifying the list reads all the persons first
+        thrown.expect(DuplicatePersonException.class);
+        try {
+            uniquePersonList.add(new Person(CARL));
+        } finally {
+            assertFalse(uniquePersonList.isLazy());
+            assertEquals(persons, uniquePersonList.asObservableList());
+        }
+    }
+
+    @Test
+    public void remove_lazyPersons_removesFromList() throws Exception {
+        List<ReadOnlyPerson> persons = Arrays.asList(ALICE, BENSON, CARL);
+        UniquePersonList uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(new LazyPersonList(persons.size(), persons::get, 1));
+
+        uniquePersonList.remove(BENSON);
+        assertEquals(Arrays.asList(ALICE, CARL), uniquePersonList.asObservableList());
+        assertTrue(uniquePersonList.contains(CARL));
+    }
 }
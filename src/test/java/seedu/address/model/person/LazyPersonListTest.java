@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class LazyPersonListTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final List<ReadOnlyPerson> persons = getTypicalPersons();
+    private final List<Integer> loadedIndices = new ArrayList<>();
+
+    @Test
+    public void get_personsLoadedOnlyWhenAccessed() {
+        LazyPersonList lazyPersons = new LazyPersonList(persons.size(), this::load, persons.size());
+        assertEquals(persons.size(), lazyPersons.size());
+        assertEquals(0, lazyPersons.getCachedCount());
+
+        assertEquals(persons.get(2), lazyPersons.get(2));
+        assertSame(lazyPersons.get(2), lazyPersons.get(2));
+        assertEquals(1, loadedIndices.size());
+        assertEquals(persons, lazyPersons);
+    }
+
+    @Test
+    public void get_cacheFull_leastRecentlyUsedEvicted() {
+        LazyPersonList lazyPersons = new LazyPersonList(persons.size(), this::load, 2);
+        ReadOnlyPerson first = lazyPersons.get(0);
+        lazyPersons.get(1);
+        lazyPersons.get(0);
+        lazyPersons.get(2);
+
+        assertEquals(2, lazyPersons.getCachedCount());
+        assertSame(first, lazyPersons.get(0));
+        assertEquals(3, loadedIndices.size());
+        // person 1 was evicted and is loaded again
+        lazyPersons.get(1);
+        assertEquals(4, loadedIndices.size());
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        LazyPersonList lazyPersons = new LazyPersonList(persons.size(), this::load, 2);
+        thrown.expect(IndexOutOfBoundsException.class);
+        lazyPersons.get(persons.size());
+    }
+
+    @Test
+    public void add_throwsUnsupportedOperationException() {
+        LazyPersonList lazyPersons = new LazyPersonList(persons.size(), this::load, 2);
+        thrown.expect(UnsupportedOperationException.class);
+        lazyPersons.add(persons.get(0));
+    }
+
+    /**
+     * Returns a copy of the person at {@code index}, recording that it was loaded.
+     */
+    private ReadOnlyPerson load(int index) {
+        loadedIndices.add(index);
+        return new Person(persons.get(index));
+    }
+}
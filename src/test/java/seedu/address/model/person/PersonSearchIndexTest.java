@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex(getTypicalPersons());
+
+    @Test
+    public void getCandidates_nameKeyword_returnsPersonsContainingAllGrams() {
+        PersonContainsFieldsPredicate predicate = fieldsPredicate(new NameContainsKeywordPredicate("meier"));
+        assertEquals(new HashSet<>(Arrays.asList(BENSON, DANIEL)), searchIndex.getCandidates(predicate));
+    }
+
+    @Test
+    public void getCandidates_multipleFields_intersectsCandidates() {
+        PersonContainsFieldsPredicate predicate = fieldsPredicate(new NameContainsKeywordPredicate("Meier"),
+                new TagsContainKeywordPredicate("owes"));
+        assertEquals(Collections.singleton(BENSON), searchIndex.getCandidates(predicate));
+    }
+
+    @Test
+    public void getCandidates_unknownGram_returnsEmptySet() {
+        PersonContainsFieldsPredicate predicate = fieldsPredicate(new EmailContainsKeywordPredicate("zzz"));
+        assertTrue(searchIndex.getCandidates(predicate).isEmpty());
+    }
+
+    @Test
+    public void getCandidates_keywordTooShort_returnsNull() {
+        PersonContainsFieldsPredicate predicate = fieldsPredicate(new NameContainsKeywordPredicate("al"));
+        assertNull(searchIndex.getCandidates(predicate));
+    }
+
+    @Test
+    public void getCandidates_tagSearchGiven_looksUpTagsWithTagSearch() {
+        PersonSearchIndex tagSearchIndex = new PersonSearchIndex(getTypicalPersons(), keyword ->
+                keyword.equals("ow") ? Collections.singleton(BENSON) : Collections.emptySet());
+
+        // keywords shorter than a trigram can also be looked up
+        assertEquals(Collections.singleton(BENSON),
+                tagSearchIndex.getCandidates(fieldsPredicate(new TagsContainKeywordPredicate("ow"))));
+        assertTrue(tagSearchIndex.getCandidates(fieldsPredicate(new TagsContainKeywordPredicate("owes")))
+                .isEmpty());
+    }
+
+    @Test
+    public void getCandidates_includeEveryMatch() {
+        PersonContainsFieldsPredicate predicate = fieldsPredicate(new AddressContainsKeywordPredicate("street"));
+        assertTrue(searchIndex.getCandidates(predicate).containsAll(filter(predicate)));
+
+        // not a predicate on person fields -> cannot be narrowed down
+        assertNull(searchIndex.getCandidates(person -> true));
+    }
+
+    @Test
+    public void update_editedPerson_reindexesFields() {
+        ReadOnlyPerson editedCarl = new PersonBuilder(CARL).withName("Carl Meier").build();
+        searchIndex.update(CARL, editedCarl);
+
+        PersonContainsFieldsPredicate predicate = fieldsPredicate(new NameContainsKeywordPredicate("meier"));
+        assertTrue(searchIndex.getCandidates(predicate).contains(editedCarl));
+        predicate = fieldsPredicate(new NameContainsKeywordPredicate("kurz"));
+        assertTrue(searchIndex.getCandidates(predicate).isEmpty());
+    }
+
+    @Test
+    public void remove_person_noLongerCandidate() {
+        searchIndex.remove(ALICE);
+        PersonContainsFieldsPredicate predicate = fieldsPredicate(new NameContainsKeywordPredicate("alice"));
+        assertFalse(searchIndex.getCandidates(predicate).contains(ALICE));
+    }
+
+    @SafeVarargs
+    private static PersonContainsFieldsPredicate fieldsPredicate(Predicate<ReadOnlyPerson>... predicates) {
+        return new PersonContainsFieldsPredicate(Arrays.asList(predicates));
+    }
+
+    private static List<ReadOnlyPerson> filter(Predicate<ReadOnlyPerson> predicate) {
+        return getTypicalPersons().stream().filter(predicate).collect(Collectors.toList());
+    }
+}
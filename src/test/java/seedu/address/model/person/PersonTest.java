@@ -0,0 +1,58 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.tag.Tag;
+import seedu.address.model.tag.UniqueTagList;
+
+public class PersonTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void constructor_copyOfPerson_sharesTags() {
+        assertSame(BENSON.getTags(), new Person(BENSON).getTags());
+    }
+
+    @Test
+    public void getTags_modifyTags_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        new Person(BENSON).getTags().clear();
+    }
+
+    @Test
+    public void setters_propertyCreated_updateProperty() throws Exception {
+        Person person = new Person(BENSON);
+        person.nameProperty();
+
+        person.setName(ALICE.getName());
+        person.setTags(ALICE.getTags());
+        assertEquals(ALICE.getName(), person.nameProperty().get());
+        assertEquals(ALICE.getTags(), person.tagProperty().get().toSet());
+    }
+
+    @Test
+    public void propertySet_updatesPerson() throws Exception {
+        Person person = new Person(BENSON);
+
+        person.phoneProperty().set(ALICE.getPhone());
+        person.tagProperty().set(new UniqueTagList(new HashSet<>(ALICE.getTags())));
+        assertEquals(ALICE.getPhone(), person.getPhone());
+        assertEquals(ALICE.getTags(), person.getTags());
+
+        // property changes do not affect the copied person
+        assertEquals(new Tag("owesMoney"), BENSON.getTags().stream().filter(tag -> tag.tagName.startsWith("owes"))
+                .findFirst().get());
+        assertEquals(new Person(BENSON).getPhone(), BENSON.getPhone());
+    }
+}
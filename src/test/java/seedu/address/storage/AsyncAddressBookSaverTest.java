@@ -0,0 +1,131 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.storage.AddressBookSavedEvent;
+import seedu.address.commons.events.storage.DataSavingExceptionEvent;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class AsyncAddressBookSaverTest {
+
+    // long enough that no save happens on its own during a test
+    private static final long SAVE_DELAY = 60000;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<BaseEvent> raisedEvents = new ArrayList<>();
+    private AsyncAddressBookSaver saver;
+
+    @After
+    public void tearDown() {
+        if (saver != null) {
+            saver.shutdown();
+        }
+    }
+
+    @Test
+    public void requestSave_multipleRequests_latestVersionWrittenOnce() throws Exception {
+        SaveCountingStorage storage = new SaveCountingStorage(testFolder.getRoot().getPath() + "ab.xml");
+        saver = new AsyncAddressBookSaver(storage, SAVE_DELAY, raisedEvents::add);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.requestSave(addressBook);
+        addressBook.removePerson(ALICE);
+        saver.requestSave(addressBook);
+        saver.flush();
+
+        assertEquals(1, storage.saveCount);
+        assertEquals(addressBook, new AddressBook(storage.readAddressBook().get()));
+        assertEquals(1, raisedEvents.size());
+        assertTrue(raisedEvents.get(0) instanceof AddressBookSavedEvent);
+    }
+
+    @Test
+    public void requestSave_addressBookModifiedAfterRequest_requestedVersionWritten() throws Exception {
+        SaveCountingStorage storage = new SaveCountingStorage(testFolder.getRoot().getPath() + "ab.xml");
+        saver = new AsyncAddressBookSaver(storage, SAVE_DELAY, raisedEvents::add);
+
+        AddressBook addressBook = getTypicalAddressBook();
+        saver.requestSave(addressBook);
+        addressBook.removePerson(ALICE);
+        saver.flush();
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void requestSave_snapshot_writtenWithoutCopying() throws Exception {
+        List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+        saver = new AsyncAddressBookSaver(new XmlAddressBookStorage("dummy") {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) {
+                savedAddressBooks.add(addressBook);
+            }
+        }, SAVE_DELAY, raisedEvents::add);
+
+        AddressBookSnapshot snapshot = new AddressBookSnapshot(getTypicalAddressBook());
+        saver.requestSave(snapshot);
+        saver.flush();
+        assertEquals(1, savedAddressBooks.size());
+        assertSame(snapshot, savedAddressBooks.get(0));
+    }
+
+    @Test
+    public void flush_noPendingSave_nothingWritten() {
+        SaveCountingStorage storage = new SaveCountingStorage(testFolder.getRoot().getPath() + "ab.xml");
+        saver = new AsyncAddressBookSaver(storage, SAVE_DELAY, raisedEvents::add);
+
+        saver.flush();
+        assertEquals(0, storage.saveCount);
+        assertTrue(raisedEvents.isEmpty());
+    }
+
+    @Test
+    public void flush_saveFails_dataSavingExceptionEventRaised() {
+        saver = new AsyncAddressBookSaver(new XmlAddressBookStorage("dummy") {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+                throw new IOException("dummy exception");
+            }
+        }, SAVE_DELAY, raisedEvents::add);
+
+        saver.requestSave(new AddressBook());
+        saver.flush();
+        assertEquals(1, raisedEvents.size());
+        assertTrue(raisedEvents.get(0) instanceof DataSavingExceptionEvent);
+    }
+
+    /**
+     * A storage that counts the number of times the address book is saved.
+     */
+    private static class SaveCountingStorage extends XmlAddressBookStorage {
+        private int saveCount;
+
+        SaveCountingStorage(String filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, String filePath) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook, filePath);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import javax.imageio.ImageIO;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class AvatarServiceTest {
+
+    private static final File TEST_PNG = new File("src/test/data/images/avatars/test.png");
+    private static final File TEST_JPG = new File("src/test/data/images/avatars/test.jpg");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private File avatarDirectory;
+    private File thumbnailDirectory;
+    private AvatarService avatarService;
+
+    @Before
+    public void setUp() throws Exception {
+        avatarDirectory = testFolder.newFolder("avatars");
+        thumbnailDirectory = new File(avatarDirectory, "thumbnails");
+        avatarService = new AvatarService(avatarDirectory, thumbnailDirectory, Runnable::run);
+    }
+
+    @Test
+    public void createThumbnail_largeImage_downscaledKeepingAspectRatio() throws Exception {
+        // test.png is 600 by 400 pixels
+        BufferedImage thumbnail = decode(AvatarService.createThumbnail(TEST_PNG, 150));
+        assertEquals(150, thumbnail.getWidth());
+        assertEquals(100, thumbnail.getHeight());
+
+        assertEquals(150, decode(AvatarService.createThumbnail(TEST_JPG, 150)).getWidth());
+    }
+
+    @Test
+    public void createThumbnail_smallImage_sizeKept() throws Exception {
+        BufferedImage thumbnail = decode(AvatarService.createThumbnail(TEST_PNG, 1000));
+        assertEquals(600, thumbnail.getWidth());
+        assertEquals(400, thumbnail.getHeight());
+    }
+
+    @Test
+    public void getThumbnail_firstLoad_thumbnailPersisted() throws Exception {
+        copyAvatar(TEST_PNG, "avatar.png");
+
+        byte[] thumbnail = avatarService.getThumbnail("avatar.png");
+        File thumbnailFile = new File(thumbnailDirectory, "avatar.png.png");
+        assertTrue(thumbnailFile.isFile());
+        assertArrayEquals(thumbnail, Files.readAllBytes(thumbnailFile.toPath()));
+    }
+
+    @Test
+    public void getThumbnail_thumbnailPersisted_thumbnailReused() throws Exception {
+        copyAvatar(TEST_PNG, "avatar.png");
+        avatarService.getThumbnail("avatar.png");
+
+        // the persisted thumbnail is read instead of downscaling the avatar again
+        File thumbnailFile = new File(thumbnailDirectory, "avatar.png.png");
+        byte[] marker = {1, 2, 3};
+        Files.write(thumbnailFile.toPath(), marker);
+        thumbnailFile.setLastModified(new File(avatarDirectory, "avatar.png").lastModified());
+        assertArrayEquals(marker, avatarService.getThumbnail("avatar.png"));
+    }
+
+    @Test
+    public void getThumbnail_avatarNewerThanThumbnail_thumbnailRegenerated() throws Exception {
+        File avatarFile = copyAvatar(TEST_PNG, "avatar.png");
+        byte[] thumbnail = avatarService.getThumbnail("avatar.png");
+
+        File thumbnailFile = new File(thumbnailDirectory, "avatar.png.png");
+        Files.write(thumbnailFile.toPath(), new byte[] {1, 2, 3});
+        thumbnailFile.setLastModified(avatarFile.lastModified() - 10000);
+        assertArrayEquals(thumbnail, avatarService.getThumbnail("avatar.png"));
+    }
+
+    @Test
+    public void getThumbnail_missingAvatar_throwsIoException() throws Exception {
+        thrown.expect(IOException.class);
+        avatarService.getThumbnail("doesNotExist.png");
+    }
+
+    /**
+     * Copies {@code source} into the avatar directory as {@code imageName}.
+     */
+    private File copyAvatar(File source, String imageName) throws IOException {
+        File avatarFile = new File(avatarDirectory, imageName);
+        Files.copy(source.toPath(), avatarFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        return avatarFile;
+    }
+
+    private static BufferedImage decode(byte[] image) throws IOException {
+        return ImageIO.read(new ByteArrayInputStream(image));
+    }
+}
@@ -0,0 +1,269 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.LazyPersonList;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().getPath() + File.separator + "addressbook.bin";
+    }
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() throws Exception {
+        thrown.expect(NullPointerException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook(null);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_lazyLoading_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = new BinaryAddressBookStorage(filePath, 0, true).readAddressBook().get();
+        assertTrue(readBack.getPersonList() instanceof LazyPersonList);
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void saveAddressBook_lazilyLoadedFromSameFile_fileReplaced() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, 1, true);
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+
+        // saved while none of its persons have been read yet
+        storage.saveAddressBook(readBack);
+        AddressBook edited = new AddressBook(readBack);
+        edited.addPerson(HOON);
+        storage.saveAddressBook(edited);
+
+        assertEquals(original.getPersonList(), readBack.getPersonList());
+        assertEquals(edited, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_fieldsLongerThan64Kilobytes_success() throws Exception {
+        // two bytes per character in UTF-8
+        String longValue = new String(new char[40000]).replace('\0', 'é');
+        String longTagName = new String(new char[70000]).replace('\0', 'a');
+        AddressBook original = getTypicalAddressBook();
+        original.addPerson(new PersonBuilder(HOON).withAddress(longValue).withRemark(longValue)
+                .withTags(longTagName).build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(original, new AddressBook(
+                new BinaryAddressBookStorage(filePath, 0, true).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_recordTooLong_fileUnchanged() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, 1, false);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        // longer than the longest record that is read back
+        String tooLongRemark = new String(new char[600000]).replace('\0', 'é');
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(new PersonBuilder(HOON).withRemark(tooLongRemark).build());
+
+        try {
+            storage.saveAddressBook(edited);
+            fail("Saving should fail");
+        } catch (IOException ioe) {
+            assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+            assertFalse(AtomicFileUtil.getBackupFile(new File(filePath), 1).exists());
+            assertEquals(1, testFolder.getRoot().list().length);
+        }
+    }
+
+    @Test
+    public void readAddressBook_lazyLoadingCorrupted_exceptionThrown() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        corruptFile(new File(filePath));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath, 0, true).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_exceptionThrown() throws Exception {
+        try (FileOutputStream out = new FileOutputStream(filePath)) {
+            out.write("<addressbook/>".getBytes());
+        }
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_corruptedWithoutBackup_exceptionThrown() throws Exception {
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        corruptFile(new File(filePath));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryAddressBookStorage(filePath).readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_corruptedWithBackup_backupUsed() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        storage.saveAddressBook(edited);
+        corruptFile(new File(filePath));
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_xmlToBinaryAndBack_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        XmlAddressBookStorage xmlStorage = new XmlAddressBookStorage(
+                testFolder.getRoot().getPath() + File.separator + "addressbook.xml");
+        xmlStorage.saveAddressBook(original);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+
+        assertTrue(AddressBookStorageConverter.convert(xmlStorage, binaryStorage));
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+
+        XmlAddressBookStorage exportedStorage = new XmlAddressBookStorage(
+                testFolder.getRoot().getPath() + File.separator + "exported.xml");
+        assertTrue(AddressBookStorageConverter.convert(binaryStorage, exportedStorage));
+        assertEquals(original, new AddressBook(exportedStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void convert_missingSource_nothingWritten() throws Exception {
+        XmlAddressBookStorage xmlStorage = new XmlAddressBookStorage(
+                testFolder.getRoot().getPath() + File.separator + "missing.xml");
+
+        assertFalse(AddressBookStorageConverter.convert(xmlStorage, new BinaryAddressBookStorage(filePath)));
+        assertFalse(new File(filePath).exists());
+    }
+
+    @Test
+    public void importIfNewer_sourceModifiedAfterTarget_imported() throws Exception {
+        XmlAddressBookStorage xmlStorage = new XmlAddressBookStorage(
+                testFolder.getRoot().getPath() + File.separator + "addressbook.xml");
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+        binaryStorage.saveAddressBook(getTypicalAddressBook());
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        xmlStorage.saveAddressBook(edited);
+        setLastModified(filePath, 1000);
+        setLastModified(xmlStorage.getAddressBookFilePath(), 2000);
+
+        AddressBookStorageConverter.importIfNewer(xmlStorage, binaryStorage);
+        assertEquals(edited, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void importIfNewer_sourceModifiedBeforeTarget_notImported() throws Exception {
+        XmlAddressBookStorage xmlStorage = new XmlAddressBookStorage(
+                testFolder.getRoot().getPath() + File.separator + "addressbook.xml");
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+        AddressBook original = getTypicalAddressBook();
+        binaryStorage.saveAddressBook(original);
+        AddressBook edited = getTypicalAddressBook();
+        edited.addPerson(HOON);
+        xmlStorage.saveAddressBook(edited);
+        setLastModified(xmlStorage.getAddressBookFilePath(), 1000);
+        setLastModified(filePath, 2000);
+
+        AddressBookStorageConverter.importIfNewer(xmlStorage, binaryStorage);
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void importIfNewer_missingTarget_imported() throws Exception {
+        XmlAddressBookStorage xmlStorage = new XmlAddressBookStorage(
+                testFolder.getRoot().getPath() + File.separator + "addressbook.xml");
+        AddressBook original = getTypicalAddressBook();
+        xmlStorage.saveAddressBook(original);
+        BinaryAddressBookStorage binaryStorage = new BinaryAddressBookStorage(filePath);
+
+        AddressBookStorageConverter.importIfNewer(xmlStorage, binaryStorage);
+        assertEquals(original, new AddressBook(binaryStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void toBinaryFilePath() {
+        assertEquals("data" + File.separator + "addressbook.bin",
+                BinaryAddressBookStorage.toBinaryFilePath("data" + File.separator + "addressbook.xml"));
+        assertEquals("addressbook.bin", BinaryAddressBookStorage.toBinaryFilePath("addressbook"));
+        assertEquals("data.dir" + File.separator + "addressbook.bin",
+                BinaryAddressBookStorage.toBinaryFilePath("data.dir" + File.separator + "addressbook"));
+    }
+
+    /**
+     * Sets the last-modified time of the file at {@code path} to {@code seconds} after the epoch.
+     */
+    private void setLastModified(String path, long seconds) {
+        assertTrue(new File(path).setLastModified(seconds * 1000));
+    }
+
+    /**
+     * Flips a byte in the middle of {@code file}.
+     */
+    private void corruptFile(File file) throws Exception {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "rw")) {
+            long position = raf.length() / 2;
+            raf.seek(position);
+            int value = raf.read();
+            raf.seek(position);
+            raf.write(value ^ 0xff);
+        }
+    }
+}
@@ -1,15 +1,26 @@
 package seedu.address.storage;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import javax.imageio.ImageIO;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 
 import guitests.AddressBookGuiTest;
 import javafx.scene.image.Image;
@@ -20,24 +31,33 @@ public class ImageStorageTest extends AddressBookGuiTest {
 
     private static final String PNG_STUB = "png";
     private static final String JPG_STUB = "jpg";
+    private static final String TEST_PNG_PATH = "src/test/data/images/avatars/test.png";
+    private static final String TEST_JPG_PATH = "src/test/data/images/avatars/test.jpg";
+    private static final String REFERENCED_NAME = new String(new char[64]).replace('\0', 'a') + ".png";
+    private static final String UNREFERENCED_NAME = new String(new char[64]).replace('\0', 'b') + ".jpg";
 
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private File avatarDirectory;
 
     @Before
-    public void createTestPng() {
-        assert ImageStorage.saveAvatar("src/test/data/images/avatars/test.png", "test.png");
-        assert ImageStorage.saveAvatar("src/test/data/images/avatars/test.jpg", "test.jpg");
+    public void createTestPng() throws Exception {
+        avatarDirectory = testFolder.newFolder("saved");
+        assert ImageStorage.saveAvatar(avatarDirectory, "src/test/data/images/avatars/test.png", "test.png");
+        assert ImageStorage.saveAvatar(avatarDirectory, "src/test/data/images/avatars/test.jpg", "test.jpg");
     }
 
 
     @Test
     public void getAvatarTest() throws FileNotFoundException {
 
-        Image image1 = ImageStorage.getAvatar("test.png");
+        Image image1 = ImageStorage.getAvatar(avatarDirectory, "test.png");
         Image image2 = new Image(new FileInputStream(new File("src/test/data/images/avatars/test.png")));
 
         assertImageAreEqual(image1, image2);
 
-        Image image3 = ImageStorage.getAvatar("doestNotExist.png");
+        Image image3 = ImageStorage.getAvatar(avatarDirectory, "doestNotExist.png");
         Image image4 = AppUtil.getImage("/images/avatars/default.png");
 
         assertImageAreEqual(image3, image4);
@@ -45,8 +65,8 @@ public class ImageStorageTest extends AddressBookGuiTest {
 
     @Test
     public void saveAvatarTest() {
-        assertFalse(ImageStorage.saveAvatar("does_not_exist_file_path", "fakeimage"));
-        assertFalse(ImageStorage.saveAvatar("does_not_exist_file_path.png", "fakeimage"));
+        assertFalse(ImageStorage.saveAvatar(avatarDirectory, "does_not_exist_file_path", "fakeimage"));
+        assertFalse(ImageStorage.saveAvatar(avatarDirectory, "does_not_exist_file_path.png", "fakeimage"));
     }
 
     @Test
@@ -95,6 +115,91 @@ public class ImageStorageTest extends AddressBookGuiTest {
         assertEquals(PNG_STUB, ImageStorage.getFormat("fake"));
     }
 
+    @Test
+    public void getContentAddressedName_sameContents_sameName() throws Exception {
+        File copy = testFolder.newFile("copy.png");
+        Files.copy(new File(TEST_PNG_PATH).toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        String name = ImageStorage.getContentAddressedName(TEST_PNG_PATH);
+        assertTrue(name.endsWith("." + PNG_STUB));
+        assertEquals(name, ImageStorage.getContentAddressedName(copy.getPath()));
+
+        // different contents
+        assertNotEquals(name.replaceFirst("\\..*", ""),
+                ImageStorage.getContentAddressedName(TEST_JPG_PATH).replaceFirst("\\..*", ""));
+    }
+
+    @Test
+    public void saveAvatar_sameFormat_savedWithoutConversion() throws Exception {
+        String name = ImageStorage.getContentAddressedName(TEST_JPG_PATH);
+        File savedFile = new File(avatarDirectory, name);
+
+        assertTrue(ImageStorage.saveAvatar(avatarDirectory, TEST_JPG_PATH, name));
+        assertArrayEquals(Files.readAllBytes(new File(TEST_JPG_PATH).toPath()), Files.readAllBytes(savedFile.toPath()));
+
+        // the same image is not written again
+        long lastModified = savedFile.lastModified() - 10000;
+        savedFile.setLastModified(lastModified);
+        assertTrue(ImageStorage.saveAvatar(avatarDirectory, TEST_JPG_PATH, name));
+        assertEquals(lastModified, savedFile.lastModified());
+    }
+
+    @Test
+    public void saveAvatar_differentFormat_converted() throws Exception {
+        String name = "converted.png";
+        File savedFile = new File(avatarDirectory, name);
+
+        assertTrue(ImageStorage.saveAvatar(avatarDirectory, TEST_JPG_PATH, name));
+        assertEquals(PNG_STUB, ImageIO.getImageReaders(ImageIO.createImageInputStream(savedFile)).next()
+                .getFormatName().toLowerCase());
+    }
+
+    @Test
+    public void removeUnreferencedAvatars() throws Exception {
+        File avatarDirectory = testFolder.newFolder("avatars");
+        File thumbnailDirectory = new File(avatarDirectory, "thumbnails");
+        assertTrue(thumbnailDirectory.mkdir());
+        File referenced = createFile(avatarDirectory, REFERENCED_NAME);
+        File unreferenced = createFile(avatarDirectory, UNREFERENCED_NAME);
+        File notContentAddressed = createFile(avatarDirectory, "unreferenced.png");
+        File otherFile = createFile(avatarDirectory, "notes.txt");
+        File referencedThumbnail = createFile(thumbnailDirectory, REFERENCED_NAME + ".png");
+        File unreferencedThumbnail = createFile(thumbnailDirectory, UNREFERENCED_NAME + ".png");
+
+        assertEquals(1, ImageStorage.removeUnreferencedAvatars(avatarDirectory, thumbnailDirectory,
+                Collections.singleton(REFERENCED_NAME)));
+        assertTrue(referenced.exists());
+        assertFalse(unreferenced.exists());
+        assertTrue(notContentAddressed.exists());
+        assertTrue(otherFile.exists());
+        assertTrue(referencedThumbnail.exists());
+        assertFalse(unreferencedThumbnail.exists());
+    }
+
+    @Test
+    public void findAvatarNamesIn_dataFilesAndBackups_namesFound() throws Exception {
+        File dataDirectory = testFolder.newFolder("data");
+        String xmlContents = "<avatar>" + REFERENCED_NAME + "</avatar>";
+        String binaryContents = "\0\0\0" + UNREFERENCED_NAME + "\0";
+        Files.write(new File(dataDirectory, "addressbook.xml").toPath(), xmlContents.getBytes(StandardCharsets.UTF_8));
+        Files.write(new File(dataDirectory, "addressbook.bin.bak1").toPath(),
+                binaryContents.getBytes(StandardCharsets.UTF_8));
+        createFile(dataDirectory, "empty.txt");
+
+        assertEquals(new HashSet<>(Arrays.asList(REFERENCED_NAME, UNREFERENCED_NAME)),
+                ImageStorage.findAvatarNamesIn(dataDirectory));
+        assertTrue(ImageStorage.findAvatarNamesIn(new File(dataDirectory, "missing")).isEmpty());
+    }
+
+    /**
+     * Creates an empty file named {@code name} in {@code directory}.
+     */
+    private static File createFile(File directory, String name) throws Exception {
+        File file = new File(directory, name);
+        assertTrue(file.createNewFile());
+        return file;
+    }
+
     /**
      * asserts that both image are equal by checking at each rendered pixel
      */
@@ -0,0 +1,178 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assume.assumeTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChange;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final int COMPACTION_THRESHOLD = 3;
+    private static final File OPEN_FILES_DIRECTORY = new File("/proc/self/fd");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private String filePath;
+    private JournaledAddressBookStorage storage;
+    private AddressBook addressBook;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = testFolder.getRoot().getPath() + File.separator + "addressbook.xml";
+        storage = new JournaledAddressBookStorage(filePath, COMPACTION_THRESHOLD);
+        addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+    }
+
+    @Test
+    public void saveAddressBookChange_changesAppended_replayedOnRead() throws Exception {
+        long snapshotLength = new File(filePath).length();
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withPhone("11111111").build();
+
+        saveChange(AddressBookChange.add(0, HOON));
+        saveChange(AddressBookChange.update(BENSON, editedBenson));
+        saveChange(AddressBookChange.delete(ALICE));
+
+        // only the journal was written to
+        assertEquals(snapshotLength, new File(filePath).length());
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBookChange_fieldLongerThan64Kilobytes_replayedOnRead() throws Exception {
+        // two bytes per character in UTF-8
+        String longAddress = new String(new char[40000]).replace('\0', 'é');
+        ReadOnlyPerson editedBenson = new PersonBuilder(BENSON).withAddress(longAddress)
+                .withRemark(longAddress).build();
+
+        saveChange(AddressBookChange.update(BENSON, editedBenson));
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBookChange_thresholdReached_journalCompacted() throws Exception {
+        saveChange(AddressBookChange.delete(ALICE));
+        saveChange(AddressBookChange.delete(BENSON));
+        saveChange(AddressBookChange.add(0, HOON));
+        long journalLength = journalFile().length();
+
+        saveChange(AddressBookChange.add(1, IDA));
+        assertTrue(journalFile().length() < journalLength);
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void saveAddressBookChange_reset_snapshotWritten() throws Exception {
+        saveChange(AddressBookChange.delete(ALICE));
+        addressBook.resetData(new AddressBook());
+        storage.saveAddressBookChange(addressBook, AddressBookChange.reset());
+
+        assertEquals(addressBook, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordDropped() throws Exception {
+        saveChange(AddressBookChange.delete(ALICE));
+        try (FileOutputStream out = new FileOutputStream(journalFile(), true)) {
+            out.write(new byte[] {0, 0, 1, 0, 7});
+        }
+
+        assertEquals(addressBook, readBack());
+        // changes can still be appended after the dropped record
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(filePath, COMPACTION_THRESHOLD);
+        reopenedStorage.readAddressBook();
+        addressBook.removePerson(BENSON);
+        reopenedStorage.saveAddressBookChange(addressBook, AddressBookChange.delete(BENSON));
+        assertEquals(addressBook, readBack());
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedWithoutJournal_journalIgnored() throws Exception {
+        saveChange(AddressBookChange.delete(ALICE));
+        AddressBook replacement = getTypicalAddressBook();
+        replacement.addPerson(HOON);
+        new XmlAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, readBack());
+    }
+
+    @Test
+    public void readAddressBook_journalReplayed_journalOnlyOpenedToAppend() throws Exception {
+        // the open files of the process are only listed on some platforms
+        assumeTrue(OPEN_FILES_DIRECTORY.isDirectory());
+        saveChange(AddressBookChange.delete(ALICE));
+        storage.close();
+
+        JournaledAddressBookStorage reopenedStorage = new JournaledAddressBookStorage(filePath, COMPACTION_THRESHOLD);
+        reopenedStorage.readAddressBook();
+        assertFalse(isOpenInThisProcess(journalFile()));
+
+        addressBook.removePerson(BENSON);
+        reopenedStorage.saveAddressBookChange(addressBook, AddressBookChange.delete(BENSON));
+        assertTrue(isOpenInThisProcess(journalFile()));
+
+        reopenedStorage.close();
+        assertFalse(isOpenInThisProcess(journalFile()));
+        assertEquals(addressBook, readBack());
+    }
+
+    /**
+     * Returns true if {@code file} is open in this process.
+     */
+    private static boolean isOpenInThisProcess(File file) throws IOException {
+        Path path = file.toPath().toRealPath();
+        for (File openFile : OPEN_FILES_DIRECTORY.listFiles()) {
+            try {
+                if (Files.readSymbolicLink(openFile.toPath()).equals(path)) {
+                    return true;
+                }
+            } catch (IOException ioe) {
+                // closed while listing the open files
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Makes {@code change} to {@code addressBook} and saves it to {@code storage}.
+     */
+    private void saveChange(AddressBookChange change) throws Exception {
+        change.applyTo(addressBook);
+        storage.saveAddressBookChange(addressBook, change);
+    }
+
+    /**
+     * Reads the address book back using a new storage.
+     */
+    private AddressBook readBack() throws Exception {
+        return new AddressBook(new JournaledAddressBookStorage(filePath, COMPACTION_THRESHOLD)
+                .readAddressBook().get());
+    }
+
+    private File journalFile() {
+        return new File(filePath + JournaledAddressBookStorage.JOURNAL_FILE_SUFFIX);
+    }
+}
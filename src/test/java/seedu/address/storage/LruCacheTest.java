@@ -0,0 +1,53 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.Test;
+
+public class LruCacheTest {
+
+    private final LruCache<String, String> cache = new LruCache<>(10, value -> value.length());
+
+    @Test
+    public void put_budgetExceeded_leastRecentlyUsedEvicted() {
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbb");
+        // "a" is now more recently used than "b"
+        assertEquals("aaaa", cache.get("a"));
+
+        cache.put("c", "cccc");
+        assertNull(cache.get("b"));
+        assertEquals("aaaa", cache.get("a"));
+        assertEquals("cccc", cache.get("c"));
+        assertEquals(8, cache.getTotalBytes());
+    }
+
+    @Test
+    public void put_existingKey_sizeReplaced() {
+        cache.put("a", "aaaa");
+        cache.put("a", "aa");
+
+        assertEquals(1, cache.size());
+        assertEquals(2, cache.getTotalBytes());
+    }
+
+    @Test
+    public void put_valueLargerThanBudget_notCached() {
+        cache.put("a", "aaaa");
+        cache.put("b", "bbbbbbbbbbb");
+
+        assertNull(cache.get("b"));
+        assertEquals("aaaa", cache.get("a"));
+    }
+
+    @Test
+    public void remove_cachedValue_sizeReleased() {
+        cache.put("a", "aaaa");
+        cache.remove("a");
+        cache.remove("doesNotExist");
+
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.getTotalBytes());
+    }
+}
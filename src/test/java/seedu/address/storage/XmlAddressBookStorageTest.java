@@ -2,23 +2,29 @@ package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.fail;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.File;
 import java.io.IOException;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.junit.rules.TemporaryFolder;
 
+import javafx.collections.ObservableList;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.ReadOnlyPerson;
+import seedu.address.model.tag.Tag;
 
 public class XmlAddressBookStorageTest {
     private static final String TEST_DATA_FOLDER = FileUtil.getPath("./src/test/data/XmlAddressBookStorageTest/");
@@ -61,6 +67,19 @@ public class XmlAddressBookStorageTest {
          */
     }
 
+    @Test
+    public void read_invalidPerson_exceptionThrown() throws Exception {
+        thrown.expect(DataConversionException.class);
+        readAddressBook("InvalidPersonAddressBook.xml");
+    }
+
+    @Test
+    public void read_unknownElement_elementIgnored() throws Exception {
+        ReadOnlyAddressBook readBack = readAddressBook("UnknownElementAddressBook.xml").get();
+        assertEquals(1, readBack.getPersonList().size());
+        assertEquals(Collections.singletonList(new Tag("friends")), readBack.getTagList());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
@@ -87,6 +106,96 @@ public class XmlAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_backupsKept_backupsRotated() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        File file = new File(filePath);
+        XmlAddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath, 2);
+
+        AddressBook original = getTypicalAddressBook();
+        xmlAddressBookStorage.saveAddressBook(original);
+        original.addPerson(new Person(HOON));
+        xmlAddressBookStorage.saveAddressBook(original);
+        AddressBook secondVersion = new AddressBook(original);
+        original.addPerson(new Person(IDA));
+        xmlAddressBookStorage.saveAddressBook(original);
+
+        assertEquals(secondVersion, readFile(AtomicFileUtil.getBackupFile(file, 1)));
+        assertEquals(getTypicalAddressBook(), readFile(AtomicFileUtil.getBackupFile(file, 2)));
+        assertFalse(AtomicFileUtil.getBackupFile(file, 3).exists());
+        assertFalse(new File(filePath + ".tmp").exists());
+    }
+
+    @Test
+    public void saveAddressBook_writingFails_fileAndBackupsUnchanged() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        File file = new File(filePath);
+        XmlAddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        xmlAddressBookStorage.saveAddressBook(original);
+
+        // fails after the persons have been written
+        ReadOnlyAddressBook failingAddressBook = new ReadOnlyAddressBook() {
+            @Override
+            public ObservableList<ReadOnlyPerson> getPersonList() {
+                return original.getPersonList();
+            }
+
+            @Override
+            public ObservableList<Tag> getTagList() {
+                throw new IllegalStateException();
+            }
+        };
+        try {
+            xmlAddressBookStorage.saveAddressBook(failingAddressBook);
+            fail("Saving should have failed");
+        } catch (IllegalStateException ise) {
+            // expected
+        }
+
+        assertEquals(original, readFile(file));
+        assertFalse(AtomicFileUtil.getBackupFile(file, 1).exists());
+        assertFalse(AtomicFileUtil.getTempFile(file).exists());
+    }
+
+    @Test
+    public void readAddressBook_checksumMismatch_backupUsed() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        XmlAddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath, 1);
+        AddressBook original = getTypicalAddressBook();
+        xmlAddressBookStorage.saveAddressBook(original);
+        AddressBook modified = getTypicalAddressBook();
+        modified.addPerson(new Person(HOON));
+        xmlAddressBookStorage.saveAddressBook(modified);
+
+        // still well-formed, but no longer matches the checksum
+        corrupt(filePath);
+        assertEquals(original, new AddressBook(xmlAddressBookStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_checksumMismatchWithoutBackup_exceptionThrown() throws Exception {
+        String filePath = testFolder.getRoot().getPath() + "TempAddressBook.xml";
+        XmlAddressBookStorage xmlAddressBookStorage = new XmlAddressBookStorage(filePath);
+        xmlAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        corrupt(filePath);
+
+        thrown.expect(DataConversionException.class);
+        xmlAddressBookStorage.readAddressBook();
+    }
+
+    private AddressBook readFile(File file) throws Exception {
+        return new AddressBook(XmlFileStorage.loadDataFromSaveFile(file));
+    }
+
+    /**
+     * Changes the name of Alice in the file at {@code filePath}.
+     */
+    private void corrupt(String filePath) throws IOException {
+        File file = new File(filePath);
+        FileUtil.writeToFile(file, FileUtil.readFromFile(file).replace("Alice", "Alicf"));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
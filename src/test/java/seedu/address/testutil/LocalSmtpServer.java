@@ -0,0 +1,130 @@
+package seedu.address.testutil;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A minimal SMTP server on the loopback interface that accepts every email without authentication,
+ * for testing code that sends emails.
+ */
+public class LocalSmtpServer implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private final List<String> recipients = new CopyOnWriteArrayList<>();
+
+    /**
+     * Starts the server on a free port.
+     */
+    public LocalSmtpServer() throws IOException {
+        serverSocket = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        Thread acceptor = new Thread(this::acceptUntilClosed, "Local SMTP server");
+        acceptor.setDaemon(true);
+        acceptor.start();
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    /**
+     * Returns the number of connections made to the server so far.
+     */
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * Returns the recipients of the emails accepted so far, in the order they were accepted.
+     */
+    public List<String> getRecipients() {
+        return recipients;
+    }
+
+    /**
+     * Rejects the next {@code count} emails with a temporary failure.
+     */
+    public void failNext(int count) {
+        failuresLeft.set(count);
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+    }
+
+    /**
+     * Accepts connections until the server is closed, responding to each on its own thread.
+     */
+    private void acceptUntilClosed() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                connectionCount.incrementAndGet();
+                Thread handler = new Thread(() -> handle(socket), "Local SMTP connection");
+                handler.setDaemon(true);
+                handler.start();
+            } catch (IOException ioe) {
+                // the server is closed
+            }
+        }
+    }
+
+    /**
+     * Responds to the commands sent on {@code socket} until the client quits.
+     */
+    private void handle(Socket socket) {
+        try (Socket client = socket;
+             BufferedReader in = new BufferedReader(
+                     new InputStreamReader(client.getInputStream(), StandardCharsets.US_ASCII));
+             PrintWriter out = new PrintWriter(client.getOutputStream(), true)) {
+            reply(out, "220 localhost ESMTP");
+            String recipient = null;
+            String line;
+            while ((line = in.readLine()) != null) {
+                String command = line.toUpperCase();
+                if (command.startsWith("EHLO")) {
+                    reply(out, "250-localhost");
+                    reply(out, "250 8BITMIME");
+                } else if (command.startsWith("RCPT TO:")) {
+                    recipient = line.substring(line.indexOf('<') + 1, line.indexOf('>'));
+                    reply(out, "250 OK");
+                } else if (command.equals("DATA")) {
+                    reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                    while ((line = in.readLine()) != null && !line.equals(".")) {
+                        // the content of the email is not kept
+                    }
+                    if (failuresLeft.getAndDecrement() > 0) {
+                        reply(out, "451 Try again later");
+                    } else {
+                        recipients.add(recipient);
+                        reply(out, "250 OK");
+                    }
+                } else if (command.equals("QUIT")) {
+                    reply(out, "221 Bye");
+                    return;
+                } else {
+                    // HELO, MAIL FROM, RSET and NOOP
+                    reply(out, "250 OK");
+                }
+            }
+        } catch (IOException ioe) {
+            // the client disconnected
+        }
+    }
+
+    private static void reply(PrintWriter out, String response) {
+        out.print(response + "\r\n");
+        out.flush();
+    }
+}
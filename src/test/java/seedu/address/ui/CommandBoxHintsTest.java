@@ -12,6 +12,7 @@ import guitests.guihandles.CommandBoxHintsHandle;
 import javafx.scene.control.TextField;
 import seedu.address.commons.events.ui.CommandInputChangedEvent;
 import seedu.address.commons.util.TextUtil;
+import seedu.address.logic.parser.HintParser;
 
 //@@author nicholaschuayunzhi
 public class CommandBoxHintsTest extends GuiUnitTest {
@@ -29,17 +30,10 @@ public class CommandBoxHintsTest extends GuiUnitTest {
 
     @Test
     public void display() {
-        postNow(new CommandInputChangedEvent("add"));
-        assertEquals(" n/name", commandBoxHintsHandle.getText());
-
-        postNow(new CommandInputChangedEvent("add "));
-        assertEquals("n/name", commandBoxHintsHandle.getText());
-
-        postNow(new CommandInputChangedEvent("add n"));
-        assertEquals("/name", commandBoxHintsHandle.getText());
-
-        postNow(new CommandInputChangedEvent("add n/"));
-        assertEquals("name", commandBoxHintsHandle.getText());
+        assertHintShown("add", " n/name");
+        assertHintShown("add ", "n/name");
+        assertHintShown("add n", "/name");
+        assertHintShown("add n/", "name");
 
         postNow(new CommandInputChangedEvent(""));
         assertEquals("Enter Command Here", commandBoxHintsHandle.getText());
@@ -47,14 +41,14 @@ public class CommandBoxHintsTest extends GuiUnitTest {
 
     @Test
     public void set_prefWidth() {
-        postNow(new CommandInputChangedEvent("add"));
+        assertHintShown("add", HintParser.generateHint("add"));
         String hint = commandBoxHintsHandle.getText();
         TextField textField = commandBoxHintsHandle.getTextField();
         double width = TextUtil.computeTextWidth(textField.getFont(), hint, 0.0D) + 1;
 
         assertEquals(width, textField.getPrefWidth(), 0);
 
-        postNow(new CommandInputChangedEvent("select"));
+        assertHintShown("select", HintParser.generateHint("select"));
         String hint2 = commandBoxHintsHandle.getText();
         TextField textField2 = commandBoxHintsHandle.getTextField();
         double width2 = TextUtil.computeTextWidth(textField.getFont(), hint2, 0.0D) + 1;
@@ -70,6 +64,16 @@ public class CommandBoxHintsTest extends GuiUnitTest {
         assertEquals(4, commandTextField.getCaretPosition());
     }
 
+    /**
+     * Posts a change of the command input to {@code input}, then verifies that {@code expectedHint} is shown
+     * once it has been generated in the background.
+     */
+    private void assertHintShown(String input, String expectedHint) {
+        postNow(new CommandInputChangedEvent(input));
+        guiRobot.waitForEvent(() -> expectedHint.equals(commandBoxHintsHandle.getText()));
+        assertEquals(expectedHint, commandBoxHintsHandle.getText());
+    }
+
     /**
      * set {@code input} on commandTextField, posts change event and calls handleOnClick of commandBoxHints
      */
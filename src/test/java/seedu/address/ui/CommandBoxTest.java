@@ -143,6 +143,8 @@ public class CommandBoxTest extends GuiUnitTest {
      */
     private void assertBehaviorForInvalidCommand() {
         commandBoxHandle.type(COMMAND_THAT_FAILS);
+        // the input is validated in the background
+        guiRobot.waitForEvent(() -> errorStyleOfCommandBox.equals(commandBoxHandle.getStyleClass()));
         assertEquals(errorStyleOfCommandBox, commandBoxHandle.getStyleClass());
     }
 
@@ -152,6 +154,7 @@ public class CommandBoxTest extends GuiUnitTest {
      */
     private void assertBehaviorForValidCommand() {
         commandBoxHandle.type(COMMAND_THAT_SUCCEEDS);
+        guiRobot.waitForEvent(() -> defaultStyleOfCommandBox.equals(commandBoxHandle.getStyleClass()));
         assertEquals(defaultStyleOfCommandBox, commandBoxHandle.getStyleClass());
     }
     //@@author
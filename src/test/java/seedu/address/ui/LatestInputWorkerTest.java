@@ -0,0 +1,105 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.Test;
+
+public class LatestInputWorkerTest {
+
+    private static final long TIMEOUT_MILLIS = 5000;
+
+    private final List<String> computedInputs = new CopyOnWriteArrayList<>();
+    private final List<String> handledResults = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void submit_inputsInQuickSuccession_onlyLatestInputComputed() throws Exception {
+        LatestInputWorker<String> worker = createWorker(200);
+
+        worker.submit("a");
+        worker.submit("ab");
+        worker.submit("abc");
+        waitUntil(() -> !handledResults.isEmpty());
+
+        assertEquals(Collections.singletonList("abc"), computedInputs);
+        assertEquals(Collections.singletonList("ABC"), handledResults);
+    }
+
+    @Test
+    public void submit_newInputWhileComputing_staleResultDiscarded() throws Exception {
+        CountDownLatch computationStarted = new CountDownLatch(1);
+        CountDownLatch computationReleased = new CountDownLatch(1);
+        LatestInputWorker<String> worker = new LatestInputWorker<>(input -> {
+            if (input.equals("slow")) {
+                computationStarted.countDown();
+                awaitUninterruptibly(computationReleased);
+            }
+            return compute(input);
+        }, handledResults::add, Runnable::run, 0);
+
+        worker.submit("slow");
+        assertTrue(computationStarted.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS));
+        worker.submit("fast");
+        computationReleased.countDown();
+        waitUntil(() -> computedInputs.size() == 2);
+        waitUntil(() -> !handledResults.isEmpty());
+
+        assertEquals(Collections.singletonList("FAST"), handledResults);
+    }
+
+    @Test
+    public void cancel_pendingInput_noResultHandled() throws Exception {
+        LatestInputWorker<String> worker = createWorker(50);
+
+        worker.submit("a");
+        worker.cancel();
+        Thread.sleep(300);
+        assertTrue(handledResults.isEmpty());
+
+        // the worker can still be used after cancelling
+        worker.submit("b");
+        waitUntil(() -> !handledResults.isEmpty());
+        assertEquals(Collections.singletonList("B"), handledResults);
+    }
+
+    /**
+     * Returns a worker that hands results over on the computing thread after {@code debounceDelayMillis}.
+     */
+    private LatestInputWorker<String> createWorker(long debounceDelayMillis) {
+        return new LatestInputWorker<>(this::compute, handledResults::add, Runnable::run, debounceDelayMillis);
+    }
+
+    private String compute(String input) {
+        computedInputs.add(input);
+        return input.toUpperCase();
+    }
+
+    /**
+     * Waits for {@code latch} to be released, for at most {@code TIMEOUT_MILLIS}.
+     */
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await(TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Waits until {@code condition} holds, failing the test if it does not hold within {@code TIMEOUT_MILLIS}.
+     */
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + TIMEOUT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertTrue("Timed out waiting for the worker", System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+}
@@ -40,6 +40,21 @@ public class PersonCardTest extends GuiUnitTest {
         assertCardDisplay(personCard, personWithTags, 2);
     }
 
+    @Test
+    public void setPerson_cardReused_displaysNewPersonOnly() {
+        Person firstPerson = new PersonBuilder().build();
+        Person secondPerson = new PersonBuilder().withName("Other Person").withTags("colleagues", "owesMoney").build();
+        PersonCard personCard = new PersonCard(firstPerson, 1);
+        uiPartRule.setUiPart(personCard);
+
+        guiRobot.interact(() -> personCard.setPerson(secondPerson, 2));
+        assertCardDisplay(personCard, secondPerson, 2);
+
+        // changes made to the previous person no longer reflect on card
+        guiRobot.interact(() -> firstPerson.setName(ALICE.getName()));
+        assertCardDisplay(personCard, secondPerson, 2);
+    }
+
     @Test
     public void equals() {
         Person person = new PersonBuilder().build();
@@ -1,6 +1,7 @@
 package seedu.address.ui;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static seedu.address.testutil.EventsUtil.postNow;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
@@ -16,9 +17,8 @@ import org.junit.Test;
 import guitests.guihandles.PersonPanelHandle;
 import javafx.scene.image.Image;
 import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
-import seedu.address.commons.util.AppUtil;
 import seedu.address.model.person.ReadOnlyPerson;
-import seedu.address.storage.ImageStorageTest;
+import seedu.address.storage.AvatarService;
 
 //@@author nicholaschuayunzhi
 public class PersonPanelTest extends GuiUnitTest {
@@ -35,10 +35,10 @@ public class PersonPanelTest extends GuiUnitTest {
     @Test
     public void display() throws Exception {
         //select ALICE
-        postNow(new PersonPanelSelectionChangedEvent(new PersonCard(ALICE, 0)));
+        postNow(new PersonPanelSelectionChangedEvent(ALICE));
         assertPersonIsDisplayed(ALICE, personPanelHandle);
         //select BOB
-        postNow(new PersonPanelSelectionChangedEvent(new PersonCard(FIONA, 1)));
+        postNow(new PersonPanelSelectionChangedEvent(FIONA));
         assertPersonIsDisplayed(FIONA, personPanelHandle);
     }
     /**
@@ -51,7 +51,7 @@ public class PersonPanelTest extends GuiUnitTest {
         assertEquals(expectedPerson.getEmail().toString(), personPanelHandle.getEmail());
         assertEquals(expectedPerson.getAddress().toString(), personPanelHandle.getAddress());
         assertEquals(expectedPerson.getRemark().toString(), personPanelHandle.getRemark());
-        assertImageDisplayed(expectedPerson.getAvatar().getOriginalFilePath(), personPanelHandle.getAvatar());
+        assertImageDisplayed(expectedPerson.getAvatar().getOriginalFilePath());
 
         //update tag information displayed
         personPanelHandle.updateTags();
@@ -68,25 +68,25 @@ public class PersonPanelTest extends GuiUnitTest {
     }
 
     /**
-     * Asserts that {@code personPanelHandle} displays the image of {@code expectedPerson} correctly
+     * Asserts that {@code personPanelHandle} displays the image of {@code expectedPerson} correctly.
+     * Avatars are loaded in the background and displayed as thumbnails no larger than
+     * {@code AvatarService.THUMBNAIL_SIZE}.
      */
-    private void assertImageDisplayed(String originalFilePath, Image displayedImage) {
+    private void assertImageDisplayed(String originalFilePath) {
+        Image defaultAvatar = AvatarService.getInstance().getDefaultAvatar();
+        if (originalFilePath == null || originalFilePath.isEmpty()) {
+            assertSame(defaultAvatar, personPanelHandle.getAvatar());
+            return;
+        }
 
-        Image image;
+        guiRobot.waitForEvent(() -> personPanelHandle.getAvatar() != defaultAvatar);
         try {
-            if (originalFilePath == null || originalFilePath.isEmpty()) {
-                image = AppUtil.getImage("/images/avatars/default.png");
-            } else {
-                image = new Image(new FileInputStream(new File(originalFilePath)));
-            }
-
-            ImageStorageTest.assertImageAreEqual(image, displayedImage);
+            Image image = new Image(new FileInputStream(new File(originalFilePath)));
+            double scale = Math.min(1.0, AvatarService.THUMBNAIL_SIZE / Math.max(image.getWidth(), image.getHeight()));
+            assertEquals(Math.round(image.getWidth() * scale), personPanelHandle.getAvatar().getWidth(), 0);
+            assertEquals(Math.round(image.getHeight() * scale), personPanelHandle.getAvatar().getHeight(), 0);
         } catch (FileNotFoundException e) {
             assert false;
         }
-
-
-
-
     }
 }
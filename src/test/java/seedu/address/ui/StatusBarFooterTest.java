@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import static org.junit.Assert.assertEquals;
 import static seedu.address.testutil.EventsUtil.postNow;
+import static seedu.address.ui.StatusBarFooter.SAVE_STATUS_SAVED;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_INITIAL;
 import static seedu.address.ui.StatusBarFooter.SYNC_STATUS_UPDATED;
 
@@ -17,6 +18,7 @@ import org.junit.Test;
 
 import guitests.guihandles.StatusBarFooterHandle;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.storage.AddressBookSavedEvent;
 import seedu.address.model.AddressBook;
 
 public class StatusBarFooterTest extends GuiUnitTest {
@@ -60,6 +62,11 @@ public class StatusBarFooterTest extends GuiUnitTest {
         postNow(EVENT_STUB);
         assertStatusBarContent(RELATIVE_PATH + STUB_SAVE_LOCATION,
                 String.format(SYNC_STATUS_UPDATED, new Date(injectedClock.millis()).toString()));
+
+        // after address book is saved
+        postNow(new AddressBookSavedEvent(STUB_SAVE_LOCATION));
+        assertEquals(String.format(SAVE_STATUS_SAVED, new Date(injectedClock.millis()).toString()),
+                statusBarFooterHandle.getSaveStatus());
     }
 
     /**